@@ -1,61 +1,234 @@
 package io.swkoreatech.kosp.challenge.listener;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.support.AmqpHeaders;
-import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 
 import com.rabbitmq.client.Channel;
 
+import io.swkoreatech.kosp.challenge.repository.ProcessedMessageBatchRepository;
 import io.swkoreatech.kosp.challenge.service.ChallengeEvaluator;
-import io.swkoreatech.kosp.common.entity.ProcessedMessage;
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
 import io.swkoreatech.kosp.common.event.ChallengeEvaluationRequest;
 import io.swkoreatech.kosp.common.repository.ProcessedMessageRepository;
+import io.swkoreatech.kosp.config.RabbitListenerConfig;
 import io.swkoreatech.kosp.domain.user.model.User;
 import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import io.swkoreatech.kosp.infra.rabbitmq.constants.QueueNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Consumes evaluation requests in batches.
+ *
+ * <p>A batch costs one lookup of already processed message ids, one user query, one evaluation per
+ * distinct user and one batched insert of the processed ids. Requests that are no longer the user's
+ * latest, see {@link ChallengeEvaluationCoalescer}, are acknowledged without evaluation whether or not
+ * the latest request has been processed yet. The latest carries every change accumulated before it,
+ * and if its evaluation fails it ends up in the dead letter queue like any other request, so it is
+ * the one to replay. Every delivery is settled on its own:
+ * deliveries that were evaluated, superseded or already processed are acknowledged, while deliveries
+ * whose user is missing, whose evaluation failed or that an unexpected error left unhandled are
+ * rejected and end up in the dead letter queue, as before. Each user is evaluated with the union of
+ * the statistics changes its requests carry, so only affected challenges are re-evaluated.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ChallengeEvaluationListener {
+    private static final String EVENT_TYPE = "ChallengeEvaluationRequest";
+
     private final ChallengeEvaluator challengeEvaluator;
     private final UserRepository userRepository;
     private final ProcessedMessageRepository processedMessageRepository;
-    
-    @RabbitListener(queues = QueueNames.CHALLENGE_EVALUATION, concurrency = "5")
-    public void handleEvaluationRequest(
-            ChallengeEvaluationRequest request,
-            @Header(AmqpHeaders.DELIVERY_TAG) long deliveryTag,
+    private final ProcessedMessageBatchRepository processedMessageBatchRepository;
+    private final ChallengeEvaluationCoalescer evaluationCoalescer;
+
+    @RabbitListener(
+        queues = QueueNames.CHALLENGE_EVALUATION,
+        containerFactory = RabbitListenerConfig.BATCH_LISTENER_CONTAINER_FACTORY
+    )
+    public void handleEvaluationRequests(
+            List<Message<ChallengeEvaluationRequest>> messages,
             Channel channel) throws IOException {
-        
-        if (processedMessageRepository.existsByMessageId(request.messageId())) {
-            log.info("Duplicate message: {}", request.messageId());
-            channel.basicAck(deliveryTag, false);
+
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<Delivery> deliveries = messages.stream()
+            .map(Delivery::from)
+            .toList();
+
+        Set<Long> handledTags = new HashSet<>();
+        try {
+            evaluate(deliveries, handledTags);
+        } catch (Exception e) {
+            log.error("Failed to process batch of {} evaluation requests, rejecting {} unhandled",
+                deliveries.size(), deliveries.size() - handledTags.size(), e);
+        }
+        settle(deliveries, handledTags, channel);
+    }
+
+    /**
+     * Adds the tags of deliveries that need no further processing to {@code handledTags} as soon as
+     * they are done, so an error later in the batch does not reject them.
+     */
+    private void evaluate(List<Delivery> deliveries, Set<Long> handledTags) {
+        Map<String, Delivery> pending = findPending(deliveries);
+        deliveries.stream()
+            .filter(delivery -> pending.get(delivery.request().messageId()) != delivery)
+            .forEach(delivery -> handledTags.add(delivery.deliveryTag()));
+        Map<Long, List<Delivery>> byUser = pending.values().stream()
+            .collect(Collectors.groupingBy(delivery -> delivery.request().userId(), LinkedHashMap::new, Collectors.toList()));
+        Map<Long, String> latest = evaluationCoalescer.findLatest(byUser.keySet());
+        byUser.entrySet().removeIf(entry -> isSuperseded(entry.getValue(), latest.get(entry.getKey())));
+        List<Delivery> supersededDeliveries = superseded(pending, byUser);
+        supersededDeliveries.forEach(delivery -> handledTags.add(delivery.deliveryTag()));
+        List<String> processedIds = new ArrayList<>(messageIds(supersededDeliveries));
+
+        Map<Long, User> users = userRepository.findAllByIdIn(byUser.keySet()).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        int failed = 0;
+        for (Map.Entry<Long, List<Delivery>> entry : byUser.entrySet()) {
+            Long userId = entry.getKey();
+            List<Delivery> userDeliveries = entry.getValue();
+            if (!evaluateUser(userId, users.get(userId), changedFields(userDeliveries))) {
+                failed += userDeliveries.size();
+                continue;
+            }
+            userDeliveries.forEach(delivery -> handledTags.add(delivery.deliveryTag()));
+            processedIds.addAll(messageIds(userDeliveries));
+            completeLatest(userId, userDeliveries, latest.get(userId));
+        }
+
+        recordProcessed(processedIds);
+        log.info("Processed {} evaluation requests: {} users evaluated, {} superseded, {} duplicates, {} failed",
+            deliveries.size(), byUser.size(), supersededDeliveries.size(), deliveries.size() - pending.size(), failed);
+    }
+
+    /**
+     * The evaluations are already committed, so a failure to record them must not reject their
+     * deliveries; replaying those from the dead letter queue would only evaluate them again.
+     */
+    private void recordProcessed(List<String> processedIds) {
+        try {
+            processedMessageBatchRepository.insertAll(processedIds, EVENT_TYPE);
+        } catch (Exception e) {
+            log.error("Failed to record {} processed evaluation requests", processedIds.size(), e);
+        }
+    }
+
+    private Map<String, Delivery> findPending(List<Delivery> deliveries) {
+        Set<String> processed = new HashSet<>(processedMessageRepository.findMessageIdsIn(
+            deliveries.stream().map(delivery -> delivery.request().messageId()).toList()
+        ));
+        Map<String, Delivery> pending = new LinkedHashMap<>();
+        for (Delivery delivery : deliveries) {
+            String messageId = delivery.request().messageId();
+            if (processed.contains(messageId)) {
+                log.info("Duplicate message: {}", messageId);
+                continue;
+            }
+            pending.putIfAbsent(messageId, delivery);
+        }
+        return pending;
+    }
+
+    /**
+     * Whether all of a user's requests in this batch were superseded by a newer one, which is either
+     * still queued or already processed.
+     */
+    private boolean isSuperseded(List<Delivery> userDeliveries, String latestMessageId) {
+        return latestMessageId != null && !contains(userDeliveries, latestMessageId);
+    }
+
+    private boolean contains(List<Delivery> userDeliveries, String messageId) {
+        return userDeliveries.stream()
+            .anyMatch(delivery -> messageId.equals(delivery.request().messageId()));
+    }
+
+    private List<Delivery> superseded(Map<String, Delivery> pending, Map<Long, List<Delivery>> evaluated) {
+        return pending.values().stream()
+            .filter(delivery -> !evaluated.containsKey(delivery.request().userId()))
+            .toList();
+    }
+
+    private List<String> messageIds(List<Delivery> deliveries) {
+        return deliveries.stream()
+            .map(delivery -> delivery.request().messageId())
+            .toList();
+    }
+
+    /**
+     * Union of the changes reported by a user's requests, {@code null} as soon as one of them is unknown.
+     */
+    private Set<String> changedFields(List<Delivery> userDeliveries) {
+        Set<String> changedFields = new HashSet<>();
+        for (Delivery delivery : userDeliveries) {
+            if (delivery.request().changedFields() == null) {
+                return null;
+            }
+            changedFields.addAll(delivery.request().changedFields());
+        }
+        return changedFields;
+    }
+
+    /**
+     * Lets the coalescer drop the accumulated changes, but only once the latest request itself was
+     * evaluated; older requests do not cover the changes reported after them.
+     */
+    private void completeLatest(Long userId, List<Delivery> userDeliveries, String latestMessageId) {
+        if (latestMessageId == null || !contains(userDeliveries, latestMessageId)) {
             return;
         }
-        
+        evaluationCoalescer.complete(userId, latestMessageId);
+    }
+
+    private boolean evaluateUser(Long userId, User user, Set<String> changedFields) {
+        if (user == null) {
+            log.error("Failed to evaluate challenges: user not found, userId={}", userId);
+            return false;
+        }
         try {
-            log.info("Evaluating challenges for user: {}", request.userId());
-            
-            User user = userRepository.findById(request.userId())
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + request.userId()));
-            
-            challengeEvaluator.evaluate(user);
-            
-            processedMessageRepository.save(
-                new ProcessedMessage(request.messageId(), "ChallengeEvaluationRequest")
-            );
-            
-            channel.basicAck(deliveryTag, false);
-            
+            log.info("Evaluating challenges for user: {}", userId);
+            challengeEvaluator.evaluate(user, changedFields);
+            return true;
         } catch (Exception e) {
-            log.error("Failed to evaluate challenges: userId={}", request.userId(), e);
-            channel.basicNack(deliveryTag, false, false);
+            log.error("Failed to evaluate challenges: userId={}", userId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Acknowledges handled deliveries and rejects the rest, one delivery at a time.
+     */
+    private void settle(List<Delivery> deliveries, Set<Long> handledTags, Channel channel) throws IOException {
+        for (Delivery delivery : deliveries) {
+            if (handledTags.contains(delivery.deliveryTag())) {
+                channel.basicAck(delivery.deliveryTag(), false);
+                continue;
+            }
+            channel.basicNack(delivery.deliveryTag(), false, false);
+        }
+    }
+
+    private record Delivery(ChallengeEvaluationRequest request, long deliveryTag) {
+
+        static Delivery from(Message<ChallengeEvaluationRequest> message) {
+            Long deliveryTag = message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+            return new Delivery(message.getPayload(), deliveryTag);
         }
     }
 }
@@ -0,0 +1,41 @@
+package io.swkoreatech.kosp.challenge.listener;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Consumer settings of the challenge evaluation queue.
+ *
+ * @param batchSize messages handed to the listener at once
+ * @param prefetch unacknowledged messages a consumer may hold; at least one batch
+ * @param receiveTimeout how long a consumer waits to fill a batch before delivering a partial one
+ * @param concurrency number of consumers
+ */
+@ConfigurationProperties(prefix = "challenge.evaluation.listener")
+public record ChallengeEvaluationListenerProperties(
+    Integer batchSize,
+    Integer prefetch,
+    Duration receiveTimeout,
+    Integer concurrency
+) {
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final Duration DEFAULT_RECEIVE_TIMEOUT = Duration.ofSeconds(1);
+    private static final int DEFAULT_CONCURRENCY = 5;
+
+    public ChallengeEvaluationListenerProperties {
+        if (batchSize == null || batchSize < 1) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (prefetch == null || prefetch < batchSize) {
+            prefetch = batchSize * 2;
+        }
+        if (receiveTimeout == null || receiveTimeout.isNegative() || receiveTimeout.isZero()) {
+            receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
+        }
+        if (concurrency == null || concurrency < 1) {
+            concurrency = DEFAULT_CONCURRENCY;
+        }
+    }
+}
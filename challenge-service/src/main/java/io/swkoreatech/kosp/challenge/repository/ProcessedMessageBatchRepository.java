@@ -0,0 +1,41 @@
+package io.swkoreatech.kosp.challenge.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Marks many messages as processed with one JDBC batch.
+ *
+ * <p>{@code processed_messages} uses identity keys, which keeps Hibernate from batching inserts.
+ * Message ids another consumer stored in the meantime are skipped instead of failing the batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedMessageBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO processed_messages (message_id, event_type, processed_at)
+        VALUES (?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Collection<String> messageIds, String eventType) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        Timestamp processedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = messageIds.stream()
+            .map(messageId -> new Object[] {messageId, eventType, processedAt})
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+}
@@ -0,0 +1,42 @@
+package io.swkoreatech.kosp.challenge.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import io.swkoreatech.kosp.domain.challenge.model.Challenge;
+import io.swkoreatech.kosp.domain.challenge.repository.ChallengeCatalogVersion;
+import io.swkoreatech.kosp.domain.challenge.repository.ChallengeRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory copy of the challenge table shared by all evaluations.
+ *
+ * <p>Challenges are edited through the backend, so the copy is validated against
+ * {@link ChallengeRepository#findCatalogVersion()} on every read: a single aggregate row instead of
+ * the whole table. The table is only loaded again when that version changed. The returned
+ * challenges are detached and must be treated as read-only.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChallengeCatalog {
+
+    private final ChallengeRepository challengeRepository;
+
+    private volatile Snapshot snapshot;
+
+    public List<Challenge> findAll() {
+        ChallengeCatalogVersion version = challengeRepository.findCatalogVersion();
+        Snapshot current = snapshot;
+        if (current != null && current.version().equals(version)) {
+            return current.challenges();
+        }
+
+        List<Challenge> challenges = List.copyOf(challengeRepository.findAll());
+        snapshot = new Snapshot(version, challenges);
+        return challenges;
+    }
+
+    private record Snapshot(ChallengeCatalogVersion version, List<Challenge> challenges) {
+    }
+}
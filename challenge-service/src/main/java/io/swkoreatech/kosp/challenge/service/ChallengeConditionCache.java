@@ -0,0 +1,74 @@
+package io.swkoreatech.kosp.challenge.service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import io.swkoreatech.kosp.domain.challenge.model.Challenge;
+
+/**
+ * Parsed challenge conditions, kept per challenge id for as long as the condition text stays the same.
+ *
+ * <p>Conditions are edited through the backend, so this service cannot be told about an update.
+ * Each entry remembers the text it was parsed from, and a changed condition replaces the entry
+ * the first time it is seen. Expressions run in {@link SpelCompilerMode#MIXED}: after a few
+ * interpreted runs they are compiled to bytecode, and they fall back to interpretation if
+ * compiled code stops matching the types it was compiled for. The statistics inputs a condition
+ * reads are derived once per parse as well.
+ */
+@Component
+public class ChallengeConditionCache {
+
+    private final ExpressionParser parser = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.MIXED, ChallengeConditionCache.class.getClassLoader())
+    );
+
+    private final Map<Long, CompiledCondition> conditions = new ConcurrentHashMap<>();
+
+    public Expression get(Challenge challenge) {
+        return lookup(challenge).expression();
+    }
+
+    /**
+     * Statistics properties the condition reads, see {@link ConditionInputs}.
+     *
+     * @return the inputs, or {@code null} when unknown or the condition does not parse
+     */
+    public Set<String> inputsOf(Challenge challenge) {
+        try {
+            return lookup(challenge).inputs();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private CompiledCondition lookup(Challenge challenge) {
+        String condition = challenge.getCondition();
+        if (challenge.getId() == null) {
+            return parse(condition);
+        }
+        CompiledCondition cached = conditions.get(challenge.getId());
+        if (cached != null && cached.condition().equals(condition)) {
+            return cached;
+        }
+        CompiledCondition parsed = parse(condition);
+        conditions.put(challenge.getId(), parsed);
+        return parsed;
+    }
+
+    private CompiledCondition parse(String condition) {
+        Expression expression = parser.parseExpression(condition);
+        return new CompiledCondition(condition, expression, ConditionInputs.of(expression));
+    }
+
+    private record CompiledCondition(String condition, Expression expression, Set<String> inputs) {
+    }
+}
@@ -2,12 +2,16 @@ package io.swkoreatech.kosp.challenge.service;
 
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,7 +21,6 @@ import io.swkoreatech.kosp.common.github.model.GithubUserStatistics;
 import io.swkoreatech.kosp.domain.challenge.model.Challenge;
 import io.swkoreatech.kosp.domain.challenge.model.ChallengeHistory;
 import io.swkoreatech.kosp.domain.challenge.repository.ChallengeHistoryRepository;
-import io.swkoreatech.kosp.domain.challenge.repository.ChallengeRepository;
 import io.swkoreatech.kosp.domain.github.repository.GithubUserStatisticsRepository;
 import io.swkoreatech.kosp.domain.user.model.User;
 import lombok.RequiredArgsConstructor;
@@ -28,15 +31,32 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChallengeEvaluator {
 
-    private final ChallengeRepository challengeRepository;
+    private static final Method MIN_FUNCTION = findHelper("min", int[].class);
+    private static final Method MAX_FUNCTION = findHelper("max", int[].class);
+    private static final Method PROGRESS_FUNCTION = findHelper("calculateProgressPercentage", int.class, int.class);
+
+    private final ChallengeCatalog challengeCatalog;
     private final ChallengeHistoryRepository challengeHistoryRepository;
     private final GithubUserStatisticsRepository statisticsRepository;
     private final ChallengeEventPublisher challengeEventPublisher;
-
-    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ChallengeConditionCache conditionCache;
 
     @Transactional
     public void evaluate(User user) {
+        evaluate(user, null);
+    }
+
+    /**
+     * Evaluates the user's open challenges, skipping those that cannot have changed.
+     *
+     * <p>A challenge with a stored history is skipped when none of its condition's inputs, see
+     * {@link ChallengeConditionCache#inputsOf(Challenge)}, is among {@code changedFields} and the
+     * challenge was not edited since the history was written.
+     *
+     * @param changedFields statistics properties that changed since the last evaluation, or {@code null} when unknown
+     */
+    @Transactional
+    public void evaluate(User user, Set<String> changedFields) {
         log.info("Starting challenge evaluation for user: {}", user.getId());
 
         if (user.getGithubUser() == null) {
@@ -52,32 +72,67 @@ public class ChallengeEvaluator {
             return;
         }
 
-        evaluateAllChallenges(user, statsOpt.get());
+        evaluateAllChallenges(user, statsOpt.get(), changedFields);
     }
 
-    private void evaluateAllChallenges(User user, GithubUserStatistics stats) {
+    private void evaluateAllChallenges(User user, GithubUserStatistics stats, Set<String> changedFields) {
         StandardEvaluationContext context = createEvaluationContext(stats);
-        List<Challenge> challenges = challengeRepository.findAll();
+        Map<Long, ChallengeHistory> histories = loadHistories(user);
+        List<EvaluatedChallenge> changed = new ArrayList<>();
 
-        challenges.forEach(challenge -> tryEvaluate(user, challenge, context));
+        for (Challenge challenge : challengeCatalog.findAll()) {
+            ChallengeHistory history = histories.get(challenge.getId());
+            if (history != null && history.isAchieved()) {
+                continue;
+            }
+            if (isUnaffected(challenge, history, changedFields)) {
+                continue;
+            }
+            evaluateChallenge(user, challenge, context, history)
+                .ifPresent(updated -> changed.add(new EvaluatedChallenge(challenge, updated)));
+        }
+
+        challengeHistoryRepository.saveAll(changed.stream().map(EvaluatedChallenge::history).toList());
+        changed.stream()
+            .filter(evaluated -> evaluated.history().isAchieved())
+            .forEach(evaluated -> grantReward(user, evaluated.challenge(), evaluated.history().getProgressAtAchievement()));
+    }
+
+    private boolean isUnaffected(Challenge challenge, ChallengeHistory history, Set<String> changedFields) {
+        if (history == null || changedFields == null) {
+            return false;
+        }
+        if (challenge.getUpdatedAt() == null || history.getUpdatedAt() == null
+            || challenge.getUpdatedAt().isAfter(history.getUpdatedAt())) {
+            return false;
+        }
+        Set<String> inputs = conditionCache.inputsOf(challenge);
+        return inputs != null && Collections.disjoint(inputs, changedFields);
+    }
+
+    private Map<Long, ChallengeHistory> loadHistories(User user) {
+        Map<Long, ChallengeHistory> histories = new HashMap<>();
+        for (ChallengeHistory history : challengeHistoryRepository.findAllByUserId(user.getId())) {
+            histories.put(history.getChallenge().getId(), history);
+        }
+        return histories;
     }
 
     private StandardEvaluationContext createEvaluationContext(GithubUserStatistics stats) {
         StandardEvaluationContext context = new StandardEvaluationContext(stats);
         context.setVariable("stats", stats);
-        
+        context.registerFunction("min", MIN_FUNCTION);
+        context.registerFunction("max", MAX_FUNCTION);
+        context.registerFunction("progress", PROGRESS_FUNCTION);
+        return context;
+    }
+
+    private static Method findHelper(String name, Class<?>... parameterTypes) {
         try {
-            context.registerFunction("min", 
-                ChallengeEvaluator.class.getMethod("min", int[].class));
-            context.registerFunction("max", 
-                ChallengeEvaluator.class.getMethod("max", int[].class));
-            context.registerFunction("progress", 
-                ChallengeEvaluator.class.getMethod("calculateProgressPercentage", int.class, int.class));
+            return ChallengeEvaluator.class.getMethod(name, parameterTypes);
         } catch (NoSuchMethodException e) {
-            log.error("Failed to register helper functions for SpEL", e);
+            throw new IllegalStateException("Missing SpEL helper function: " + name, e);
         }
-        
-        return context;
     }
 
     public static int calculateProgressPercentage(int current, int target) {
@@ -109,38 +164,24 @@ public class ChallengeEvaluator {
         return result;
     }
 
-    private void tryEvaluate(User user, Challenge challenge, StandardEvaluationContext context) {
-        if (isAlreadyAchieved(user, challenge)) {
-            return;
-        }
-
-        evaluateAndReward(user, challenge, context);
-    }
-
-    private boolean isAlreadyAchieved(User user, Challenge challenge) {
-        return challengeHistoryRepository.findByUserAndChallenge(user, challenge)
-            .map(ChallengeHistory::isAchieved)
-            .orElse(false);
-    }
-
-    private void evaluateAndReward(User user, Challenge challenge, StandardEvaluationContext context) {
+    private Optional<ChallengeHistory> evaluateChallenge(
+        User user,
+        Challenge challenge,
+        StandardEvaluationContext context,
+        ChallengeHistory history
+    ) {
         try {
             int progress = calculateProgress(challenge, context);
-            boolean isAchieved = progress >= 100;
-
-            saveOrUpdateHistory(user, challenge, progress, isAchieved);
-
-            if (isAchieved) {
-                grantReward(user, challenge, progress);
-            }
+            return applyProgress(user, challenge, history, progress);
         } catch (Exception e) {
             handleEvaluationError(user, challenge, e);
+            return Optional.empty();
         }
     }
 
     private int calculateProgress(Challenge challenge, StandardEvaluationContext context) {
         try {
-            Expression expression = parser.parseExpression(challenge.getCondition());
+            Expression expression = conditionCache.get(challenge);
             Object result = expression.getValue(context);
             return extractProgress(result);
         } catch (Exception e) {
@@ -181,26 +222,31 @@ public class ChallengeEvaluator {
             challenge.getId(), user.getId(), challenge.getCondition(), e);
     }
 
-    private void saveOrUpdateHistory(User user, Challenge challenge, int progress, boolean isAchieved) {
-        Optional<ChallengeHistory> existing = challengeHistoryRepository.findByUserAndChallenge(user, challenge);
-
-        if (existing.isPresent()) {
-            ChallengeHistory history = existing.get();
-            history.updateProgress(progress);
-
-            if (isAchieved && !history.isAchieved()) {
-                history.achieve();
-            }
-        } else {
-            ChallengeHistory history = ChallengeHistory.builder()
+    /**
+     * Returns the history to write, or empty when the stored progress did not change.
+     */
+    private Optional<ChallengeHistory> applyProgress(User user, Challenge challenge, ChallengeHistory history, int progress) {
+        boolean isAchieved = progress >= 100;
+        if (history == null) {
+            return Optional.of(ChallengeHistory.builder()
                 .user(user)
                 .challenge(challenge)
                 .isAchieved(isAchieved)
                 .achievedAt(isAchieved ? LocalDateTime.now() : null)
                 .progressAtAchievement(progress)
-                .build();
+                .build());
+        }
+        if (!isAchieved && Objects.equals(history.getProgressAtAchievement(), progress)) {
+            return Optional.empty();
+        }
 
-            challengeHistoryRepository.save(history);
+        history.updateProgress(progress);
+        if (isAchieved) {
+            history.achieve();
         }
+        return Optional.of(history);
+    }
+
+    private record EvaluatedChallenge(Challenge challenge, ChallengeHistory history) {
     }
 }
@@ -0,0 +1,89 @@
+package io.swkoreatech.kosp.challenge.service;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.BeanReference;
+import org.springframework.expression.spel.ast.CompoundExpression;
+import org.springframework.expression.spel.ast.MethodReference;
+import org.springframework.expression.spel.ast.PropertyOrFieldReference;
+import org.springframework.expression.spel.ast.TypeReference;
+import org.springframework.expression.spel.ast.VariableReference;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+import io.swkoreatech.kosp.common.github.model.ChallengeInputs;
+
+/**
+ * Finds the {@link ChallengeInputs} a parsed condition reads.
+ *
+ * <p>Only conditions built from input properties, {@code #stats}, helper functions, static calls
+ * such as {@code T(Math).min(..)} and operators are understood. Anything else, like method calls on
+ * the statistics or other properties, makes the inputs unknown and the condition is always evaluated.
+ */
+final class ConditionInputs {
+
+    private static final String STATS_VARIABLE = "#stats";
+
+    private ConditionInputs() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * @return the inputs read by {@code expression}, or {@code null} when they cannot be determined
+     */
+    static Set<String> of(Expression expression) {
+        if (!(expression instanceof SpelExpression spelExpression)) {
+            return null;
+        }
+        Set<String> inputs = new HashSet<>();
+        if (!collect(spelExpression.getAST(), inputs)) {
+            return null;
+        }
+        return inputs;
+    }
+
+    private static boolean collect(SpelNode node, Set<String> inputs) {
+        if (node instanceof PropertyOrFieldReference property) {
+            inputs.add(property.getName());
+            return ChallengeInputs.isInput(property.getName());
+        }
+        if (node instanceof VariableReference) {
+            return STATS_VARIABLE.equals(node.toStringAST());
+        }
+        if (node instanceof MethodReference || node instanceof BeanReference) {
+            return false;
+        }
+        if (node instanceof CompoundExpression) {
+            return collectCompound(node, inputs);
+        }
+        return collectChildren(node, inputs);
+    }
+
+    /**
+     * Allows method calls only directly on a type reference, i.e. static calls.
+     */
+    private static boolean collectCompound(SpelNode node, Set<String> inputs) {
+        for (int i = 0; i < node.getChildCount(); i++) {
+            SpelNode child = node.getChild(i);
+            boolean staticCall = child instanceof MethodReference
+                && i > 0
+                && node.getChild(i - 1) instanceof TypeReference;
+            boolean understood = staticCall ? collectChildren(child, inputs) : collect(child, inputs);
+            if (!understood) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean collectChildren(SpelNode node, Set<String> inputs) {
+        for (int i = 0; i < node.getChildCount(); i++) {
+            if (!collect(node.getChild(i), inputs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package io.swkoreatech.kosp.config;
+
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.swkoreatech.kosp.challenge.listener.ChallengeEvaluationListenerProperties;
+
+@Configuration
+@ConditionalOnProperty(prefix = "spring.rabbitmq", name = "host")
+public class RabbitListenerConfig {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+
+    /**
+     * Container factory whose consumers collect up to {@code batchSize} deliveries and hand them to
+     * the listener as one list; acknowledgements stay manual.
+     */
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            ConnectionFactory connectionFactory,
+            MessageConverter messageConverter,
+            ChallengeEvaluationListenerProperties properties) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(messageConverter);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(properties.batchSize());
+        factory.setPrefetchCount(properties.prefetch());
+        factory.setReceiveTimeout(properties.receiveTimeout().toMillis());
+        factory.setConcurrentConsumers(properties.concurrency());
+        return factory;
+    }
+}
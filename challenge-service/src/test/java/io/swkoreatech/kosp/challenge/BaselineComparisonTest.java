@@ -79,7 +79,8 @@ class BaselineComparisonTest {
         return new ChallengeEvaluationRequest(
                 Long.parseLong(userId),
                 UUID.randomUUID().toString(),
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
     }
 
@@ -1,6 +1,8 @@
 package io.swkoreatech.kosp.challenge.config;
 
 import io.swkoreatech.kosp.challenge.publisher.ChallengeEventPublisher;
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
+import io.swkoreatech.kosp.common.event.InMemoryChallengeEvaluationCoalescer;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -51,4 +53,10 @@ public class TestConfig {
     public ChallengeEventPublisher challengeEventPublisher() {
         return new ChallengeEventPublisher(rabbitTemplate());
     }
+
+    @Bean
+    @Primary
+    public ChallengeEvaluationCoalescer challengeEvaluationCoalescer() {
+        return new InMemoryChallengeEvaluationCoalescer();
+    }
 }
@@ -0,0 +1,265 @@
+package io.swkoreatech.kosp.challenge.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+import com.rabbitmq.client.Channel;
+
+import io.swkoreatech.kosp.challenge.repository.ProcessedMessageBatchRepository;
+import io.swkoreatech.kosp.challenge.service.ChallengeEvaluator;
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationRequest;
+import io.swkoreatech.kosp.common.event.InMemoryChallengeEvaluationCoalescer;
+import io.swkoreatech.kosp.common.repository.ProcessedMessageRepository;
+import io.swkoreatech.kosp.domain.user.model.User;
+import io.swkoreatech.kosp.domain.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChallengeEvaluationListener 단위 테스트")
+class ChallengeEvaluationListenerTest {
+
+    @Mock
+    private ChallengeEvaluator challengeEvaluator;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ProcessedMessageRepository processedMessageRepository;
+
+    @Mock
+    private ProcessedMessageBatchRepository processedMessageBatchRepository;
+
+    @Mock
+    private Channel channel;
+
+    private final ChallengeEvaluationCoalescer evaluationCoalescer = new InMemoryChallengeEvaluationCoalescer();
+
+    private ChallengeEvaluationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ChallengeEvaluationListener(
+            challengeEvaluator,
+            userRepository,
+            processedMessageRepository,
+            processedMessageBatchRepository,
+            evaluationCoalescer
+        );
+    }
+
+    @Nested
+    @DisplayName("handleEvaluationRequests 메서드")
+    class HandleEvaluationRequestsTest {
+
+        @Test
+        @DisplayName("성공, 실패, 사용자 없음이 섞인 배치는 전달마다 따로 확인하거나 거절한다")
+        void settlesEachDelivery() throws IOException {
+            // given
+            User succeeding = user(1L);
+            User failing = user(2L);
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of());
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(succeeding, failing));
+            lenient().doThrow(new IllegalStateException("evaluation failed")).when(challengeEvaluator).evaluate(failing, null);
+
+            // when
+            listener.handleEvaluationRequests(List.of(
+                message(1L, "m1", 1L),
+                message(2L, "m2", 2L),
+                message(3L, "m3", 3L)
+            ), channel);
+
+            // then
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicNack(2L, false, false);
+            verify(channel).basicNack(3L, false, false);
+            verify(channel, never()).basicAck(anyLong(), eq(true));
+            assertThat(recordedIds()).containsExactly("m1");
+        }
+
+        @Test
+        @DisplayName("처리 기록 저장이 실패해도 평가가 끝난 전달은 확인한다")
+        void acknowledgesEvaluatedDeliveries_whenRecordingFails() throws IOException {
+            // given
+            User user = user(1L);
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of());
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(user));
+            doThrow(new IllegalStateException("database down"))
+                .when(processedMessageBatchRepository).insertAll(anyCollection(), any());
+
+            // when
+            listener.handleEvaluationRequests(List.of(message(1L, "m1", 1L)), channel);
+
+            // then
+            verify(channel).basicAck(1L, false);
+            verify(channel, never()).basicNack(anyLong(), anyBoolean(), anyBoolean());
+        }
+
+        @Test
+        @DisplayName("평가 전에 실패하면 처리하지 못한 전달만 거절한다")
+        void rejectsUnhandledDeliveries_whenBatchFails() throws IOException {
+            // given
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of("m1"));
+            when(userRepository.findAllByIdIn(anyCollection())).thenThrow(new IllegalStateException("database down"));
+
+            // when
+            listener.handleEvaluationRequests(List.of(
+                message(1L, "m1", 1L),
+                message(2L, "m2", 2L)
+            ), channel);
+
+            // then
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicNack(2L, false, false);
+        }
+
+        @Test
+        @DisplayName("같은 메시지 id가 두 번 오면 한 번만 평가하고 둘 다 확인한다")
+        void evaluatesDuplicateMessageIdOnce() throws IOException {
+            // given
+            User user = user(1L);
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of());
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(user));
+
+            // when
+            listener.handleEvaluationRequests(List.of(
+                message(1L, "m1", 1L),
+                message(1L, "m1", 2L)
+            ), channel);
+
+            // then
+            verify(challengeEvaluator, times(1)).evaluate(user, null);
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicAck(2L, false);
+            assertThat(recordedIds()).containsExactly("m1");
+        }
+
+        @Test
+        @DisplayName("이미 처리된 메시지는 평가하지 않고 확인한다")
+        void acknowledgesAlreadyProcessedMessage() throws IOException {
+            // given
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of("m1"));
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of());
+
+            // when
+            listener.handleEvaluationRequests(List.of(message(1L, "m1", 1L)), channel);
+
+            // then
+            verify(challengeEvaluator, never()).evaluate(any(), any());
+            verify(channel).basicAck(1L, false);
+        }
+
+        @Test
+        @DisplayName("최신 요청이 이미 처리됐다면 이전 요청은 평가하지 않고 확인한다")
+        void acknowledgesSupersededRequest_whenLatestIsProcessed() throws IOException {
+            // given
+            evaluationCoalescer.markLatest(1L, "m2");
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of());
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of());
+
+            // when
+            listener.handleEvaluationRequests(List.of(message(1L, "m1", 1L)), channel);
+
+            // then
+            verify(challengeEvaluator, never()).evaluate(any(), any());
+            verify(channel).basicAck(1L, false);
+            assertThat(recordedIds()).containsExactly("m1");
+        }
+
+        @Test
+        @DisplayName("최신 요청이 아직 대기 중이어도 이전 요청은 평가하지 않고 누적된 변경은 남긴다")
+        void acknowledgesSupersededRequest_whenLatestIsPending() throws IOException {
+            // given
+            evaluationCoalescer.markLatest(1L, "m0");
+            evaluationCoalescer.complete(1L, "m0");
+            evaluationCoalescer.recordChanges(1L, Set.of("totalScore"));
+            evaluationCoalescer.markLatest(1L, "m2");
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of());
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of());
+
+            // when
+            listener.handleEvaluationRequests(List.of(message(1L, "m1", 1L)), channel);
+
+            // then
+            verify(challengeEvaluator, never()).evaluate(any(), any());
+            verify(channel).basicAck(1L, false);
+            assertThat(evaluationCoalescer.findLatest(List.of(1L))).containsEntry(1L, "m2");
+            assertThat(evaluationCoalescer.markLatest(1L, "m3")).containsExactly("totalScore");
+        }
+
+        @Test
+        @DisplayName("최신 요청이 같은 배치에 있으면 이전 요청과 함께 한 번 평가하고 변경을 비운다")
+        void evaluatesOnce_whenLatestIsInBatch() throws IOException {
+            // given
+            evaluationCoalescer.markLatest(1L, "m0");
+            evaluationCoalescer.complete(1L, "m0");
+            evaluationCoalescer.recordChanges(1L, Set.of("totalScore"));
+            evaluationCoalescer.markLatest(1L, "m2");
+            User user = user(1L);
+            when(processedMessageRepository.findMessageIdsIn(anyCollection())).thenReturn(List.of());
+            when(userRepository.findAllByIdIn(anyCollection())).thenReturn(List.of(user));
+
+            // when
+            listener.handleEvaluationRequests(List.of(
+                message(1L, "m1", 1L),
+                message(1L, "m2", 2L)
+            ), channel);
+
+            // then
+            verify(challengeEvaluator, times(1)).evaluate(user, null);
+            verify(channel).basicAck(1L, false);
+            verify(channel).basicAck(2L, false);
+            assertThat(recordedIds()).containsExactly("m1", "m2");
+            assertThat(evaluationCoalescer.markLatest(1L, "m3")).isEmpty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> recordedIds() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(processedMessageBatchRepository).insertAll(captor.capture(), eq("ChallengeEvaluationRequest"));
+        return List.copyOf(captor.getValue());
+    }
+
+    private Message<ChallengeEvaluationRequest> message(Long userId, String messageId, long deliveryTag) {
+        ChallengeEvaluationRequest request = new ChallengeEvaluationRequest(userId, messageId, LocalDateTime.now(), null);
+        return MessageBuilder.withPayload(request)
+            .setHeader(AmqpHeaders.DELIVERY_TAG, deliveryTag)
+            .build();
+    }
+
+    private User user(Long id) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        return user;
+    }
+}
@@ -0,0 +1,131 @@
+package io.swkoreatech.kosp.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.swkoreatech.kosp.common.github.model.GithubUserStatistics;
+import io.swkoreatech.kosp.domain.challenge.model.Challenge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@DisplayName("ChallengeConditionCache 단위 테스트")
+class ChallengeConditionCacheTest {
+
+    private final ChallengeConditionCache cache = new ChallengeConditionCache();
+
+    private Challenge challenge(Long id, String condition) {
+        Challenge challenge = Challenge.builder()
+            .name("커밋 100개")
+            .description("100 commits challenge")
+            .condition(condition)
+            .tier(1)
+            .point(50)
+            .build();
+        ReflectionTestUtils.setField(challenge, "id", id);
+        return challenge;
+    }
+
+    @Nested
+    @DisplayName("get 메서드")
+    class GetTest {
+
+        @Test
+        @DisplayName("조건식이 같으면 파싱한 표현식을 재사용한다")
+        void reusesParsedExpression() {
+            // given
+            Expression first = cache.get(challenge(1L, "totalCommits * 100 / 100"));
+
+            // when
+            Expression second = cache.get(challenge(1L, "totalCommits * 100 / 100"));
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("조건식이 바뀌면 새 표현식으로 교체한다")
+        void replacesChangedCondition() {
+            // given
+            Expression before = cache.get(challenge(1L, "totalCommits * 100 / 100"));
+
+            // when
+            Expression after = cache.get(challenge(1L, "totalCommits * 100 / 10"));
+
+            // then
+            assertThat(after).isNotSameAs(before);
+            assertThat(after.getExpressionString()).isEqualTo("totalCommits * 100 / 10");
+        }
+
+        @Test
+        @DisplayName("반복 평가로 컴파일된 뒤에도 같은 결과를 낸다")
+        void keepsResultAfterCompilation() {
+            // given
+            GithubUserStatistics stats = GithubUserStatistics.builder()
+                .githubId("12345")
+                .totalCommits(50)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+            StandardEvaluationContext context = new StandardEvaluationContext(stats);
+            Challenge challenge = challenge(1L, "T(Math).min(totalCommits * 100 / 100, 100)");
+
+            // when
+            Object result = null;
+            for (int i = 0; i < 200; i++) {
+                result = cache.get(challenge).getValue(context);
+            }
+
+            // then
+            assertThat(result).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    @DisplayName("inputsOf 메서드")
+    class InputsOfTest {
+
+        @Test
+        @DisplayName("조건식이 읽는 통계 필드를 찾는다")
+        void findsReadInputs() {
+            // given
+            Challenge challenge = challenge(1L, "T(Math).min(totalCommits * 100 / 100, #min(#stats.totalPrs, 100))");
+
+            // when
+            Set<String> inputs = cache.inputsOf(challenge);
+
+            // then
+            assertThat(inputs).containsExactlyInAnyOrder("totalCommits", "totalPrs");
+        }
+
+        @Test
+        @DisplayName("통계 입력이 아닌 속성을 읽으면 알 수 없음으로 본다")
+        void unknownForNonInputProperty() {
+            // given
+            Challenge challenge = challenge(1L, "calculatedAt != null ? 100 : 0");
+
+            // when
+            Set<String> inputs = cache.inputsOf(challenge);
+
+            // then
+            assertThat(inputs).isNull();
+        }
+
+        @Test
+        @DisplayName("통계 객체의 메서드를 호출하면 알 수 없음으로 본다")
+        void unknownForMethodCall() {
+            // given
+            Challenge challenge = challenge(1L, "getTotalCommits() * 100 / 100");
+
+            // when
+            Set<String> inputs = cache.inputsOf(challenge);
+
+            // then
+            assertThat(inputs).isNull();
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Integration test for ChallengeEvaluator service.
@@ -449,6 +450,105 @@ public class ChallengeEvaluatorTest {
              assertThat(histories2.get(0).getProgressAtAchievement()).isEqualTo(100);
          }
 
+        @Test
+        @DisplayName("Challenge 조건식이 바뀌면 캐시된 목록 대신 새 조건으로 평가")
+        void evaluate_afterConditionUpdate_shouldUseNewCondition() {
+            // given
+            GithubUserStatistics stats = GithubUserStatistics.builder()
+                .githubId("66666")
+                .totalCommits(50)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+            statisticsRepository.save(stats);
+
+            GithubUser githubUser = GithubUser.builder()
+                .githubId(66666L)
+                .githubLogin("catalogupdateuser")
+                .build();
+
+            User user = User.builder()
+                .name("Catalog Update User")
+                .kutId("kut-catalogupdate-013")
+                .kutEmail("catalogupdate@koreatech.ac.kr")
+                .password("password")
+                .githubUser(githubUser)
+                .build();
+            userRepository.save(user);
+
+            Challenge challenge = Challenge.builder()
+                .name("커밋 100개")
+                .description("100 commits challenge")
+                .condition("T(Math).min(totalCommits * 100 / 100, 100)")  // 50 * 100 / 100 = 50
+                .tier(1)
+                .point(50)
+                .build();
+            challengeRepository.save(challenge);
+            challengeEvaluator.evaluate(user);
+
+            // when: Condition is relaxed to 50 commits
+            challenge.update(challenge.getName(), challenge.getDescription(),
+                "T(Math).min(totalCommits * 100 / 50, 100)",  // 50 * 100 / 50 = 100
+                challenge.getTier(), null, null, challenge.getPoint());
+            challengeEvaluator.evaluate(user);
+
+            // then
+            List<ChallengeHistory> histories = challengeHistoryRepository.findAllByUserId(user.getId());
+            assertThat(histories).hasSize(1);
+            assertThat(histories.get(0).isAchieved()).isTrue();
+            assertThat(histories.get(0).getProgressAtAchievement()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("조건식 입력이 바뀌지 않은 Challenge는 재평가하지 않음")
+        void evaluate_unrelatedChanges_shouldSkipChallenge() {
+            // given
+            GithubUserStatistics stats = GithubUserStatistics.builder()
+                .githubId("77777")
+                .totalCommits(50)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+            statisticsRepository.save(stats);
+
+            GithubUser githubUser = GithubUser.builder()
+                .githubId(77777L)
+                .githubLogin("deltauser")
+                .build();
+
+            User user = User.builder()
+                .name("Delta User")
+                .kutId("kut-delta-014")
+                .kutEmail("delta@koreatech.ac.kr")
+                .password("password")
+                .githubUser(githubUser)
+                .build();
+            userRepository.save(user);
+
+            Challenge challenge = Challenge.builder()
+                .name("커밋 100개")
+                .description("100 commits challenge")
+                .condition("T(Math).min(totalCommits * 100 / 100, 100)")  // 50 * 100 / 100 = 50
+                .tier(1)
+                .point(50)
+                .build();
+            challengeRepository.save(challenge);
+            challengeEvaluator.evaluate(user);
+            updateStats(user, 80);
+
+            // when: Only pull requests are reported as changed
+            challengeEvaluator.evaluate(user, Set.of("totalPrs"));
+
+            // then
+            assertThat(challengeHistoryRepository.findAllByUserId(user.getId()).get(0).getProgressAtAchievement())
+                .isEqualTo(50);
+
+            // when: Commits are reported as changed
+            challengeEvaluator.evaluate(user, Set.of("totalCommits"));
+
+            // then
+            assertThat(challengeHistoryRepository.findAllByUserId(user.getId()).get(0).getProgressAtAchievement())
+                .isEqualTo(80);
+        }
+
         @Test
         @DisplayName("미달성 Challenge는 RabbitMQ 이벤트 발행 안함")
         void evaluate_unachieved_shouldNotPublishEvent() {
@@ -0,0 +1,52 @@
+package io.swkoreatech.kosp.common.event;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Coalesces {@link ChallengeEvaluationRequest}s per user on a "latest wins" basis.
+ *
+ * <p>The publisher records a request as the user's latest before sending it and withdraws it if
+ * the send fails. The consumer skips requests that are no longer the latest, whether or not the
+ * latest one has been evaluated yet: it evaluates the same user against fresher statistics, and if it
+ * fails it is the request that ends up in the dead letter queue.
+ *
+ * <p>Changed inputs are recorded when the statistics are saved, not when a request is sent, so a
+ * run that fails after saving still leaves its changes for the next request. They accumulate until
+ * the latest request has been evaluated. Only that completion establishes a known-empty set of
+ * changes; while none has been established, changes are reported as unknown.
+ */
+public interface ChallengeEvaluationCoalescer {
+
+    String UNKNOWN_CHANGES = "*";
+
+    /**
+     * Records inputs changed by a statistics update before it is saved. Changes recorded after a
+     * request was marked are not covered by it, so the mark is dropped and the request cannot
+     * complete them. Failures are thrown, so the update is not saved without its changes.
+     */
+    void recordChanges(Long userId, Set<String> changedFields);
+
+    /**
+     * @return inputs changed since the user's last completed evaluation, {@code null} when unknown
+     */
+    Set<String> markLatest(Long userId, String messageId);
+
+    /**
+     * Latest message id per user; users without a recorded request are absent.
+     */
+    Map<Long, String> findLatest(Collection<Long> userIds);
+
+    /**
+     * Withdraws {@code messageId} as the user's latest request after it could not be sent, unless a
+     * newer request was marked meanwhile. The accumulated changes stay for the next request.
+     */
+    void discard(Long userId, String messageId);
+
+    /**
+     * Resets the accumulated changes to none once {@code messageId} was evaluated, unless it is no
+     * longer the latest request.
+     */
+    void complete(Long userId, String messageId);
+}
@@ -1,9 +1,15 @@
 package io.swkoreatech.kosp.common.event;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
+/**
+ * @param changedFields {@link io.swkoreatech.kosp.common.github.model.ChallengeInputs} changed since the
+ *                      user was last evaluated; {@code null} when unknown, which re-evaluates every challenge
+ */
 public record ChallengeEvaluationRequest(
     Long userId,
     String messageId,
-    LocalDateTime timestamp
+    LocalDateTime timestamp,
+    Set<String> changedFields
 ) {}
@@ -0,0 +1,60 @@
+package io.swkoreatech.kosp.common.event;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Process-local stand-in for {@link RedisChallengeEvaluationCoalescer}, used where no Redis is
+ * available, such as tests. Entries never expire; a user without an entry has unknown changes
+ * until an evaluation completes.
+ */
+public class InMemoryChallengeEvaluationCoalescer implements ChallengeEvaluationCoalescer {
+    private final Map<Long, String> latest = new HashMap<>();
+    private final Map<Long, Set<String>> changes = new HashMap<>();
+
+    @Override
+    public synchronized void recordChanges(Long userId, Set<String> changedFields) {
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        changes.computeIfAbsent(userId, id -> new HashSet<>(Set.of(UNKNOWN_CHANGES))).addAll(changedFields);
+        latest.remove(userId);
+    }
+
+    @Override
+    public synchronized Set<String> markLatest(Long userId, String messageId) {
+        latest.put(userId, messageId);
+        Set<String> pending = changes.get(userId);
+        if (pending == null || pending.contains(UNKNOWN_CHANGES)) {
+            return null;
+        }
+        return new HashSet<>(pending);
+    }
+
+    @Override
+    public synchronized Map<Long, String> findLatest(Collection<Long> userIds) {
+        Map<Long, String> found = new HashMap<>();
+        for (Long userId : userIds) {
+            String messageId = latest.get(userId);
+            if (messageId != null) {
+                found.put(userId, messageId);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public synchronized void discard(Long userId, String messageId) {
+        latest.remove(userId, messageId);
+    }
+
+    @Override
+    public synchronized void complete(Long userId, String messageId) {
+        if (messageId.equals(latest.get(userId))) {
+            changes.put(userId, new HashSet<>());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.swkoreatech.kosp.common.event;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the latest evaluation request of every user in {@code challenge:evaluation:latest:{userId}}
+ * and the inputs changed since the last completed evaluation in {@code challenge:evaluation:changes:{userId}}.
+ *
+ * <p>Latest keys expire after {@link #LATEST_TTL}; older requests still queued after that are
+ * evaluated again, which is redundant but harmless. Change sets live for {@link #CHANGES_TTL}, far
+ * longer than the interval between collection runs. A completed evaluation leaves a set holding
+ * only {@link #NO_CHANGES}, so a missing set, whether never written or expired, means the changes
+ * are unknown. Redis failures never block evaluation: lookups then report no latest request and
+ * changes are reported as unknown, so every challenge is evaluated. Only recording changes fails
+ * loudly, because the statistics must not be saved without them.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisChallengeEvaluationCoalescer implements ChallengeEvaluationCoalescer {
+    private static final String KEY_PREFIX = "challenge:evaluation:latest:";
+    private static final String CHANGES_KEY_PREFIX = "challenge:evaluation:changes:";
+    private static final Duration LATEST_TTL = Duration.ofHours(1);
+    private static final Duration CHANGES_TTL = Duration.ofDays(30);
+    private static final String NO_CHANGES = "-";
+    private static final String MEMBER_SEPARATOR = " ";
+
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[2]) == 0 then
+            redis.call('SADD', KEYS[2], ARGV[2])
+        end
+        redis.call('SADD', KEYS[2], unpack(ARGV, 3))
+        redis.call('EXPIRE', KEYS[2], tonumber(ARGV[1]))
+        return redis.call('DEL', KEYS[1])
+        """, Long.class);
+
+    private static final RedisScript<String> MARK_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SET', KEYS[1], ARGV[1], 'EX', tonumber(ARGV[2]))
+        if redis.call('EXISTS', KEYS[2]) == 0 then
+            return ARGV[3]
+        end
+        return table.concat(redis.call('SMEMBERS', KEYS[2]), ' ')
+        """, String.class);
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        redis.call('DEL', KEYS[2])
+        redis.call('SADD', KEYS[2], ARGV[2])
+        redis.call('EXPIRE', KEYS[2], tonumber(ARGV[3]))
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> DISCARD_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void recordChanges(Long userId, Set<String> changedFields) {
+        if (changedFields.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(CHANGES_TTL.toSeconds()));
+        args.add(UNKNOWN_CHANGES);
+        args.addAll(changedFields);
+        redisTemplate.execute(RECORD_SCRIPT, keys(userId), args.toArray());
+    }
+
+    @Override
+    public Set<String> markLatest(Long userId, String messageId) {
+        try {
+            String pending = redisTemplate.execute(
+                MARK_SCRIPT, keys(userId), messageId, String.valueOf(LATEST_TTL.toSeconds()), UNKNOWN_CHANGES);
+            return toChanges(pending);
+        } catch (DataAccessException e) {
+            log.warn("Failed to mark latest evaluation request of user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Map<Long, String> findLatest(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = List.copyOf(userIds);
+        try {
+            List<String> messageIds = redisTemplate.opsForValue()
+                .multiGet(ids.stream().map(userId -> KEY_PREFIX + userId).toList());
+            return toMap(ids, messageIds);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read latest evaluation requests: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void discard(Long userId, String messageId) {
+        try {
+            redisTemplate.execute(DISCARD_SCRIPT, List.of(KEY_PREFIX + userId), messageId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to discard unsent evaluation request of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void complete(Long userId, String messageId) {
+        try {
+            redisTemplate.execute(
+                COMPLETE_SCRIPT, keys(userId), messageId, NO_CHANGES, String.valueOf(CHANGES_TTL.toSeconds()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to clear evaluated changes of user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(KEY_PREFIX + userId, CHANGES_KEY_PREFIX + userId);
+    }
+
+    private Set<String> toChanges(String pending) {
+        if (pending == null) {
+            return null;
+        }
+        Set<String> changes = new HashSet<>(Arrays.asList(pending.split(MEMBER_SEPARATOR)));
+        if (changes.contains(UNKNOWN_CHANGES)) {
+            return null;
+        }
+        changes.remove(NO_CHANGES);
+        changes.remove("");
+        return changes;
+    }
+
+    private Map<Long, String> toMap(List<Long> userIds, List<String> messageIds) {
+        Map<Long, String> latest = new HashMap<>();
+        if (messageIds == null) {
+            return latest;
+        }
+        for (int i = 0; i < userIds.size(); i++) {
+            if (messageIds.get(i) != null) {
+                latest.put(userIds.get(i), messageIds.get(i));
+            }
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,66 @@
+package io.swkoreatech.kosp.common.github.model;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The {@link GithubUserStatistics} properties challenge conditions may read, by property name.
+ *
+ * <p>The harvester compares two snapshots to report which inputs a run changed, and the challenge
+ * service only re-evaluates conditions that read one of them. Scores are compared by value, so a
+ * different scale of the same number does not count as a change.
+ */
+public final class ChallengeInputs {
+
+    private static final Set<String> NAMES = Set.copyOf(snapshot(new GithubUserStatistics()).keySet());
+
+    private ChallengeInputs() {
+        throw new AssertionError("Utility class");
+    }
+
+    public static Map<String, Object> snapshot(GithubUserStatistics statistics) {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("totalCommits", statistics.getTotalCommits());
+        inputs.put("totalLines", statistics.getTotalLines());
+        inputs.put("totalAdditions", statistics.getTotalAdditions());
+        inputs.put("totalDeletions", statistics.getTotalDeletions());
+        inputs.put("totalPrs", statistics.getTotalPrs());
+        inputs.put("totalIssues", statistics.getTotalIssues());
+        inputs.put("ownedReposCount", statistics.getOwnedReposCount());
+        inputs.put("contributedReposCount", statistics.getContributedReposCount());
+        inputs.put("totalStarsReceived", statistics.getTotalStarsReceived());
+        inputs.put("totalForksReceived", statistics.getTotalForksReceived());
+        inputs.put("nightCommits", statistics.getNightCommits());
+        inputs.put("dayCommits", statistics.getDayCommits());
+        inputs.put("activityScore", normalize(statistics.getActivityScore()));
+        inputs.put("diversityScore", normalize(statistics.getDiversityScore()));
+        inputs.put("impactScore", normalize(statistics.getImpactScore()));
+        inputs.put("totalScore", normalize(statistics.getTotalScore()));
+        return inputs;
+    }
+
+    public static boolean isInput(String propertyName) {
+        return NAMES.contains(propertyName);
+    }
+
+    public static Set<String> changed(Map<String, Object> before, Map<String, Object> after) {
+        Set<String> changed = new LinkedHashSet<>();
+        after.forEach((name, value) -> {
+            if (!Objects.equals(before.get(name), value)) {
+                changed.add(name);
+            }
+        });
+        return changed;
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        return value.stripTrailingZeros();
+    }
+}
@@ -0,0 +1,5 @@
+package io.swkoreatech.kosp.common.queue;
+
+import java.time.Instant;
+
+public record JobQueueRequest(Long userId, String runId, Instant scheduledAt, Priority priority) {}
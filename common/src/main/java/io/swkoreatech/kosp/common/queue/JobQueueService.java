@@ -1,18 +1,120 @@
 package io.swkoreatech.kosp.common.queue;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+/**
+ * Redis ZSET backed job queue shared by the backend and every harvester replica.
+ *
+ * <p>Members are {@code userId:runId} scored by due time plus priority offset. A harvester takes
+ * work with {@link #claim}, which atomically moves due members from {@code job:queue} to the
+ * {@code job:leases} ZSET scored by lease expiry. The owner keeps the lease alive with
+ * {@link #renewLeases} and drops it with {@link #release} once the job has finished. Leases of
+ * crashed replicas expire and are put back into the queue by {@link #reclaimExpiredLeases}.
+ * Renewal and release only touch leases still held by the caller, so a replica that lost its
+ * lease to a reclaim cannot extend or drop the lease of the replica that took over.
+ *
+ * <p>{@code job:lease:users} maps every leased user to its leased member, maintained by the same
+ * scripts. A claim defers due runs of users that already hold a lease for another run, so two
+ * runs of one user never execute at once, even when two replicas claim them concurrently.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JobQueueService {
     private static final String QUEUE_KEY = "job:queue";
+    private static final String LEASE_KEY = "job:leases";
+    private static final String LEASE_OWNER_KEY = "job:lease:owners";
+    private static final String LEASE_USER_KEY = "job:lease:users";
+    private static final Duration DEFER_DELAY = Duration.ofMinutes(1);
+    private static final int ENQUEUE_BATCH_SIZE = 1000;
+    private static final String MEMBER_SEPARATOR = " ";
+
+    /**
+     * Returns the claimed members joined by {@link #MEMBER_SEPARATOR}, so the result is a plain
+     * string rather than a multi-bulk reply that would need an unchecked {@code List} cast.
+     * Deferred members move to a later score, so each round either claims or makes progress.
+     */
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local limit = tonumber(ARGV[4])
+        local claimed = {}
+        for round = 1, limit do
+            local members = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, limit - #claimed)
+            if #members == 0 then
+                break
+            end
+            for _, member in ipairs(members) do
+                local userId = string.match(member, '^[^:]+')
+                local holder = redis.call('HGET', KEYS[4], userId)
+                if holder and holder ~= member then
+                    redis.call('ZADD', KEYS[1], ARGV[5], member)
+                else
+                    redis.call('ZREM', KEYS[1], member)
+                    redis.call('ZADD', KEYS[2], ARGV[2], member)
+                    redis.call('HSET', KEYS[3], member, ARGV[3])
+                    redis.call('HSET', KEYS[4], userId, member)
+                    claimed[#claimed + 1] = member
+                end
+            end
+            if #claimed >= limit then
+                break
+            end
+        end
+        return table.concat(claimed, ' ')
+        """, String.class);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+        local renewed = 0
+        for i = 3, #ARGV do
+            if redis.call('HGET', KEYS[2], ARGV[i]) == ARGV[2] then
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i])
+                renewed = renewed + 1
+            end
+        end
+        return renewed
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HGET', KEYS[2], ARGV[1]) ~= ARGV[2] then
+            return 0
+        end
+        redis.call('ZREM', KEYS[1], ARGV[1])
+        redis.call('HDEL', KEYS[2], ARGV[1])
+        local userId = string.match(ARGV[1], '^[^:]+')
+        if redis.call('HGET', KEYS[3], userId) == ARGV[1] then
+            redis.call('HDEL', KEYS[3], userId)
+        end
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> RECLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+        for _, member in ipairs(expired) do
+            redis.call('ZREM', KEYS[2], member)
+            redis.call('HDEL', KEYS[3], member)
+            local userId = string.match(member, '^[^:]+')
+            if redis.call('HGET', KEYS[4], userId) == member then
+                redis.call('HDEL', KEYS[4], userId)
+            end
+            redis.call('ZADD', KEYS[1], 'NX', ARGV[2], member)
+        end
+        return #expired
+        """, Long.class);
 
     private final StringRedisTemplate redisTemplate;
 
@@ -22,23 +124,125 @@ public class JobQueueService {
         redisTemplate.opsForZSet().add(QUEUE_KEY, member, score);
     }
 
-    public Optional<JobQueueEntry> dequeue() {
+    /**
+     * Enqueues many entries with a multi-member {@code ZADD} per batch instead of one command each.
+     */
+    public void enqueueAll(Collection<JobQueueRequest> requests) {
+        Set<TypedTuple<String>> batch = new LinkedHashSet<>();
+        for (JobQueueRequest request : requests) {
+            batch.add(TypedTuple.of(
+                formatMember(request.userId(), request.runId()),
+                calculateScore(request.scheduledAt(), request.priority())
+            ));
+            if (batch.size() == ENQUEUE_BATCH_SIZE) {
+                redisTemplate.opsForZSet().add(QUEUE_KEY, batch);
+                batch = new LinkedHashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            redisTemplate.opsForZSet().add(QUEUE_KEY, batch);
+        }
+    }
+
+    /**
+     * Users that already have an entry waiting in the queue or leased by a harvester.
+     */
+    public Set<Long> findQueuedUserIds() {
+        Set<Long> userIds = new HashSet<>();
+        collectUserIds(redisTemplate.opsForZSet().range(QUEUE_KEY, 0, -1), userIds);
+        collectUserIds(redisTemplate.opsForZSet().range(LEASE_KEY, 0, -1), userIds);
+        return userIds;
+    }
+
+    private void collectUserIds(Set<String> members, Set<Long> userIds) {
+        if (members == null) {
+            return;
+        }
+        members.forEach(member -> userIds.add(parseMember(member).userId()));
+    }
+
+    /**
+     * Atomically takes up to {@code limit} due entries, earliest first, in one round-trip and
+     * leases them to {@code owner} for {@code leaseDuration}. Due runs of users that already hold
+     * a lease for another run are pushed back by {@link #DEFER_DELAY} instead.
+     */
+    public List<JobQueueEntry> claim(String owner, Duration leaseDuration, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
         try {
-            long now = Instant.now().getEpochSecond();
-            var members = redisTemplate.opsForZSet()
-                .rangeByScore(QUEUE_KEY, Double.NEGATIVE_INFINITY, now, 0, 1);
+            Instant now = Instant.now();
+            String members = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(QUEUE_KEY, LEASE_KEY, LEASE_OWNER_KEY, LEASE_USER_KEY),
+                String.valueOf(now.getEpochSecond()),
+                String.valueOf(now.plus(leaseDuration).getEpochSecond()),
+                owner,
+                String.valueOf(limit),
+                String.valueOf(calculateScore(now.plus(DEFER_DELAY), Priority.HIGH))
+            );
             if (members == null || members.isEmpty()) {
-                return Optional.empty();
+                return List.of();
             }
-            String member = members.iterator().next();
-            redisTemplate.opsForZSet().remove(QUEUE_KEY, member);
-            return Optional.of(parseMember(member));
+            return Arrays.stream(members.split(MEMBER_SEPARATOR))
+                .map(this::parseMember)
+                .toList();
         } catch (RedisConnectionFailureException e) {
-            log.warn("Redis unavailable during dequeue: {}", e.getMessage());
-            return Optional.empty();
+            log.warn("Redis unavailable during claim: {}", e.getMessage());
+            return List.of();
         }
     }
 
+    /**
+     * Extends the leases {@code owner} still holds; leases already reclaimed or taken over are skipped.
+     *
+     * @return number of leases renewed
+     */
+    public long renewLeases(String owner, Collection<JobQueueEntry> entries, Duration leaseDuration) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        args.add(String.valueOf(Instant.now().plus(leaseDuration).getEpochSecond()));
+        args.add(owner);
+        entries.forEach(entry -> args.add(formatMember(entry.userId(), entry.runId())));
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY, LEASE_OWNER_KEY), args.toArray());
+        return renewed == null ? 0 : renewed;
+    }
+
+    /**
+     * Drops the lease of an entry if {@code owner} still holds it.
+     *
+     * @return false if the lease had already expired or belongs to another owner
+     */
+    public boolean release(String owner, Long userId, String runId) {
+        Long released = redisTemplate.execute(
+            RELEASE_SCRIPT,
+            List.of(LEASE_KEY, LEASE_OWNER_KEY, LEASE_USER_KEY),
+            formatMember(userId, runId),
+            owner
+        );
+        return released != null && released == 1;
+    }
+
+    /**
+     * Puts entries whose lease expired back into the queue as due, high priority jobs.
+     * A member that was re-enqueued meanwhile keeps its queued score.
+     *
+     * @return number of entries reclaimed
+     */
+    public long reclaimExpiredLeases(int limit) {
+        Instant now = Instant.now();
+        Long reclaimed = redisTemplate.execute(
+            RECLAIM_SCRIPT,
+            List.of(QUEUE_KEY, LEASE_KEY, LEASE_OWNER_KEY, LEASE_USER_KEY),
+            String.valueOf(now.getEpochSecond()),
+            String.valueOf(Priority.HIGH.getOffset() + now.getEpochSecond()),
+            String.valueOf(limit)
+        );
+        return reclaimed == null ? 0 : reclaimed;
+    }
+
     private double calculateScore(Instant scheduledAt, Priority priority) {
         return priority.getOffset() + scheduledAt.getEpochSecond();
     }
@@ -2,7 +2,15 @@ package io.swkoreatech.kosp.common.repository;
 
 import io.swkoreatech.kosp.common.entity.ProcessedMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProcessedMessageRepository extends JpaRepository<ProcessedMessage, Long> {
     boolean existsByMessageId(String messageId);
+
+    @Query("SELECT p.messageId FROM ProcessedMessage p WHERE p.messageId IN :messageIds")
+    List<String> findMessageIdsIn(@Param("messageIds") Collection<String> messageIds);
 }
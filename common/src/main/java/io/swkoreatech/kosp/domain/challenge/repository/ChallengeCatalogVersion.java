@@ -0,0 +1,9 @@
+package io.swkoreatech.kosp.domain.challenge.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of the challenge table; any insert, update or delete changes at least one component.
+ */
+public record ChallengeCatalogVersion(Long count, Long maxId, LocalDateTime lastUpdatedAt) {
+}
@@ -10,6 +10,7 @@ import io.swkoreatech.kosp.domain.user.model.User;
 
 public interface ChallengeHistoryRepository extends Repository<ChallengeHistory, Long> {
     ChallengeHistory save(ChallengeHistory challengeHistory);
+    java.util.List<ChallengeHistory> saveAll(Iterable<ChallengeHistory> challengeHistories);
     boolean existsByUserAndChallenge(User user, Challenge challenge);
     Optional<ChallengeHistory> findByUserAndChallenge(User user, Challenge challenge);
     java.util.List<ChallengeHistory> findAllByUserId(Long userId);
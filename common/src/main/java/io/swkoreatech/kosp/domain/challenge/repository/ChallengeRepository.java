@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 import io.swkoreatech.kosp.domain.challenge.model.Challenge;
 
@@ -11,4 +12,8 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long>, Jpa
     List<Challenge> findByTier(Integer tier);
     
     List<Challenge> findByNameContaining(String keyword);
+
+    @Query("SELECT new io.swkoreatech.kosp.domain.challenge.repository.ChallengeCatalogVersion(" +
+           "COUNT(c), MAX(c.id), MAX(c.updatedAt)) FROM Challenge c")
+    ChallengeCatalogVersion findCatalogVersion();
 }
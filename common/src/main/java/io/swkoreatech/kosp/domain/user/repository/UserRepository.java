@@ -38,6 +38,8 @@ public interface UserRepository extends PagingAndSortingRepository<User, Long>,
 
     java.util.List<User> findByNameContaining(String keyword);
 
+    java.util.List<User> findAllByIdIn(java.util.Collection<Long> ids);
+
     Optional<User> findByGithubUser_GithubId(Long githubId);
 
     Optional<User> findByGithubUser_GithubIdAndIsDeletedFalse(Long githubId);
@@ -0,0 +1,154 @@
+package io.swkoreatech.kosp.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.swkoreatech.kosp.collection.document.HttpCacheDocument;
+import io.swkoreatech.kosp.collection.repository.HttpCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Turns REST GETs into conditional requests.
+ *
+ * <p>A response carrying an ETag is stored in {@code github_http_cache}; the next GET of the same
+ * URI with the same token sends {@code If-None-Match}. GitHub answers {@code 304 Not Modified}
+ * without charging the rate limit, and the filter replays the stored body as a {@code 200}, so
+ * callers cannot tell the difference. The 304 keeps its own rate-limit headers, which the governor
+ * records as usual. Entries expire after {@code ttl}; an expired entry is ignored and Mongo's TTL
+ * index removes it.
+ *
+ * <p>Only the REST client installs this filter. Mining goes through GraphQL, which is a POST to a
+ * single endpoint; GitHub sends no ETags for it and does not answer it with {@code 304}.
+ *
+ * <p>Mongo is blocking, so lookups and writes run on the bounded elastic scheduler rather than
+ * on the Netty event loop.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConditionalRequestFilter implements ExchangeFilterFunction {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final HttpCacheRepository httpCacheRepository;
+    private final ConditionalRequestProperties properties;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!properties.enabled() || !HttpMethod.GET.equals(request.method())) {
+            return next.exchange(request);
+        }
+        String token = extractToken(request);
+        if (token == null) {
+            return next.exchange(request);
+        }
+        String key = cacheKey(token, request.url().toString());
+        return findCached(key)
+            .flatMap(cached -> next.exchange(withIfNoneMatch(request, cached.orElse(null)))
+                .flatMap(response -> handleResponse(key, request, response, cached.orElse(null))));
+    }
+
+    private String extractToken(ClientRequest request) {
+        String authorization = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length());
+    }
+
+    private Mono<Optional<HttpCacheDocument>> findCached(String key) {
+        return Mono.fromCallable(() -> httpCacheRepository.findById(key)
+                .filter(cached -> !cached.isExpired(Instant.now())))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(error -> {
+                log.warn("HTTP cache lookup failed, sending unconditional request: {}", error.getMessage());
+                return Mono.just(Optional.empty());
+            });
+    }
+
+    private ClientRequest withIfNoneMatch(ClientRequest request, HttpCacheDocument cached) {
+        if (cached == null) {
+            return request;
+        }
+        return ClientRequest.from(request)
+            .header(HttpHeaders.IF_NONE_MATCH, cached.getEtag())
+            .build();
+    }
+
+    private Mono<ClientResponse> handleResponse(
+        String key,
+        ClientRequest request,
+        ClientResponse response,
+        HttpCacheDocument cached
+    ) {
+        if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+            log.debug("GET {} - Not modified, serving cached body", request.url());
+            return response.releaseBody().thenReturn(replay(response, cached));
+        }
+        String etag = response.headers().asHttpHeaders().getETag();
+        if (!response.statusCode().isSameCodeAs(HttpStatus.OK) || etag == null) {
+            return Mono.just(response);
+        }
+        return response.bodyToMono(String.class)
+            .defaultIfEmpty("")
+            .flatMap(body -> store(key, request, response, etag, body)
+                .thenReturn(response.mutate().body(body).build()));
+    }
+
+    private ClientResponse replay(ClientResponse notModified, HttpCacheDocument cached) {
+        return notModified.mutate()
+            .statusCode(HttpStatus.OK)
+            .headers(headers -> {
+                if (cached.getContentType() != null) {
+                    headers.set(HttpHeaders.CONTENT_TYPE, cached.getContentType());
+                }
+            })
+            .body(cached.getBody())
+            .build();
+    }
+
+    private Mono<Void> store(String key, ClientRequest request, ClientResponse response, String etag, String body) {
+        if (body.getBytes(StandardCharsets.UTF_8).length > properties.maxBodyBytes()) {
+            return Mono.empty();
+        }
+        String contentType = response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE);
+        HttpCacheDocument document = HttpCacheDocument.of(
+            key, request.url().toString(), etag, contentType, body, properties.ttl()
+        );
+        return Mono.fromRunnable(() -> httpCacheRepository.save(document))
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(error -> {
+                log.warn("Failed to cache response of {}: {}", request.url(), error.getMessage());
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    static String cacheKey(String token, String uri) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(token.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(uri.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.swkoreatech.kosp.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of {@link ConditionalRequestFilter}.
+ *
+ * @param enabled      whether REST GETs are sent with {@code If-None-Match} and cached by ETag
+ * @param maxBodyBytes largest UTF-8 encoded response body that is cached; larger ones are always fetched in full
+ * @param ttl          how long a cached response may be replayed before it is dropped and fetched again
+ */
+@ConfigurationProperties(prefix = "github.api.conditional-requests")
+public record ConditionalRequestProperties(
+    Boolean enabled,
+    Integer maxBodyBytes,
+    Duration ttl
+) {
+
+    private static final int DEFAULT_MAX_BODY_BYTES = 1024 * 1024;
+    private static final Duration DEFAULT_TTL = Duration.ofDays(7);
+
+    public ConditionalRequestProperties {
+        if (enabled == null) {
+            enabled = true;
+        }
+        if (maxBodyBytes == null || maxBodyBytes <= 0) {
+            maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            ttl = DEFAULT_TTL;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.swkoreatech.kosp.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.swkoreatech.kosp.client.dto.DateTimeRange;
+
+/**
+ * Builds a single GraphQL document reading several {@code contributionsCollection} ranges of a user.
+ *
+ * <p>Each range is selected under its own alias ({@code r0}, {@code r1}, ...) with its own
+ * {@code $fromN}/{@code $toN} variables, and all of them share the ContributedRepositories fragment.
+ */
+public final class ContributionRangesQueryBuilder {
+
+    /**
+     * Connection nodes a single range may return: three by-repository lists of up to 100 entries.
+     */
+    public static final int NODES_PER_RANGE = 300;
+
+    private static final String ALIAS_PREFIX = "r";
+
+    private ContributionRangesQueryBuilder() {
+        throw new AssertionError("Utility class");
+    }
+
+    public static String build(int rangeCount, String fragment) {
+        StringBuilder declarations = new StringBuilder("$login: String!");
+        StringBuilder selections = new StringBuilder();
+        for (int index = 0; index < rangeCount; index++) {
+            declarations.append(", $from").append(index).append(": DateTime!")
+                .append(", $to").append(index).append(": DateTime!");
+            selections.append("    ").append(alias(index))
+                .append(": contributionsCollection(from: $from").append(index)
+                .append(", to: $to").append(index).append(") {\n")
+                .append("      ...ContributedRepositories\n")
+                .append("    }\n");
+        }
+        return "query GetContributedRepositoriesInRanges(" + declarations + ") {\n"
+            + "  user(login: $login) {\n"
+            + "    id\n"
+            + selections
+            + "  }\n"
+            + "}\n"
+            + fragment;
+    }
+
+    public static Map<String, Object> variables(String login, List<DateTimeRange> ranges) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("login", login);
+        for (int index = 0; index < ranges.size(); index++) {
+            variables.put("from" + index, ranges.get(index).from());
+            variables.put("to" + index, ranges.get(index).to());
+        }
+        return variables;
+    }
+
+    public static String alias(int index) {
+        return ALIAS_PREFIX + index;
+    }
+}
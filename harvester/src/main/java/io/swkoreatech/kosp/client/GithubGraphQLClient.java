@@ -3,35 +3,55 @@ package io.swkoreatech.kosp.client;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import io.swkoreatech.kosp.client.dto.DateTimeRange;
+import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.util.retry.Retry;
 
+/**
+ * GitHub GraphQL client.
+ *
+ * <p>Every call is named after its public method and timed as {@code github.graphql.request}
+ * (tags {@code operation}, {@code outcome}) with a percentile histogram; transport retries
+ * are counted as {@code github.graphql.retries}. Time spent waiting on the rate-limit
+ * governor is not part of the request timer.
+ */
 @Slf4j
 @Component
 public class GithubGraphQLClient {
 
     private final WebClient webClient;
     private final ResourceLoader resourceLoader;
+    private final RateLimitGovernor rateLimitGovernor;
+    private final MeterRegistry meterRegistry;
     
     private String userBasicInfoQuery;
     private String userContributionsQuery;
@@ -39,13 +59,22 @@ public class GithubGraphQLClient {
     private String userPullRequestsQuery;
     private String userIssuesQuery;
     private String repositoryCommitsQuery;
+    private String rateLimitQuery;
+    private String contributedReposFragment;
+    private String repositoryMetadataFragment;
+    private final Map<Integer, String> contributedReposInRangesQueries = new ConcurrentHashMap<>();
+    private final Map<Integer, String> repositoryMetadataQueries = new ConcurrentHashMap<>();
 
     public GithubGraphQLClient(
         @Value("${github.api.graphql-url}") String graphqlUrl,
-        ResourceLoader resourceLoader
+        ResourceLoader resourceLoader,
+        RateLimitGovernor rateLimitGovernor,
+        MeterRegistry meterRegistry
     ) {
         this.webClient = createWebClient(graphqlUrl);
         this.resourceLoader = resourceLoader;
+        this.rateLimitGovernor = rateLimitGovernor;
+        this.meterRegistry = meterRegistry;
         loadQueries();
     }
 
@@ -82,6 +111,9 @@ public class GithubGraphQLClient {
             userPullRequestsQuery = loadQuery("classpath:graphql/user-pull-requests.graphql");
             userIssuesQuery = loadQuery("classpath:graphql/user-issues.graphql");
             repositoryCommitsQuery = loadQuery("classpath:graphql/repository-commits.graphql");
+            rateLimitQuery = loadQuery("classpath:graphql/rate-limit.graphql");
+            contributedReposFragment = loadQuery("classpath:graphql/contributed-repositories-fragment.graphql");
+            repositoryMetadataFragment = loadQuery("classpath:graphql/repository-metadata-fragment.graphql");
             log.info("GraphQL queries loaded successfully");
         } catch (IOException e) {
             log.warn("GraphQL queries not found: {}", e.getMessage());
@@ -96,16 +128,56 @@ public class GithubGraphQLClient {
         return resource.getContentAsString(StandardCharsets.UTF_8);
     }
 
-    public <T> Mono<T> query(String query, Map<String, Object> variables, String token, Class<T> responseType) {
+    /**
+     * Posts a query and decodes the body directly into {@code responseType}; pass a fully
+     * parameterized type from {@code GraphQLTypeFactory#responseType(Class)} so the response
+     * data is bound while parsing rather than converted from a map tree afterwards.
+     */
+    public <T> Mono<T> query(String query, Map<String, Object> variables, String token, ParameterizedTypeReference<T> responseType) {
+        return execute("query", query, variables, token, responseType);
+    }
+
+    private <T> Mono<T> execute(
+        String operation,
+        String query,
+        Map<String, Object> variables,
+        String token,
+        ParameterizedTypeReference<T> responseType
+    ) {
         Map<String, Object> requestBody = buildRequestBody(query, variables);
 
-        return webClient.post()
-            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-            .bodyValue(requestBody)
-            .retrieve()
-            .bodyToMono(responseType)
-            .retryWhen(createRetrySpec())
-            .doOnError(error -> log.error("GraphQL query failed: {}", error.getMessage()));
+        return rateLimitGovernor.acquire(token, RateLimitGovernor.Resource.GRAPHQL)
+            .then(Mono.defer(() -> {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                long startedAt = System.nanoTime();
+                return webClient.post()
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .toEntity(responseType)
+                    .retryWhen(createRetrySpec(operation))
+                    .doOnNext(entity -> recordLatency(entity.getBody(), startedAt))
+                    .doOnSuccess(entity -> stopTimer(sample, operation, "success"))
+                    .doOnError(error -> stopTimer(sample, operation, "error"));
+            }))
+            .doOnNext(entity -> rateLimitGovernor.record(token, entity.getHeaders(), RateLimitGovernor.Resource.GRAPHQL))
+            .mapNotNull(ResponseEntity::getBody)
+            .doOnError(error -> log.error("GraphQL {} failed: {}", operation, error.getMessage()));
+    }
+
+    private void recordLatency(Object body, long startedAt) {
+        if (body instanceof GraphQLResponse<?> response) {
+            response.recordRequestLatency(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    private void stopTimer(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("github.graphql.request")
+            .description("Latency of a GitHub GraphQL request including transport retries")
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
     }
 
     private Map<String, Object> buildRequestBody(String query, Map<String, Object> variables) {
@@ -117,10 +189,15 @@ public class GithubGraphQLClient {
         return requestBody;
     }
 
-    private Retry createRetrySpec() {
+    private Retry createRetrySpec(String operation) {
+        Counter retries = Counter.builder("github.graphql.retries")
+            .description("GitHub GraphQL requests retried after a transient failure")
+            .tag("operation", operation)
+            .register(meterRegistry);
         return Retry.backoff(3, Duration.ofSeconds(2))
             .maxBackoff(Duration.ofSeconds(30))
             .jitter(0.5)
+            .doBeforeRetry(signal -> retries.increment())
             .filter(throwable -> 
                 throwable instanceof WebClientResponseException.BadGateway ||
                 throwable instanceof WebClientResponseException.ServiceUnavailable ||
@@ -138,46 +215,82 @@ public class GithubGraphQLClient {
         String from,
         String to,
         String token,
-        Class<T> responseType
+        ParameterizedTypeReference<T> responseType
     ) {
         Map<String, Object> variables = Map.of(
             "login", login,
             "from", from,
             "to", to
         );
-        return query(contributedReposQuery, variables, token, responseType);
+        return execute("getContributedRepos", contributedReposQuery, variables, token, responseType);
     }
 
-    public <T> Mono<T> getUserPullRequests(String login, String cursor, String token, Class<T> responseType) {
+    /**
+     * Reads several contribution ranges in one request; see {@link ContributionRangesQueryBuilder}.
+     */
+    public <T> Mono<T> getContributedReposInRanges(
+        String login,
+        List<DateTimeRange> ranges,
+        String token,
+        ParameterizedTypeReference<T> responseType
+    ) {
+        String rangesQuery = contributedReposInRangesQueries.computeIfAbsent(
+            ranges.size(),
+            size -> ContributionRangesQueryBuilder.build(size, contributedReposFragment)
+        );
+        return execute("getContributedReposInRanges", rangesQuery, ContributionRangesQueryBuilder.variables(login, ranges), token, responseType);
+    }
+
+    /**
+     * Reads the metadata of several repositories in one request; see {@link RepositoryMetadataQueryBuilder}.
+     *
+     * @param fullNames repositories as {@code owner/name}, at most
+     *                  {@link RepositoryMetadataQueryBuilder#MAX_REPOSITORIES_PER_REQUEST}
+     */
+    public <T> Mono<T> getRepositoryMetadata(
+        List<String> fullNames,
+        String token,
+        ParameterizedTypeReference<T> responseType
+    ) {
+        String metadataQuery = repositoryMetadataQueries.computeIfAbsent(
+            fullNames.size(),
+            size -> RepositoryMetadataQueryBuilder.build(size, repositoryMetadataFragment)
+        );
+        return execute("getRepositoryMetadata", metadataQuery, RepositoryMetadataQueryBuilder.variables(fullNames), token, responseType);
+    }
+
+    public <T> Mono<T> getUserPullRequests(String login, String cursor, int pageSize, String token, ParameterizedTypeReference<T> responseType) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("login", login);
+        variables.put("first", pageSize);
         if (cursor != null) {
             variables.put("after", cursor);
         }
-        return query(userPullRequestsQuery, variables, token, responseType);
+        return execute("getUserPullRequests", userPullRequestsQuery, variables, token, responseType);
     }
 
-    public <T> Mono<T> getUserIssues(String login, String cursor, String token, Class<T> responseType) {
+    public <T> Mono<T> getUserIssues(String login, String cursor, int pageSize, String token, ParameterizedTypeReference<T> responseType) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("login", login);
+        variables.put("first", pageSize);
         if (cursor != null) {
             variables.put("after", cursor);
         }
-        return query(userIssuesQuery, variables, token, responseType);
+        return execute("getUserIssues", userIssuesQuery, variables, token, responseType);
     }
 
     public <T> Mono<T> getUserBasicInfo(
         String login,
         String cursor,
         String token,
-        Class<T> responseType
+        ParameterizedTypeReference<T> responseType
     ) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("login", login);
         if (cursor != null) {
             variables.put("after", cursor);
         }
-        return query(userBasicInfoQuery, variables, token, responseType);
+        return execute("getUserBasicInfo", userBasicInfoQuery, variables, token, responseType);
     }
 
     public <T> Mono<T> getRepositoryCommits(
@@ -185,9 +298,10 @@ public class GithubGraphQLClient {
         String name,
         String authorId,
         String cursor,
+        Instant since,
         String token,
         int pageSize,
-        Class<T> responseType
+        ParameterizedTypeReference<T> responseType
     ) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("owner", owner);
@@ -197,6 +311,13 @@ public class GithubGraphQLClient {
         if (cursor != null) {
             variables.put("after", cursor);
         }
-        return query(repositoryCommitsQuery, variables, token, responseType);
+        if (since != null) {
+            variables.put("since", since.toString());
+        }
+        return execute("getRepositoryCommits", repositoryCommitsQuery, variables, token, responseType);
+    }
+
+    public <T> Mono<T> getRateLimit(String token, ParameterizedTypeReference<T> responseType) {
+        return execute("getRateLimit", rateLimitQuery, Map.of(), token, responseType);
     }
 }
@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -32,11 +33,12 @@ import reactor.util.retry.Retry;
 public class GithubRestApiClient {
 
     private final WebClient webClient;
-    private final RateLimitManager rateLimitManager;
+    private final RateLimitGovernor rateLimitGovernor;
 
     public GithubRestApiClient(
         @Value("${github.api.base-url}") String baseUrl,
-        RateLimitManager rateLimitManager
+        RateLimitGovernor rateLimitGovernor,
+        ConditionalRequestFilter conditionalRequestFilter
     ) {
         ConnectionProvider connectionProvider = ConnectionProvider.builder("github-pool")
             .maxConnections(60)
@@ -69,12 +71,13 @@ public class GithubRestApiClient {
                     .defaultCodecs()
                     .maxInMemorySize(10 * 1024 * 1024))
                 .build())
+            .filter(conditionalRequestFilter)
             .build();
-        this.rateLimitManager = rateLimitManager;
+        this.rateLimitGovernor = rateLimitGovernor;
     }
 
     public <T> Mono<T> get(Long userId, String uri, String token, Class<T> responseType) {
-        return rateLimitManager.waitIfNeeded(userId, 100)
+        return rateLimitGovernor.acquire(token, RateLimitGovernor.Resource.CORE)
             .then(webClient.get()
                 .uri(uri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
@@ -82,12 +85,7 @@ public class GithubRestApiClient {
                 .retrieve()
                 .onStatus(
                     status -> status.equals(HttpStatus.FORBIDDEN),
-                    response -> response.bodyToMono(String.class)
-                        .flatMap(body -> {
-                            log.warn("Rate limit exceeded. Waiting...");
-                            return rateLimitManager.handleRateLimitExceeded(userId)
-                                .then(Mono.error(new RuntimeException("Rate limit exceeded")));
-                        })
+                    response -> waitForRateLimitReset(token, response)
                 )
                 .toEntity(responseType)
                 .retryWhen(Retry.backoff(5, Duration.ofSeconds(2))
@@ -102,21 +100,7 @@ public class GithubRestApiClient {
                     ))
                 .doOnSuccess(entity -> {
                     if (entity != null) {
-                        HttpHeaders headers = entity.getHeaders();
-                        String remaining = headers.getFirst("X-RateLimit-Remaining");
-                        String reset = headers.getFirst("X-RateLimit-Reset");
-                        
-                        if (remaining != null && reset != null) {
-                            try {
-                                long resetLong = Long.parseLong(reset) * 1000;
-                                int remainingCount = Integer.parseInt(remaining);
-                                rateLimitManager.updateRateLimitFromHeaders(userId, resetLong, remainingCount);
-                            } catch (NumberFormatException e) {
-                                log.warn("Failed to parse rate limit headers: remaining={}, reset={}", 
-                                    remaining, reset);
-                                rateLimitManager.updateRateLimitFromHeaders(userId, 0, 5000);
-                            }
-                        }
+                        rateLimitGovernor.record(token, entity.getHeaders(), RateLimitGovernor.Resource.CORE);
                     }
                     log.debug("GET {} - Success", uri);
                 })
@@ -125,6 +109,19 @@ public class GithubRestApiClient {
             );
     }
 
+    /**
+     * A 403 carries the current budget in its headers. The governor learns it and then either waits
+     * for the reset or fails with {@link RateLimitException} when the reset is further away than it
+     * accepts; the request itself still fails.
+     */
+    private Mono<Throwable> waitForRateLimitReset(String token, ClientResponse response) {
+        log.warn("GitHub answered 403, checking the rate limit budget");
+        rateLimitGovernor.record(token, response.headers().asHttpHeaders(), RateLimitGovernor.Resource.CORE);
+        return response.releaseBody()
+            .then(rateLimitGovernor.acquire(token, RateLimitGovernor.Resource.CORE))
+            .then(Mono.error(new RuntimeException("Rate limit exceeded")));
+    }
+
     private <T> T extractBody(org.springframework.http.ResponseEntity<T> entity) {
         if (entity == null) {
             return null;
@@ -133,7 +130,7 @@ public class GithubRestApiClient {
     }
 
     public <T> Mono<T> post(Long userId, String uri, String token, Object body, Class<T> responseType) {
-        return rateLimitManager.waitIfNeeded(userId, 100)
+        return rateLimitGovernor.acquire(token, RateLimitGovernor.Resource.CORE)
             .then(webClient.post()
                 .uri(uri)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
@@ -156,31 +153,13 @@ public class GithubRestApiClient {
             .retrieve()
             .onStatus(
                 status -> status.equals(HttpStatus.FORBIDDEN),
-                response -> response.bodyToMono(String.class)
-                    .flatMap(body -> {
-                        log.warn("Rate limit exceeded (Bypass mode). Waiting...");
-                        return rateLimitManager.handleRateLimitExceeded(userId)
-                            .then(Mono.error(new RuntimeException("Rate limit exceeded")));
-                    })
+                response -> waitForRateLimitReset(token, response)
             )
             .toEntity(responseType)
             .retryWhen(Retry.backoff(3, Duration.ofSeconds(2)))
             .doOnSuccess(entity -> {
                 if (entity != null) {
-                    HttpHeaders headers = entity.getHeaders();
-                    String remaining = headers.getFirst("X-RateLimit-Remaining");
-                    String reset = headers.getFirst("X-RateLimit-Reset");
-                    
-                    if (remaining != null && reset != null) {
-                        try {
-                            long resetLong = Long.parseLong(reset) * 1000;
-                            int remainingCount = Integer.parseInt(remaining);
-                            rateLimitManager.updateRateLimitFromHeaders(userId, resetLong, remainingCount);
-                        } catch (NumberFormatException e) {
-                            log.warn("Failed to parse rate limit headers", e);
-                            rateLimitManager.updateRateLimitFromHeaders(userId, 0, 5000);
-                        }
-                    }
+                    rateLimitGovernor.record(token, entity.getHeaders(), RateLimitGovernor.Resource.CORE);
                 }
             })
             .map(this::extractBody);
@@ -0,0 +1,63 @@
+package io.swkoreatech.kosp.client;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Budget of one token for one GitHub API resource, updated from responses and
+ * optimistically decremented by every request in between.
+ */
+final class RateLimitBucket {
+
+    private static final int DEFAULT_LIMIT = 5000;
+
+    private int limit = DEFAULT_LIMIT;
+    private int remaining = DEFAULT_LIMIT;
+    private Instant resetAt;
+
+    /**
+     * Takes {@code cost} points if the budget allows it.
+     *
+     * @return {@code null} if the budget is exhausted until {@link #resetAt()}, otherwise the
+     *         delay to observe before sending, zero unless the budget is running low
+     */
+    synchronized Duration reserve(int cost, RateLimitProperties properties, Instant now) {
+        refillIfReset(now);
+        if (resetAt == null) {
+            remaining -= cost;
+            return Duration.ZERO;
+        }
+        int spendable = remaining - properties.threshold();
+        if (spendable < cost) {
+            return null;
+        }
+        remaining -= cost;
+        if (remaining >= properties.paceBelow()) {
+            return Duration.ZERO;
+        }
+        return Duration.between(now, resetAt).dividedBy(spendable);
+    }
+
+    synchronized void update(Integer limit, int remaining, Instant resetAt) {
+        if (limit != null && limit > 0) {
+            this.limit = limit;
+        }
+        this.remaining = remaining;
+        this.resetAt = resetAt;
+    }
+
+    synchronized Instant resetAt() {
+        return resetAt;
+    }
+
+    synchronized RateLimitState state() {
+        return new RateLimitState(remaining, resetAt);
+    }
+
+    private void refillIfReset(Instant now) {
+        if (resetAt != null && !now.isBefore(resetAt)) {
+            remaining = limit;
+            resetAt = null;
+        }
+    }
+}
@@ -14,4 +14,17 @@ public class RateLimitException extends RuntimeException {
     public Duration getWaitTime() {
         return waitTime;
     }
+
+    /**
+     * Whether {@code throwable} or one of its causes is a rate-limit failure, e.g. one rethrown by
+     * {@code block()} or wrapped by a step.
+     */
+    public static boolean isCauseOf(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof RateLimitException) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,184 @@
+package io.swkoreatech.kosp.client;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.swkoreatech.kosp.client.dto.RateLimitResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Keeps the GitHub rate-limit budget of every token in memory and paces requests against it.
+ *
+ * <p>Budgets are learned from {@code X-RateLimit-*} response headers and from GraphQL
+ * {@code rateLimit} blocks. While plenty of points are left requests pass untouched; below
+ * {@code paceBelow} the remaining points are spread evenly until the reset, and once only the
+ * reserve is left requests wait for the reset. Waits longer than {@code maxWait} fail with
+ * {@link RateLimitException} so that the job is rescheduled. State reaches the database only
+ * through {@link RateLimitManager#persist(Long, String)} when a job ends.
+ *
+ * <p>While a token is known, its remaining points are exposed as the {@code github.ratelimit.remaining}
+ * gauge, tagged with the resource and a short hash of the token.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitGovernor {
+
+    private static final int REQUEST_COST = 1;
+    private static final int TOKEN_TAG_BYTES = 4;
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    public Mono<Void> acquire(String token, Resource resource) {
+        return Mono.defer(() -> {
+            RateLimitBucket bucket = bucket(token, resource);
+            Instant now = Instant.now();
+            Duration delay = bucket.reserve(REQUEST_COST, properties, now);
+            if (delay == null) {
+                return waitForReset(token, resource, bucket.resetAt(), now);
+            }
+            if (delay.isZero() || delay.isNegative()) {
+                return Mono.empty();
+            }
+            log.debug("Pacing {} request by {}ms", resource.headerValue, delay.toMillis());
+            return Mono.delay(delay).then();
+        });
+    }
+
+    private Mono<Void> waitForReset(String token, Resource resource, Instant resetAt, Instant now) {
+        Duration untilReset = Duration.between(now, resetAt);
+        if (untilReset.compareTo(properties.maxWait()) > 0) {
+            log.warn("{} rate limit budget exhausted until {}", resource.headerValue, resetAt);
+            return Mono.error(new RateLimitException(
+                "Rate limit threshold reached. Reset at: " + resetAt,
+                untilReset
+            ));
+        }
+        log.info("{} rate limit budget exhausted, waiting {}s for reset", resource.headerValue, untilReset.toSeconds());
+        return Mono.delay(untilReset).then(acquire(token, resource));
+    }
+
+    public void record(String token, HttpHeaders headers, Resource fallback) {
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        if (remaining == null || reset == null) {
+            return;
+        }
+        try {
+            Resource resource = Resource.fromHeader(headers.getFirst("X-RateLimit-Resource"), fallback);
+            String limit = headers.getFirst("X-RateLimit-Limit");
+            bucket(token, resource).update(
+                limit != null ? Integer.valueOf(limit) : null,
+                Integer.parseInt(remaining),
+                Instant.ofEpochSecond(Long.parseLong(reset))
+            );
+        } catch (NumberFormatException e) {
+            log.warn("Failed to parse rate limit headers: remaining={}, reset={}", remaining, reset);
+        }
+    }
+
+    public void record(String token, RateLimitResponse.RateLimit rateLimit) {
+        if (rateLimit == null || rateLimit.getResetAt() == null) {
+            return;
+        }
+        bucket(token, Resource.GRAPHQL).update(rateLimit.getLimit(), rateLimit.getRemaining(), rateLimit.getResetAt());
+    }
+
+    public Optional<RateLimitState> state(String token, Resource resource) {
+        RateLimitBucket bucket = buckets.get(key(token, resource));
+        return Optional.ofNullable(bucket).map(RateLimitBucket::state);
+    }
+
+    /**
+     * The budget closest to exhaustion across resources, which is the one that decides when the
+     * token can be used again.
+     */
+    public Optional<RateLimitState> mostConstrained(String token) {
+        return Arrays.stream(Resource.values())
+            .map(resource -> state(token, resource))
+            .flatMap(Optional::stream)
+            .filter(state -> state.resetAt() != null)
+            .min(Comparator.comparingInt(RateLimitState::remaining));
+    }
+
+    public void forget(String token) {
+        for (Resource resource : Resource.values()) {
+            String key = key(token, resource);
+            buckets.remove(key);
+            Gauge gauge = gauges.remove(key);
+            if (gauge != null) {
+                meterRegistry.remove(gauge);
+            }
+        }
+    }
+
+    private RateLimitBucket bucket(String token, Resource resource) {
+        return buckets.computeIfAbsent(key(token, resource), key -> {
+            RateLimitBucket bucket = new RateLimitBucket();
+            gauges.put(key, Gauge.builder("github.ratelimit.remaining", bucket, b -> b.state().remaining())
+                .description("Points left in the GitHub rate-limit budget of a token")
+                .tag("resource", resource.headerValue)
+                .tag("token", tokenTag(token))
+                .register(meterRegistry));
+            return bucket;
+        });
+    }
+
+    /**
+     * Tokens must never reach a metrics backend; a short digest is enough to tell them apart.
+     */
+    private String tokenTag(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, TOKEN_TAG_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private String key(String token, Resource resource) {
+        return resource.headerValue + ":" + token;
+    }
+
+    /**
+     * GitHub accounts REST and GraphQL points in separate budgets.
+     */
+    public enum Resource {
+        CORE("core"),
+        GRAPHQL("graphql");
+
+        private final String headerValue;
+
+        Resource(String headerValue) {
+            this.headerValue = headerValue;
+        }
+
+        static Resource fromHeader(String value, Resource fallback) {
+            for (Resource resource : values()) {
+                if (resource.headerValue.equals(value)) {
+                    return resource;
+                }
+            }
+            return fallback;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package io.swkoreatech.kosp.client;
 
-import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 
 import org.springframework.stereotype.Component;
 
@@ -11,7 +11,6 @@ import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import io.swkoreatech.kosp.user.GithubUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
@@ -20,73 +19,28 @@ public class RateLimitManager {
 
     private final UserRepository userRepository;
     private final GithubUserRepository githubUserRepository;
-
-    public Mono<Void> waitIfNeeded(Long userId, int threshold) {
-        return Mono.defer(() -> {
-            User user = userRepository.getById(userId);
-            GithubUser githubUser = user.getGithubUser();
-
-            if (githubUser == null) {
-                log.warn("User {} has no GitHub account linked", userId);
-                return Mono.empty();
-            }
-
-            int remaining = githubUser.getRemainingOrDefault();
-            if (remaining <= threshold) {
-                Instant resetTime = githubUser.getRateLimitResetAt();
-                
-                if (resetTime == null) {
-                    return Mono.empty();
-                }
-
-                Duration waitTime = Duration.between(Instant.now(), resetTime);
-                
-                log.warn("Rate limit threshold reached for user {}. Remaining: {}, Threshold: {}", 
-                    userId, remaining, threshold);
-                return Mono.error(new RateLimitException(
-                    "Rate limit threshold reached. Reset at: " + resetTime,
-                    waitTime
-                ));
-            }
-
-            return Mono.empty();
-        });
-    }
-
-    public Mono<Void> handleRateLimitExceeded(Long userId) {
-        User user = userRepository.getById(userId);
-        GithubUser githubUser = user.getGithubUser();
-
-        if (githubUser == null || githubUser.getRateLimitResetAt() == null) {
-            log.error("Rate limit exceeded but no reset time found for user {}", userId);
-            return Mono.delay(Duration.ofMinutes(5)).then();
-        }
-
-        Instant resetTime = githubUser.getRateLimitResetAt();
-        Duration waitTime = Duration.between(Instant.now(), resetTime);
-
-        if (waitTime.isNegative()) {
-            return Mono.empty();
+    private final RateLimitGovernor rateLimitGovernor;
+
+    /**
+     * Writes the in-memory budget of the token to the user once and releases it from the governor.
+     */
+    public void persist(Long userId, String token) {
+        Optional<RateLimitState> state = rateLimitGovernor.mostConstrained(token);
+        rateLimitGovernor.forget(token);
+        if (state.isEmpty()) {
+            return;
         }
 
-        log.error("Rate limit exceeded for user {}! Waiting until: {}", userId, resetTime);
-        return Mono.delay(waitTime).then();
-    }
-
-    public void updateRateLimitFromHeaders(Long userId, long resetTime, int remaining) {
         User user = userRepository.getById(userId);
         GithubUser githubUser = user.getGithubUser();
-
         if (githubUser == null) {
-            log.warn("User {} has no GitHub account linked", userId);
             return;
         }
 
-        Instant resetAt = Instant.ofEpochMilli(resetTime);
-        githubUser.updateRateLimit(resetAt, remaining);
+        githubUser.updateRateLimit(state.get().resetAt(), state.get().remaining());
         githubUserRepository.save(githubUser);
-
-        log.debug("Rate limit updated for user {}: reset={}, remaining={}", userId, resetAt, remaining);
+        log.debug("Rate limit persisted for user {}: reset={}, remaining={}",
+            userId, state.get().resetAt(), state.get().remaining());
     }
 
     public Instant getResetTime(Long userId) {
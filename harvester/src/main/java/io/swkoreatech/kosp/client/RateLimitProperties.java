@@ -0,0 +1,37 @@
+package io.swkoreatech.kosp.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Pacing rules of {@link RateLimitGovernor}.
+ *
+ * @param threshold points kept in reserve; requests wait for the reset once only these are left
+ * @param paceBelow remaining points below which requests are spread evenly until the reset
+ * @param maxWait   longest wait the governor accepts before failing with {@link RateLimitException}
+ *                  so the job is rescheduled instead of holding a worker
+ */
+@ConfigurationProperties(prefix = "github.api.rate-limit")
+public record RateLimitProperties(
+    Integer threshold,
+    Integer paceBelow,
+    Duration maxWait
+) {
+
+    private static final int DEFAULT_THRESHOLD = 100;
+    private static final int DEFAULT_PACE_BELOW = 1000;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofMinutes(5);
+
+    public RateLimitProperties {
+        if (threshold == null || threshold < 0) {
+            threshold = DEFAULT_THRESHOLD;
+        }
+        if (paceBelow == null || paceBelow < threshold) {
+            paceBelow = Math.max(DEFAULT_PACE_BELOW, threshold);
+        }
+        if (maxWait == null || maxWait.isNegative()) {
+            maxWait = DEFAULT_MAX_WAIT;
+        }
+    }
+}
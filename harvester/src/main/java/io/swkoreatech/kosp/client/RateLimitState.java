@@ -0,0 +1,9 @@
+package io.swkoreatech.kosp.client;
+
+import java.time.Instant;
+
+/**
+ * Last known budget of one token for one GitHub API resource.
+ */
+public record RateLimitState(int remaining, Instant resetAt) {
+}
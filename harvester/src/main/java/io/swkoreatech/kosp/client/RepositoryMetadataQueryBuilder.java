@@ -0,0 +1,61 @@
+package io.swkoreatech.kosp.client;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a single GraphQL document reading the metadata of several repositories.
+ *
+ * <p>Each repository is selected under its own alias ({@code r0}, {@code r1}, ...) with its own
+ * {@code $ownerN}/{@code $nameN} variables, and all of them share the RepositoryMetadata fragment.
+ * Top-level {@code repository} lookups are not connections, so a whole batch costs a single point.
+ */
+public final class RepositoryMetadataQueryBuilder {
+
+    public static final int MAX_REPOSITORIES_PER_REQUEST = 50;
+
+    private static final String ALIAS_PREFIX = "r";
+
+    private RepositoryMetadataQueryBuilder() {
+        throw new AssertionError("Utility class");
+    }
+
+    public static String build(int repositoryCount, String fragment) {
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder selections = new StringBuilder();
+        for (int index = 0; index < repositoryCount; index++) {
+            if (index > 0) {
+                declarations.append(", ");
+            }
+            declarations.append("$owner").append(index).append(": String!")
+                .append(", $name").append(index).append(": String!");
+            selections.append("  ").append(alias(index))
+                .append(": repository(owner: $owner").append(index)
+                .append(", name: $name").append(index).append(") {\n")
+                .append("    ...RepositoryMetadata\n")
+                .append("  }\n");
+        }
+        return "query GetRepositoryMetadata(" + declarations + ") {\n"
+            + selections
+            + "}\n"
+            + fragment;
+    }
+
+    /**
+     * @param fullNames repositories as {@code owner/name}
+     */
+    public static Map<String, Object> variables(List<String> fullNames) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int index = 0; index < fullNames.size(); index++) {
+            String[] parts = fullNames.get(index).split("/", 2);
+            variables.put("owner" + index, parts[0]);
+            variables.put("name" + index, parts.length > 1 ? parts[1] : "");
+        }
+        return variables;
+    }
+
+    public static String alias(int index) {
+        return ALIAS_PREFIX + index;
+    }
+}
@@ -0,0 +1,61 @@
+package io.swkoreatech.kosp.client.dto;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import io.swkoreatech.kosp.client.dto.ContributedReposResponse.ContributionsCollection;
+import io.swkoreatech.kosp.client.dto.ContributedReposResponse.RepositoryInfo;
+import lombok.Getter;
+
+/**
+ * Response of a query built by {@code ContributionRangesQueryBuilder}: one aliased
+ * contributionsCollection per requested range.
+ */
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ContributedReposInRangesResponse {
+
+    private User user;
+
+    public Set<RepositoryInfo> collectAllRepositories() {
+        if (user == null) {
+            return Collections.emptySet();
+        }
+        return user.collectAllRepositories();
+    }
+
+    public String getUserNodeId() {
+        if (user == null) {
+            return null;
+        }
+        return user.getId();
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class User {
+        private String id;
+        private final Map<String, ContributionsCollection> ranges = new LinkedHashMap<>();
+
+        @JsonAnySetter
+        void putRange(String alias, ContributionsCollection contributions) {
+            ranges.put(alias, contributions);
+        }
+
+        public Set<RepositoryInfo> collectAllRepositories() {
+            Set<RepositoryInfo> allRepos = new HashSet<>();
+            for (ContributionsCollection contributions : ranges.values()) {
+                if (contributions != null) {
+                    allRepos.addAll(contributions.collectAllRepositories());
+                }
+            }
+            return allRepos;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.swkoreatech.kosp.client.dto;
+
+/**
+ * Half-open GraphQL {@code DateTime} range, both ends formatted as ISO-8601 instants.
+ */
+public record DateTimeRange(String from, String to) {
+}
@@ -1,14 +1,23 @@
 package io.swkoreatech.kosp.client.dto;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import lombok.Getter;
 
+/**
+ * GraphQL response envelope.
+ *
+ * <p>Decoded with a concrete {@code T} (see {@code GraphQLTypeFactory#responseType(Class)}),
+ * {@code data} is bound straight to the DTO while the body is parsed. Decoded through the raw
+ * class it stays a map tree and {@link #getDataAs(Class)} converts it on access.
+ */
 @Getter
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class GraphQLResponse<T> {
@@ -16,9 +25,19 @@ public class GraphQLResponse<T> {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
         .registerModule(new JavaTimeModule());
 
-    private Object data;
+    private T data;
     private List<Map<String, Object>> errors;
 
+    /**
+     * How long GitHub took to answer, without rate-limit pacing; only set by {@code GithubGraphQLClient}.
+     */
+    @JsonIgnore
+    private Duration requestLatency;
+
+    public void recordRequestLatency(Duration requestLatency) {
+        this.requestLatency = requestLatency;
+    }
+
     public boolean hasErrors() {
         return errors != null && !errors.isEmpty();
     }
@@ -0,0 +1,30 @@
+package io.swkoreatech.kosp.client.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+
+@Getter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RateLimitResponse {
+
+    private RateLimit rateLimit;
+
+    public int getRemainingOrDefault(int defaultValue) {
+        if (rateLimit == null) {
+            return defaultValue;
+        }
+        return rateLimit.getRemaining();
+    }
+
+    @Getter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class RateLimit {
+        private int limit;
+        private int cost;
+        private int remaining;
+        private Instant resetAt;
+    }
+}
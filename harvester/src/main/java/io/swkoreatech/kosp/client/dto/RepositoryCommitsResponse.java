@@ -77,6 +77,7 @@ public class RepositoryCommitsResponse {
         private int deletions;
         private Integer changedFilesIfAvailable;
         private Instant authoredDate;
+        private Instant committedDate;
         private Author author;
 
         public String getAuthorName() {
@@ -0,0 +1,33 @@
+package io.swkoreatech.kosp.client.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import io.swkoreatech.kosp.client.dto.ContributedReposResponse.RepositoryInfo;
+
+/**
+ * Response of a query built by {@code RepositoryMetadataQueryBuilder}: one aliased repository
+ * per requested name. Repositories that no longer exist or are not visible to the token come
+ * back as {@code null} aliases.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RepositoryMetadataResponse {
+
+    private final Map<String, RepositoryInfo> repositories = new LinkedHashMap<>();
+
+    @JsonAnySetter
+    void putRepository(String alias, RepositoryInfo repository) {
+        repositories.put(alias, repository);
+    }
+
+    public List<RepositoryInfo> getRepositories() {
+        return repositories.values().stream()
+            .filter(Objects::nonNull)
+            .toList();
+    }
+}
@@ -23,7 +23,6 @@ public class CollectionMetadataDocument {
     private Instant lastFullCollection;
     private Instant lastIncrementalCollection;
 
-    private String lastCommitCursor;
     private String lastPrCursor;
     private String lastIssueCursor;
 
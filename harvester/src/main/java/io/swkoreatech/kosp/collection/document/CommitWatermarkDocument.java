@@ -0,0 +1,76 @@
+package io.swkoreatech.kosp.collection.document;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * High-water mark of the newest commit mined for a (user, repository) pair.
+ * Incremental runs pass {@link #lastCommittedAt} as the GraphQL history {@code since}, which GitHub
+ * applies to the committer date. The authored date is not used: rebased or cherry-picked commits keep
+ * an older authored date and would fall behind the mark.
+ *
+ * <p>While a run is unfinished, {@link #resumeCursor} and the newest commit seen so far are kept
+ * as its checkpoint; the mark itself only advances once a run has reached the last page.
+ */
+@Getter
+@Builder
+@Document(collection = "github_commit_watermarks")
+@CompoundIndex(name = "unique_watermark_idx", def = "{'userId': 1, 'repositoryOwner': 1, 'repositoryName': 1}", unique = true)
+public class CommitWatermarkDocument {
+
+    @Id
+    private String id;
+
+    private Long userId;
+    private String repositoryOwner;
+    private String repositoryName;
+
+    private Instant lastCommittedAt;
+    private String lastOid;
+
+    private String resumeCursor;
+    private Instant resumeNewestCommittedAt;
+    private String resumeNewestOid;
+
+    private Instant updatedAt;
+
+    public static CommitWatermarkDocument createNew(Long userId, String owner, String name) {
+        return CommitWatermarkDocument.builder()
+            .userId(userId)
+            .repositoryOwner(owner)
+            .repositoryName(name)
+            .build();
+    }
+
+    public void advance(Instant committedAt, String oid) {
+        if (committedAt == null) {
+            return;
+        }
+        if (lastCommittedAt != null && !committedAt.isAfter(lastCommittedAt)) {
+            return;
+        }
+        this.lastCommittedAt = committedAt;
+        this.lastOid = oid;
+        this.updatedAt = Instant.now();
+    }
+
+    /**
+     * Records the position of an unfinished run; a {@code null} cursor clears the checkpoint.
+     */
+    public void checkpoint(String cursor, Instant newestCommittedAt, String newestOid) {
+        this.resumeCursor = cursor;
+        this.resumeNewestCommittedAt = cursor == null ? null : newestCommittedAt;
+        this.resumeNewestOid = cursor == null ? null : newestOid;
+        this.updatedAt = Instant.now();
+    }
+
+    public String getRepoFullName() {
+        return repositoryOwner + "/" + repositoryName;
+    }
+}
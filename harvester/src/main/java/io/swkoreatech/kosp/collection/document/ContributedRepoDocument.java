@@ -3,37 +3,33 @@ package io.swkoreatech.kosp.collection.document;
 import java.time.Instant;
 
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.Builder;
 import lombok.Getter;
 
+/**
+ * A user's contribution to one repository. Facts about the repository itself live in the
+ * shared {@link RepositoryMetadataDocument} with the same {@code fullName}. The unique index
+ * leads with {@code userId}, so it also serves lookups of all contributions of a user.
+ */
 @Getter
 @Builder
 @Document(collection = "github_contributed_repos")
+@CompoundIndex(name = "unique_contributed_repo_idx", def = "{'userId': 1, 'fullName': 1}", unique = true)
 public class ContributedRepoDocument {
 
     @Id
     private String id;
 
-    @Indexed
     private Long userId;
 
     private String repositoryName;
     private String repositoryOwner;
     private String fullName;
-    private String description;
 
     private Boolean isOwner;
-    private Boolean isFork;
-    private Boolean isPrivate;
-
-    private String primaryLanguage;
-    private Integer stargazersCount;
-    private Integer forksCount;
-    private Integer watchersCount;
-    private Instant repoCreatedAt;
 
     private Integer userCommitCount;
     private Integer userPrCount;
@@ -0,0 +1,57 @@
+package io.swkoreatech.kosp.collection.document;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Last successful response of a GitHub REST GET, replayed when GitHub answers
+ * {@code 304 Not Modified} to the conditional request built from its ETag.
+ * The id hashes the token together with the URI, so responses never leak between users.
+ * Mongo removes an entry once {@code expiresAt} has passed.
+ */
+@Getter
+@Builder
+@Document(collection = "github_http_cache")
+public class HttpCacheDocument {
+
+    @Id
+    private String id;
+
+    private String uri;
+    private String etag;
+    private String contentType;
+    private String body;
+
+    private Instant updatedAt;
+
+    @Indexed(name = "expires_at_ttl_idx", expireAfter = "0s")
+    private Instant expiresAt;
+
+    public static HttpCacheDocument of(String id, String uri, String etag, String contentType, String body, Duration ttl) {
+        Instant now = Instant.now();
+        return HttpCacheDocument.builder()
+            .id(id)
+            .uri(uri)
+            .etag(etag)
+            .contentType(contentType)
+            .body(body)
+            .updatedAt(now)
+            .expiresAt(now.plus(ttl))
+            .build();
+    }
+
+    /**
+     * Mongo's TTL monitor runs about once a minute, so an expired entry can still be read for a
+     * while after {@code expiresAt}.
+     */
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,50 @@
+package io.swkoreatech.kosp.collection.document;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Page size a paginated GraphQL query settled on for a user, remembered for the next run.
+ * The scope names the query, e.g. {@code pullRequests} or {@code commits:owner/name}.
+ */
+@Getter
+@Builder
+@Document(collection = "github_page_sizes")
+@CompoundIndex(name = "unique_page_size_idx", def = "{'userId': 1, 'scope': 1}", unique = true)
+public class PageSizeDocument {
+
+    @Id
+    private String id;
+
+    private Long userId;
+    private String scope;
+    private Integer pageSize;
+
+    private Instant updatedAt;
+
+    public static PageSizeDocument createNew(Long userId, String scope, int pageSize) {
+        return PageSizeDocument.builder()
+            .userId(userId)
+            .scope(scope)
+            .pageSize(pageSize)
+            .build();
+    }
+
+    /**
+     * @return true if the document has to be saved
+     */
+    public boolean remember(int pageSize) {
+        if (id != null && this.pageSize != null && this.pageSize == pageSize) {
+            return false;
+        }
+        this.pageSize = pageSize;
+        this.updatedAt = Instant.now();
+        return true;
+    }
+}
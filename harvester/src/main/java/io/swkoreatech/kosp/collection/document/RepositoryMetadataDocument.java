@@ -0,0 +1,42 @@
+package io.swkoreatech.kosp.collection.document;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Facts about a repository shared by every user contributing to it, keyed by {@code owner/name}.
+ * Entries are refetched once they are older than the configured TTL.
+ */
+@Getter
+@Builder
+@Document(collection = "github_repository_metadata")
+public class RepositoryMetadataDocument {
+
+    @Id
+    private String fullName;
+
+    private String repositoryOwner;
+    private String repositoryName;
+    private String description;
+
+    private Boolean isFork;
+    private Boolean isPrivate;
+
+    private String primaryLanguage;
+    private Integer stargazersCount;
+    private Integer forksCount;
+    private Integer watchersCount;
+    private Instant repoCreatedAt;
+
+    private Instant fetchedAt;
+
+    public boolean isFresh(Instant now, Duration ttl) {
+        return fetchedAt != null && fetchedAt.plus(ttl).isAfter(now);
+    }
+}
@@ -0,0 +1,150 @@
+package io.swkoreatech.kosp.collection.metadata;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import io.swkoreatech.kosp.client.GithubGraphQLClient;
+import io.swkoreatech.kosp.client.RepositoryMetadataQueryBuilder;
+import io.swkoreatech.kosp.client.dto.ContributedReposResponse.RepositoryInfo;
+import io.swkoreatech.kosp.client.dto.GraphQLResponse;
+import io.swkoreatech.kosp.client.dto.RepositoryMetadataResponse;
+import io.swkoreatech.kosp.collection.document.RepositoryMetadataDocument;
+import io.swkoreatech.kosp.collection.repository.RepositoryMetadataRepository;
+import io.swkoreatech.kosp.collection.step.DiscoveryProperties;
+import io.swkoreatech.kosp.collection.util.GraphQLErrorHandler;
+import io.swkoreatech.kosp.collection.util.GraphQLErrorType;
+import io.swkoreatech.kosp.collection.util.GraphQLTypeFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared cache of repository facts (stars, forks, language, description) keyed by {@code owner/name}.
+ *
+ * <p>Course and organisation repositories have many contributors; their facts are fetched and
+ * stored once per TTL instead of once per contributor. Repositories whose facts arrived with the
+ * discovery anyway are stored without another request, the rest are read in batches of aliased
+ * {@code repository} lookups.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetadataStore {
+
+    private final RepositoryMetadataRepository metadataRepository;
+    private final GithubGraphQLClient graphQLClient;
+    private final DiscoveryProperties discoveryProperties;
+
+    /**
+     * Makes sure every repository in {@code fullNames} has fresh metadata.
+     *
+     * @param fullNames repositories as {@code owner/name}
+     * @param known repositories whose full facts are already at hand, e.g. the user's own repositories
+     * @param token GitHub token used for repositories that have to be fetched
+     * @return number of repositories requested from GitHub
+     */
+    public int refresh(Collection<String> fullNames, Collection<RepositoryInfo> known, String token) {
+        Instant now = Instant.now();
+        Set<String> covered = findFresh(fullNames, now);
+        int cached = covered.size();
+        List<RepositoryMetadataDocument> updates = new ArrayList<>();
+        for (RepositoryInfo repo : known) {
+            if (covered.add(repo.getNameWithOwner())) {
+                updates.add(toDocument(repo, now));
+            }
+        }
+
+        int fromDiscovery = updates.size();
+        List<String> missing = fullNames.stream()
+            .filter(fullName -> !covered.contains(fullName))
+            .distinct()
+            .toList();
+        for (List<String> batch : partition(missing)) {
+            fetch(batch, token).forEach(repo -> updates.add(toDocument(repo, now)));
+        }
+
+        if (!updates.isEmpty()) {
+            metadataRepository.saveAll(updates);
+        }
+        log.info("Repository metadata: {} cached, {} taken from discovery, {} of {} fetched",
+            cached, fromDiscovery, updates.size() - fromDiscovery, missing.size());
+        return missing.size();
+    }
+
+    public Map<String, RepositoryMetadataDocument> findAll(Collection<String> fullNames) {
+        List<RepositoryMetadataDocument> documents = new ArrayList<>();
+        metadataRepository.findAllById(fullNames).forEach(documents::add);
+        return documents.stream()
+            .collect(Collectors.toMap(RepositoryMetadataDocument::getFullName, Function.identity()));
+    }
+
+    private Set<String> findFresh(Collection<String> fullNames, Instant now) {
+        Set<String> fresh = new HashSet<>();
+        for (RepositoryMetadataDocument document : metadataRepository.findAllById(fullNames)) {
+            if (document.isFresh(now, discoveryProperties.repositoryMetadataTtl())) {
+                fresh.add(document.getFullName());
+            }
+        }
+        return fresh;
+    }
+
+    private List<List<String>> partition(List<String> fullNames) {
+        List<List<String>> batches = new ArrayList<>();
+        int size = RepositoryMetadataQueryBuilder.MAX_REPOSITORIES_PER_REQUEST;
+        for (int start = 0; start < fullNames.size(); start += size) {
+            batches.add(fullNames.subList(start, Math.min(start + size, fullNames.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Missing repositories are not fatal: their contributions are still stored, only the facts stay empty.
+     */
+    private List<RepositoryInfo> fetch(List<String> batch, String token) {
+        try {
+            GraphQLResponse<RepositoryMetadataResponse> response = graphQLClient
+                .getRepositoryMetadata(batch, token, GraphQLTypeFactory.responseType(RepositoryMetadataResponse.class))
+                .block();
+            GraphQLErrorType errorType = GraphQLErrorHandler.classifyErrors(response, "repositories", batch.get(0));
+            if (errorType != null && errorType != GraphQLErrorType.PARTIAL) {
+                return List.of();
+            }
+            return response.getDataAs(RepositoryMetadataResponse.class).getRepositories();
+        } catch (Exception e) {
+            log.warn("Failed to fetch metadata of {} repositories: {}", batch.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private RepositoryMetadataDocument toDocument(RepositoryInfo repo, Instant now) {
+        return RepositoryMetadataDocument.builder()
+            .fullName(repo.getNameWithOwner())
+            .repositoryOwner(repo.getOwnerLogin())
+            .repositoryName(repo.getName())
+            .description(repo.getDescription())
+            .isFork(repo.isFork())
+            .isPrivate(repo.isPrivate())
+            .primaryLanguage(repo.getLanguageName())
+            .stargazersCount(repo.getStargazerCount())
+            .forksCount(repo.getForkCount())
+            .watchersCount(repo.getWatchersCount())
+            .repoCreatedAt(parseDateTime(repo.getCreatedAt()))
+            .fetchedAt(now)
+            .build();
+    }
+
+    private Instant parseDateTime(String dateTimeString) {
+        if (dateTimeString == null) {
+            return null;
+        }
+        return Instant.parse(dateTimeString);
+    }
+}
@@ -0,0 +1,262 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import io.swkoreatech.kosp.collection.document.CommitDocument;
+import io.swkoreatech.kosp.collection.document.IssueDocument;
+import io.swkoreatech.kosp.collection.document.PullRequestDocument;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Computes a user's activity totals and per-repository breakdowns server-side.
+ *
+ * <p>Each collection is reduced by a {@code $group}/{@code $facet} pipeline, so only one small
+ * result document per collection crosses the wire regardless of how long the user's history is.
+ * Pipelines may spill to disk, so very long histories do not hit the in-memory stage limit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityAggregationRepository {
+
+    private static final int NIGHT_START_HOUR = 22;
+    private static final int NIGHT_END_HOUR = 6;
+    private static final AggregationOptions SPILL_TO_DISK = AggregationOptions.builder()
+        .allowDiskUse(true)
+        .build();
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserActivitySummary summarize(Long userId, ZoneId zone) {
+        Map<String, RepoActivityBuilder> repos = new HashMap<>();
+        Document commitFacets = aggregateCommits(userId, zone);
+        Document commitTotals = firstOrEmpty(commitFacets.getList("totals", Document.class));
+        mergeCommitsPerRepo(commitFacets.getList("perRepo", Document.class), repos);
+        Document prFacets = aggregatePullRequests(userId);
+        Document mergedTotals = firstOrEmpty(prFacets.getList("merged", Document.class));
+        int totalPrs = mergeCountsPerRepo(prFacets.getList("perRepo", Document.class), repos, true);
+        int totalIssues = mergeCountsPerRepo(countPerRepo(userId, IssueDocument.class), repos, false);
+
+        Map<String, RepoActivity> perRepo = new HashMap<>();
+        repos.forEach((key, builder) -> perRepo.put(key, builder.build()));
+        return new UserActivitySummary(
+            intValue(commitTotals, "count"),
+            longValue(commitTotals, "additions"),
+            longValue(commitTotals, "deletions"),
+            intValue(commitTotals, "night"),
+            totalPrs,
+            totalIssues,
+            new MergedPullRequestStats(
+                intValue(mergedTotals, "maxRepoStars"),
+                intValue(mergedTotals, "closedIssues"),
+                intValue(mergedTotals, "crossRepository")
+            ),
+            perRepo
+        );
+    }
+
+    private Document aggregateCommits(Long userId, ZoneId zone) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("userId").is(userId)),
+            stage("$facet", new Document()
+                .append("totals", List.of(new Document("$group", commitTotalsGroup(zone))))
+                .append("perRepo", List.of(new Document("$group", new Document()
+                    .append("_id", repoKey())
+                    .append("count", new Document("$sum", 1))
+                    .append("lastCommitAt", new Document("$max", "$authoredAt"))))))
+        ).withOptions(SPILL_TO_DISK);
+        return uniqueResult(mongoTemplate.aggregate(aggregation, CommitDocument.class, Document.class)
+            .getUniqueMappedResult());
+    }
+
+    private Document aggregatePullRequests(Long userId) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("userId").is(userId)),
+            stage("$facet", new Document()
+                .append("perRepo", List.of(new Document("$group", repoCountGroup())))
+                .append("merged", List.of(
+                    new Document("$match", new Document("merged", true)),
+                    new Document("$group", new Document()
+                        .append("_id", null)
+                        .append("maxRepoStars", new Document("$max", "$repoStarCount"))
+                        .append("closedIssues", new Document("$sum", new Document("$ifNull", List.of("$closedIssuesCount", 0))))
+                        .append("crossRepository", new Document("$sum", new Document("$cond", List.of(
+                            new Document("$eq", List.of("$isCrossRepository", true)), 1, 0))))))))
+        ).withOptions(SPILL_TO_DISK);
+        return uniqueResult(mongoTemplate.aggregate(aggregation, PullRequestDocument.class, Document.class)
+            .getUniqueMappedResult());
+    }
+
+    private Document commitTotalsGroup(ZoneId zone) {
+        return new Document()
+            .append("_id", null)
+            .append("count", new Document("$sum", 1))
+            .append("additions", new Document("$sum", new Document("$ifNull", List.of("$additions", 0))))
+            .append("deletions", new Document("$sum", new Document("$ifNull", List.of("$deletions", 0))))
+            .append("night", new Document("$sum", new Document("$cond", List.of(isNightCommit(zone), 1, 0))));
+    }
+
+    private Document isNightCommit(ZoneId zone) {
+        Document hour = new Document("$hour", new Document()
+            .append("date", "$authoredAt")
+            .append("timezone", toMongoTimezone(zone)));
+        return new Document("$and", List.of(
+            new Document("$eq", List.of(new Document("$type", "$authoredAt"), "date")),
+            new Document("$or", List.of(
+                new Document("$gte", List.of(hour, NIGHT_START_HOUR)),
+                new Document("$lt", List.of(hour, NIGHT_END_HOUR))
+            ))
+        ));
+    }
+
+    /**
+     * MongoDB accepts Olson names and {@code +hh:mm} offsets, but not the {@code Z} id of UTC.
+     */
+    private String toMongoTimezone(ZoneId zone) {
+        if (zone.normalized() instanceof ZoneOffset offset) {
+            return offset.getTotalSeconds() == 0 ? "+00:00" : offset.getId();
+        }
+        return zone.getId();
+    }
+
+    private List<Document> countPerRepo(Long userId, Class<?> documentType) {
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.match(Criteria.where("userId").is(userId)),
+            stage("$group", repoCountGroup())
+        ).withOptions(SPILL_TO_DISK);
+        return mongoTemplate.aggregate(aggregation, documentType, Document.class).getMappedResults();
+    }
+
+    private void mergeCommitsPerRepo(List<Document> groups, Map<String, RepoActivityBuilder> repos) {
+        if (groups == null) {
+            return;
+        }
+        for (Document group : groups) {
+            RepoActivityBuilder builder = repos.computeIfAbsent(fullName(group), key -> new RepoActivityBuilder());
+            builder.commitCount = intValue(group, "count");
+            builder.lastCommitAt = toInstant(group.get("lastCommitAt"));
+        }
+    }
+
+    private int mergeCountsPerRepo(List<Document> groups, Map<String, RepoActivityBuilder> repos, boolean pullRequests) {
+        if (groups == null) {
+            return 0;
+        }
+        int total = 0;
+        for (Document group : groups) {
+            int count = intValue(group, "count");
+            RepoActivityBuilder builder = repos.computeIfAbsent(fullName(group), key -> new RepoActivityBuilder());
+            if (pullRequests) {
+                builder.prCount = count;
+            } else {
+                builder.issueCount = count;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    private Document repoCountGroup() {
+        return new Document()
+            .append("_id", repoKey())
+            .append("count", new Document("$sum", 1));
+    }
+
+    private Document repoKey() {
+        return new Document()
+            .append("owner", "$repositoryOwner")
+            .append("name", "$repositoryName");
+    }
+
+    private String fullName(Document group) {
+        Document id = group.get("_id", Document.class);
+        return id.getString("owner") + "/" + id.getString("name");
+    }
+
+    private AggregationOperation stage(String operator, Document body) {
+        return context -> new Document(operator, body);
+    }
+
+    private Document uniqueResult(Document result) {
+        return result != null ? result : new Document();
+    }
+
+    private Document firstOrEmpty(List<Document> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return new Document();
+        }
+        return documents.get(0);
+    }
+
+    private int intValue(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+
+    private long longValue(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private Instant toInstant(Object value) {
+        if (value instanceof Date date) {
+            return date.toInstant();
+        }
+        return null;
+    }
+
+    /**
+     * Activity totals of one user plus per-repository breakdowns keyed by {@code owner/name}.
+     */
+    public record UserActivitySummary(
+        int totalCommits,
+        long totalAdditions,
+        long totalDeletions,
+        int nightCommits,
+        int totalPrs,
+        int totalIssues,
+        MergedPullRequestStats mergedPullRequests,
+        Map<String, RepoActivity> repos
+    ) {
+
+        public RepoActivity repo(String fullName) {
+            return repos.getOrDefault(fullName, RepoActivity.EMPTY);
+        }
+    }
+
+    public record RepoActivity(int commitCount, int prCount, int issueCount, Instant lastCommitAt) {
+
+        public static final RepoActivity EMPTY = new RepoActivity(0, 0, 0, null);
+    }
+
+    /**
+     * @param maxRepoStars    highest star count among repositories the user got a pull request merged into
+     * @param closedIssues    issues closed by the user's merged pull requests
+     * @param crossRepository merged pull requests opened from a fork
+     */
+    public record MergedPullRequestStats(int maxRepoStars, int closedIssues, int crossRepository) {}
+
+    private static class RepoActivityBuilder {
+        int commitCount;
+        int prCount;
+        int issueCount;
+        Instant lastCommitAt;
+
+        RepoActivity build() {
+            return new RepoActivity(commitCount, prCount, issueCount, lastCommitAt);
+        }
+    }
+}
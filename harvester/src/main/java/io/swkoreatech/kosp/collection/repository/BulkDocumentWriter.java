@@ -0,0 +1,95 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a page of mined documents in one unordered bulk request.
+ *
+ * <p>Every document becomes an upsert keyed on the collection's unique index whose fields are
+ * written with {@code $setOnInsert}, so already collected documents are left untouched, just like
+ * the former exists-then-save path, but without two round-trips per document.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkDocumentWriter {
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public <T> BulkInsertResult insertMissing(Class<T> type, List<T> documents, Function<T, Query> keyQuery) {
+        if (documents.isEmpty()) {
+            return BulkInsertResult.EMPTY;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        operations.upsert(buildUpserts(documents, keyQuery));
+        try {
+            return toResult(operations.execute(), 0);
+        } catch (BulkOperationException e) {
+            return handlePartialFailure(type, e);
+        }
+    }
+
+    private <T> List<Pair<Query, UpdateDefinition>> buildUpserts(List<T> documents, Function<T, Query> keyQuery) {
+        List<Pair<Query, UpdateDefinition>> upserts = new ArrayList<>(documents.size());
+        for (T document : documents) {
+            upserts.add(Pair.of(keyQuery.apply(document), toSetOnInsert(document)));
+        }
+        return upserts;
+    }
+
+    private UpdateDefinition toSetOnInsert(Object document) {
+        Document fields = new Document();
+        mongoTemplate.getConverter().write(document, fields);
+        fields.remove("_id");
+        return Update.fromDocument(new Document("$setOnInsert", fields));
+    }
+
+    /**
+     * Concurrent upserts of the same key may race on the unique index; the loser is
+     * reported as a duplicate-key error and is counted as an existing document.
+     */
+    private BulkInsertResult handlePartialFailure(Class<?> type, BulkOperationException exception) {
+        int duplicates = 0;
+        for (BulkWriteError error : exception.getErrors()) {
+            if (error.getCode() != DUPLICATE_KEY_ERROR) {
+                throw exception;
+            }
+            duplicates++;
+        }
+        log.debug("Bulk upsert on {} lost {} duplicate-key races", type.getSimpleName(), duplicates);
+        return toResult(exception.getResult(), duplicates);
+    }
+
+    private BulkInsertResult toResult(BulkWriteResult result, int duplicates) {
+        return new BulkInsertResult(result.getUpserts().size(), result.getMatchedCount() + duplicates);
+    }
+
+    /**
+     * @param inserted documents that did not exist before
+     * @param existing documents already present under the same unique key
+     */
+    public record BulkInsertResult(int inserted, int existing) {
+
+        static final BulkInsertResult EMPTY = new BulkInsertResult(0, 0);
+    }
+}
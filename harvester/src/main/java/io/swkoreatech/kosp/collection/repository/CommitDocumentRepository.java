@@ -8,8 +8,6 @@ import io.swkoreatech.kosp.collection.document.CommitDocument;
 
 public interface CommitDocumentRepository extends MongoRepository<CommitDocument, String> {
 
-    List<CommitDocument> findByUserId(Long userId);
-
     List<CommitDocument> findByUserIdAndRepositoryName(Long userId, String repositoryName);
 
     boolean existsByUserIdAndSha(Long userId, String sha);
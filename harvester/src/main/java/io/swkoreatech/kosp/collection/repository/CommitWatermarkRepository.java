@@ -0,0 +1,12 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import io.swkoreatech.kosp.collection.document.CommitWatermarkDocument;
+
+public interface CommitWatermarkRepository extends MongoRepository<CommitWatermarkDocument, String> {
+
+    List<CommitWatermarkDocument> findByUserId(Long userId);
+}
@@ -1,17 +1,111 @@
 package io.swkoreatech.kosp.collection.repository;
 
-import java.util.Optional;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
 
 import io.swkoreatech.kosp.collection.entity.GithubRepositoryStatistics;
+import lombok.RequiredArgsConstructor;
 
-public interface GithubRepositoryStatisticsRepository 
-    extends CrudRepository<GithubRepositoryStatistics, Long> {
-    
-    Optional<GithubRepositoryStatistics> findByRepoOwnerAndRepoNameAndContributorGithubId(
-        String repoOwner,
-        String repoName,
-        String contributorGithubId
-    );
+/**
+ * Writes a contributor's repository statistics with one JDBC batch.
+ *
+ * <p>Rows are upserted on {@code uk_repo_contributor}, so a user's repositories cost a single
+ * batch instead of a select and a save per repository. {@code calculated_at} keeps the time the
+ * row was first created, like the entity did before. Postgres rejects a statement that updates
+ * the same row twice, which a rewritten batch containing one key twice would do, so rows are
+ * collapsed by key before binding and the last one wins.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GithubRepositoryStatisticsRepository {
+
+    private static final String UPSERT_SQL = """
+        INSERT INTO github_repository_statistics (
+            repo_owner, repo_name, contributor_github_id,
+            stargazers_count, forks_count, watchers_count, is_owned,
+            total_commits_count, total_prs_count, total_issues_count,
+            user_commits_count, user_prs_count, user_issues_count,
+            last_commit_date, description, primary_language, repo_created_at, calculated_at
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (repo_owner, repo_name, contributor_github_id) DO UPDATE SET
+            stargazers_count = EXCLUDED.stargazers_count,
+            forks_count = EXCLUDED.forks_count,
+            watchers_count = EXCLUDED.watchers_count,
+            is_owned = EXCLUDED.is_owned,
+            total_commits_count = EXCLUDED.total_commits_count,
+            total_prs_count = EXCLUDED.total_prs_count,
+            total_issues_count = EXCLUDED.total_issues_count,
+            user_commits_count = EXCLUDED.user_commits_count,
+            user_prs_count = EXCLUDED.user_prs_count,
+            user_issues_count = EXCLUDED.user_issues_count,
+            last_commit_date = EXCLUDED.last_commit_date,
+            description = EXCLUDED.description,
+            primary_language = EXCLUDED.primary_language,
+            repo_created_at = EXCLUDED.repo_created_at
+        """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsertAll(List<GithubRepositoryStatistics> statistics) {
+        if (statistics.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, distinctByKey(statistics), BATCH_SIZE, this::bind);
+    }
+
+    private List<GithubRepositoryStatistics> distinctByKey(List<GithubRepositoryStatistics> statistics) {
+        Map<RowKey, GithubRepositoryStatistics> rows = new LinkedHashMap<>();
+        for (GithubRepositoryStatistics stats : statistics) {
+            rows.put(RowKey.of(stats), stats);
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private void bind(PreparedStatement ps, GithubRepositoryStatistics stats) throws SQLException {
+        ps.setString(1, stats.getRepoOwner());
+        ps.setString(2, stats.getRepoName());
+        ps.setString(3, stats.getContributorGithubId());
+        ps.setInt(4, stats.getStargazersCount());
+        ps.setInt(5, stats.getForksCount());
+        ps.setInt(6, stats.getWatchersCount());
+        ps.setBoolean(7, Boolean.TRUE.equals(stats.getIsOwned()));
+        ps.setInt(8, stats.getTotalCommitsCount());
+        ps.setInt(9, stats.getTotalPrsCount());
+        ps.setInt(10, stats.getTotalIssuesCount());
+        ps.setInt(11, stats.getUserCommitsCount());
+        ps.setInt(12, stats.getUserPrsCount());
+        ps.setInt(13, stats.getUserIssuesCount());
+        setTimestamp(ps, 14, stats.getLastCommitDate());
+        ps.setString(15, stats.getDescription());
+        ps.setString(16, stats.getPrimaryLanguage());
+        setTimestamp(ps, 17, stats.getRepoCreatedAt());
+        setTimestamp(ps, 18, stats.getCalculatedAt());
+    }
+
+    private void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+            return;
+        }
+        ps.setTimestamp(index, Timestamp.valueOf(value));
+    }
+
+    private record RowKey(String repoOwner, String repoName, String contributorGithubId) {
+
+        static RowKey of(GithubRepositoryStatistics stats) {
+            return new RowKey(stats.getRepoOwner(), stats.getRepoName(), stats.getContributorGithubId());
+        }
+    }
 }
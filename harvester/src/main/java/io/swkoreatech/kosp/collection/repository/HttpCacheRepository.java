@@ -0,0 +1,8 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import io.swkoreatech.kosp.collection.document.HttpCacheDocument;
+
+public interface HttpCacheRepository extends MongoRepository<HttpCacheDocument, String> {
+}
@@ -8,8 +8,6 @@ import io.swkoreatech.kosp.collection.document.IssueDocument;
 
 public interface IssueDocumentRepository extends MongoRepository<IssueDocument, String> {
 
-    List<IssueDocument> findByUserId(Long userId);
-
     List<IssueDocument> findByUserIdAndRepositoryName(Long userId, String repositoryName);
 
     boolean existsByUserIdAndIssueNumber(Long userId, Long issueNumber);
@@ -0,0 +1,15 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import io.swkoreatech.kosp.collection.document.PageSizeDocument;
+
+public interface PageSizeRepository extends MongoRepository<PageSizeDocument, String> {
+
+    List<PageSizeDocument> findByUserId(Long userId);
+
+    Optional<PageSizeDocument> findByUserIdAndScope(Long userId, String scope);
+}
@@ -0,0 +1,60 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import io.swkoreatech.kosp.collection.document.CollectionMetadataDocument;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes the per-user pagination checkpoints kept on {@link CollectionMetadataDocument}.
+ *
+ * <p>The pull request and issue steps run in parallel and checkpoint into the same document, so
+ * every write sets a single field in place instead of saving the whole document.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaginationCheckpointRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public Optional<String> findCursor(Long userId, Field field) {
+        Query query = byUserId(userId);
+        query.fields().include(field.name);
+        return Optional.ofNullable(mongoTemplate.findOne(query, CollectionMetadataDocument.class))
+            .map(field.getter);
+    }
+
+    public void saveCursor(Long userId, Field field, String cursor) {
+        Instant now = Instant.now();
+        Update update = new Update()
+            .set(field.name, cursor)
+            .set("updatedAt", now)
+            .setOnInsert("createdAt", now);
+        mongoTemplate.upsert(byUserId(userId), update, CollectionMetadataDocument.class);
+    }
+
+    private Query byUserId(Long userId) {
+        return Query.query(Criteria.where("userId").is(userId));
+    }
+
+    public enum Field {
+        PULL_REQUESTS("lastPrCursor", CollectionMetadataDocument::getLastPrCursor),
+        ISSUES("lastIssueCursor", CollectionMetadataDocument::getLastIssueCursor);
+
+        private final String name;
+        private final Function<CollectionMetadataDocument, String> getter;
+
+        Field(String name, Function<CollectionMetadataDocument, String> getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+    }
+}
@@ -8,8 +8,6 @@ import io.swkoreatech.kosp.collection.document.PullRequestDocument;
 
 public interface PullRequestDocumentRepository extends MongoRepository<PullRequestDocument, String> {
 
-    List<PullRequestDocument> findByUserId(Long userId);
-
     List<PullRequestDocument> findByUserIdAndRepositoryName(Long userId, String repositoryName);
 
     boolean existsByUserIdAndPrNumber(Long userId, Long prNumber);
@@ -0,0 +1,8 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import io.swkoreatech.kosp.collection.document.RepositoryMetadataDocument;
+
+public interface RepositoryMetadataRepository extends MongoRepository<RepositoryMetadataDocument, String> {
+}
@@ -0,0 +1,15 @@
+package io.swkoreatech.kosp.collection.snapshot;
+
+import java.util.List;
+
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.UserActivitySummary;
+
+/**
+ * Collected activity of one user, read once per job and shared by the steps that derive
+ * statistics and scores from it.
+ *
+ * @param repos    contributed repositories of the user with their shared metadata
+ * @param activity server-side aggregated commit, pull request and issue counts
+ */
+public record ActivitySnapshot(List<ContributedRepository> repos, UserActivitySummary activity) {
+}
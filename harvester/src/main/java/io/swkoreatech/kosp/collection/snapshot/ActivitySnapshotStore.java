@@ -0,0 +1,65 @@
+package io.swkoreatech.kosp.collection.snapshot;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+import io.swkoreatech.kosp.collection.document.ContributedRepoDocument;
+import io.swkoreatech.kosp.collection.document.RepositoryMetadataDocument;
+import io.swkoreatech.kosp.collection.metadata.RepositoryMetadataStore;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.UserActivitySummary;
+import io.swkoreatech.kosp.collection.repository.ContributedRepoDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds one {@link ActivitySnapshot} per running job execution.
+ *
+ * <p>The snapshot is built by the first step that asks for it, after mining has finished, and is
+ * dropped when the job ends. It is kept in memory rather than in the job ExecutionContext, which
+ * Spring Batch serializes into its metadata tables after every step.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivitySnapshotStore implements JobExecutionListener {
+
+    private final ActivityAggregationRepository activityAggregationRepository;
+    private final ContributedRepoDocumentRepository repoDocumentRepository;
+    private final RepositoryMetadataStore repositoryMetadataStore;
+    private final Map<Long, ActivitySnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public ActivitySnapshot get(Long jobExecutionId, Long userId) {
+        return snapshots.computeIfAbsent(jobExecutionId, id -> load(userId));
+    }
+
+    private ActivitySnapshot load(Long userId) {
+        List<ContributedRepository> repos = joinMetadata(repoDocumentRepository.findByUserId(userId));
+        UserActivitySummary activity = activityAggregationRepository.summarize(userId, ZoneId.systemDefault());
+        log.debug("Built activity snapshot for user {} over {} repositories", userId, repos.size());
+        return new ActivitySnapshot(repos, activity);
+    }
+
+    private List<ContributedRepository> joinMetadata(List<ContributedRepoDocument> contributions) {
+        Set<String> fullNames = contributions.stream()
+            .map(ContributedRepoDocument::getRepoFullName)
+            .collect(Collectors.toSet());
+        Map<String, RepositoryMetadataDocument> metadata = repositoryMetadataStore.findAll(fullNames);
+        return contributions.stream()
+            .map(contribution -> new ContributedRepository(contribution, metadata.get(contribution.getRepoFullName())))
+            .toList();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        snapshots.remove(jobExecution.getId());
+    }
+}
@@ -0,0 +1,55 @@
+package io.swkoreatech.kosp.collection.snapshot;
+
+import java.time.Instant;
+
+import io.swkoreatech.kosp.collection.document.ContributedRepoDocument;
+import io.swkoreatech.kosp.collection.document.RepositoryMetadataDocument;
+
+/**
+ * A user's contribution to a repository joined with the shared facts about that repository.
+ *
+ * @param contribution per-user contribution document
+ * @param metadata     shared repository metadata, {@code null} if it could not be fetched
+ */
+public record ContributedRepository(ContributedRepoDocument contribution, RepositoryMetadataDocument metadata) {
+
+    public String repositoryOwner() {
+        return contribution.getRepositoryOwner();
+    }
+
+    public String repositoryName() {
+        return contribution.getRepositoryName();
+    }
+
+    public String fullName() {
+        return contribution.getRepoFullName();
+    }
+
+    public boolean isOwner() {
+        return Boolean.TRUE.equals(contribution.getIsOwner());
+    }
+
+    public Integer stargazersCount() {
+        return metadata != null ? metadata.getStargazersCount() : null;
+    }
+
+    public Integer forksCount() {
+        return metadata != null ? metadata.getForksCount() : null;
+    }
+
+    public Integer watchersCount() {
+        return metadata != null ? metadata.getWatchersCount() : null;
+    }
+
+    public String description() {
+        return metadata != null ? metadata.getDescription() : null;
+    }
+
+    public String primaryLanguage() {
+        return metadata != null ? metadata.getPrimaryLanguage() : null;
+    }
+
+    public Instant repoCreatedAt() {
+        return metadata != null ? metadata.getRepoCreatedAt() : null;
+    }
+}
@@ -0,0 +1,45 @@
+package io.swkoreatech.kosp.collection.step;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning knobs for RepositoryDiscoveryStep.
+ *
+ * @param maxRangesPerRequest upper bound of monthly ranges packed into one GraphQL request
+ * @param nodeBudgetPerRequest connection nodes a single discovery request may ask for;
+ *                             keeps batched queries well below GitHub's timeout for heavy documents
+ * @param repositoryMetadataTtl age after which shared repository metadata is fetched again
+ */
+@ConfigurationProperties(prefix = "harvester.discovery")
+public record DiscoveryProperties(
+    Integer maxRangesPerRequest,
+    Integer nodeBudgetPerRequest,
+    Duration repositoryMetadataTtl
+) {
+
+    private static final int DEFAULT_MAX_RANGES_PER_REQUEST = 12;
+    private static final int DEFAULT_NODE_BUDGET_PER_REQUEST = 4000;
+    private static final Duration DEFAULT_REPOSITORY_METADATA_TTL = Duration.ofHours(24);
+
+    public DiscoveryProperties {
+        if (maxRangesPerRequest == null || maxRangesPerRequest < 1) {
+            maxRangesPerRequest = DEFAULT_MAX_RANGES_PER_REQUEST;
+        }
+        if (nodeBudgetPerRequest == null || nodeBudgetPerRequest < 1) {
+            nodeBudgetPerRequest = DEFAULT_NODE_BUDGET_PER_REQUEST;
+        }
+        if (repositoryMetadataTtl == null || repositoryMetadataTtl.isNegative() || repositoryMetadataTtl.isZero()) {
+            repositoryMetadataTtl = DEFAULT_REPOSITORY_METADATA_TTL;
+        }
+    }
+
+    /**
+     * Derives how many ranges fit into one request from the node cost of a single range.
+     */
+    public int rangesPerRequest(int nodesPerRange) {
+        int affordable = nodeBudgetPerRequest / nodesPerRange;
+        return Math.max(1, Math.min(maxRangesPerRequest, affordable));
+    }
+}
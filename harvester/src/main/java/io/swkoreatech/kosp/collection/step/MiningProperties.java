@@ -0,0 +1,44 @@
+package io.swkoreatech.kosp.collection.step;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning knobs for the mining steps.
+ *
+ * @param commitConcurrency upper bound of repositories mined at the same time by
+ *                          CommitMiningStep; 1 keeps the sequential mode
+ * @param pointsPerWorker GraphQL points reserved per concurrent repository worker;
+ *                        the effective concurrency never exceeds remaining / pointsPerWorker
+ * @param checkpointInterval number of pages after which a pagination run stores its cursor
+ */
+@ConfigurationProperties(prefix = "harvester.mining")
+public record MiningProperties(
+    Integer commitConcurrency,
+    Integer pointsPerWorker,
+    Integer checkpointInterval
+) {
+
+    private static final int DEFAULT_COMMIT_CONCURRENCY = 4;
+    private static final int DEFAULT_POINTS_PER_WORKER = 200;
+    private static final int DEFAULT_CHECKPOINT_INTERVAL = 5;
+
+    public MiningProperties {
+        if (commitConcurrency == null || commitConcurrency < 1) {
+            commitConcurrency = DEFAULT_COMMIT_CONCURRENCY;
+        }
+        if (pointsPerWorker == null || pointsPerWorker < 1) {
+            pointsPerWorker = DEFAULT_POINTS_PER_WORKER;
+        }
+        if (checkpointInterval == null || checkpointInterval < 1) {
+            checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        }
+    }
+
+    /**
+     * Derives the number of repositories to mine concurrently from the remaining GraphQL budget.
+     */
+    public int commitConcurrencyFor(int remainingPoints) {
+        int affordable = remainingPoints / pointsPerWorker;
+        return Math.max(1, Math.min(commitConcurrency, affordable));
+    }
+}
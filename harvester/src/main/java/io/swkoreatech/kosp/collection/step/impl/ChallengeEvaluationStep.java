@@ -1,6 +1,7 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -13,9 +14,11 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import io.swkoreatech.kosp.collection.step.StepProvider;
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
 import io.swkoreatech.kosp.common.event.ChallengeEvaluationRequest;
 import io.swkoreatech.kosp.infra.rabbitmq.constants.QueueNames;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,6 +29,12 @@ import lombok.extern.slf4j.Slf4j;
  * REQUIRES: userId from job parameters, score calculation completed
  * PROVIDES: Event published to challenge evaluation queue
  * PURPOSE: Notifies challenge-service to check user challenges and award points
+ *
+ * <p>The request is marked as the user's latest before it is sent, so challenge-service skips
+ * older requests for the same user that retries or re-queues left in the queue. If the send fails,
+ * the mark is withdrawn again, so those older requests are not skipped in favour of a request that
+ * never arrives. The request carries the challenge inputs the statistics steps recorded since the
+ * user's last completed evaluation, or none when unknown.
  */
 @Slf4j
 @Component
@@ -37,7 +46,9 @@ public class ChallengeEvaluationStep implements StepProvider {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final RabbitTemplate rabbitTemplate;
+    private final ChallengeEvaluationCoalescer evaluationCoalescer;
     private final StepCompletionListener stepCompletionListener;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
@@ -51,6 +62,7 @@ public class ChallengeEvaluationStep implements StepProvider {
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -60,17 +72,25 @@ public class ChallengeEvaluationStep implements StepProvider {
     }
 
     private void publishChallengeEvaluationRequest(Long userId) {
+        String messageId = UUID.randomUUID().toString();
+        Set<String> pendingInputs = evaluationCoalescer.markLatest(userId, messageId);
         ChallengeEvaluationRequest request = new ChallengeEvaluationRequest(
             userId,
-            UUID.randomUUID().toString(),
-            LocalDateTime.now()
-        );
-        
-        rabbitTemplate.convertAndSend(
-            QueueNames.CHALLENGE_EVALUATION,
-            request
+            messageId,
+            LocalDateTime.now(),
+            pendingInputs
         );
 
+        try {
+            rabbitTemplate.convertAndSend(
+                QueueNames.CHALLENGE_EVALUATION,
+                request
+            );
+        } catch (RuntimeException e) {
+            evaluationCoalescer.discard(userId, messageId);
+            throw e;
+        }
+
         log.info("Published challenge evaluation request for userId={}", userId);
     }
 }
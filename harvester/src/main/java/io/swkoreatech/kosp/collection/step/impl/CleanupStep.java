@@ -17,6 +17,7 @@ import io.swkoreatech.kosp.collection.step.StepProvider;
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
 import io.swkoreatech.kosp.common.github.model.GithubUser;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import io.swkoreatech.kosp.user.GithubUserRepository;
 import io.swkoreatech.kosp.domain.user.model.User;
 import io.swkoreatech.kosp.domain.user.repository.UserRepository;
@@ -45,6 +46,7 @@ public class CleanupStep implements StepProvider {
     private final GithubUserRepository githubUserRepository;
     private final CollectionMetadataRepository metadataRepository;
     private final StepCompletionListener stepCompletionListener;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
@@ -55,6 +57,7 @@ public class CleanupStep implements StepProvider {
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -93,7 +96,6 @@ public class CleanupStep implements StepProvider {
         return CollectionMetadataDocument.builder()
             .id(metadata.getId()).userId(userId).lastFullCollection(now)
             .lastIncrementalCollection(metadata.getLastIncrementalCollection())
-            .lastCommitCursor(metadata.getLastCommitCursor())
             .lastPrCursor(metadata.getLastPrCursor())
             .lastIssueCursor(metadata.getLastIssueCursor())
             .createdAt(metadata.getCreatedAt()).updatedAt(now).build();
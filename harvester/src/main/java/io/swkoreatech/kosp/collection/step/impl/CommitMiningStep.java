@@ -1,7 +1,15 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.MDC;
 
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
@@ -9,26 +17,45 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import io.swkoreatech.kosp.client.GithubGraphQLClient;
+import io.swkoreatech.kosp.client.RateLimitGovernor;
+import io.swkoreatech.kosp.client.RateLimitState;
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
+import io.swkoreatech.kosp.client.dto.RateLimitResponse;
 import io.swkoreatech.kosp.client.dto.RepositoryCommitsResponse;
 import io.swkoreatech.kosp.client.dto.RepositoryCommitsResponse.CommitNode;
 import io.swkoreatech.kosp.client.dto.RepositoryCommitsResponse.PageInfo;
 import io.swkoreatech.kosp.collection.document.CommitDocument;
-import io.swkoreatech.kosp.collection.repository.CommitDocumentRepository;
+import io.swkoreatech.kosp.collection.document.CommitWatermarkDocument;
+import io.swkoreatech.kosp.collection.document.PageSizeDocument;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter.BulkInsertResult;
+import io.swkoreatech.kosp.collection.repository.CommitWatermarkRepository;
+import io.swkoreatech.kosp.collection.repository.PageSizeRepository;
+import io.swkoreatech.kosp.collection.step.MiningProperties;
 import io.swkoreatech.kosp.collection.step.StepContextKeys;
 import io.swkoreatech.kosp.collection.step.StepProvider;
+import io.swkoreatech.kosp.collection.util.CursorCheckpoint;
 import io.swkoreatech.kosp.collection.util.GraphQLErrorHandler;
 import io.swkoreatech.kosp.collection.util.GraphQLTypeFactory;
+import io.swkoreatech.kosp.collection.util.MiningCounter;
+import io.swkoreatech.kosp.collection.util.MiningMetrics;
+import io.swkoreatech.kosp.collection.util.PageSizeController;
 import io.swkoreatech.kosp.collection.util.PaginationHelper;
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
 import io.swkoreatech.kosp.job.LoggingConstants;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Mines commit data from discovered repositories.
@@ -38,6 +65,13 @@ import lombok.extern.slf4j.Slf4j;
  * PROVIDES: (none - writes to MongoDB only)
  * PURPOSE: Fetches all commits authored by user across contributed repos using GraphQL,
  *          saves to CommitDocument collection for score calculation and statistics.
+ *
+ * <p>Repositories are mined concurrently when {@code harvester.mining.commit-concurrency} is
+ * above 1; the effective fan-out is capped by the user's remaining GraphQL points. Every
+ * repository keeps its own reduced-page-size retry.
+ *
+ * <p>Each repository keeps a {@link CommitWatermarkDocument}; once a repository has been paged to
+ * the end, later runs only request history {@code since} the newest committed date seen.
  */
 @Slf4j
 @Component
@@ -46,16 +80,20 @@ public class CommitMiningStep implements StepProvider {
 
     private static final String STEP_NAME = "commitMiningStep";
     private static final int DEFAULT_PAGE_SIZE = 30;
-    private static final int RETRY_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String PAGE_SIZE_SCOPE_PREFIX = "commits:";
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final GithubGraphQLClient graphQLClient;
-    private final CommitDocumentRepository commitDocumentRepository;
+    private final RateLimitGovernor rateLimitGovernor;
+    private final BulkDocumentWriter bulkDocumentWriter;
+    private final CommitWatermarkRepository watermarkRepository;
+    private final PageSizeRepository pageSizeRepository;
+    private final MiningProperties miningProperties;
+    private final MiningMetrics miningMetrics;
     private final StepCompletionListener stepCompletionListener;
-
-    private int totalSavedCount;
-    private int totalSkippedCount;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
@@ -65,6 +103,7 @@ public class CommitMiningStep implements StepProvider {
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -90,10 +129,10 @@ public class CommitMiningStep implements StepProvider {
             return;
         }
 
-        totalSavedCount = 0;
-        totalSkippedCount = 0;
-        int totalMined = mineCommitsFromRepos(userId, repos, nodeId, token);
-        log.info(LoggingConstants.MINING_SUMMARY, totalMined, totalSavedCount, totalSkippedCount);
+        MiningSession session = new MiningSession(
+            userId, nodeId, token, miningMetrics.newCounter("commits"), loadWatermarks(userId), loadPageSizes(userId));
+        int totalMined = mineCommitsFromRepos(session, repos);
+        log.info(LoggingConstants.MINING_SUMMARY, totalMined, session.counter().getSaved(), session.counter().getSkipped());
      }
 
      private String[] getDiscoveredRepos(ExecutionContext context) {
@@ -104,15 +143,94 @@ public class CommitMiningStep implements StepProvider {
          return null;
      }
 
-    private int mineCommitsFromRepos(Long userId, String[] repos, String nodeId, String token) {
+     private Map<String, CommitWatermarkDocument> loadWatermarks(Long userId) {
+         return watermarkRepository.findByUserId(userId).stream()
+             .collect(Collectors.toMap(
+                 CommitWatermarkDocument::getRepoFullName,
+                 Function.identity(),
+                 (first, second) -> first
+             ));
+     }
+
+     private Map<String, PageSizeDocument> loadPageSizes(Long userId) {
+         return pageSizeRepository.findByUserId(userId).stream()
+             .filter(hint -> hint.getScope().startsWith(PAGE_SIZE_SCOPE_PREFIX))
+             .collect(Collectors.toMap(
+                 PageSizeDocument::getScope,
+                 Function.identity(),
+                 (first, second) -> first
+             ));
+     }
+
+    private int mineCommitsFromRepos(MiningSession session, String[] repos) {
+         int concurrency = resolveConcurrency(session.token(), repos.length);
+         if (concurrency <= 1) {
+             return mineSequentially(session, repos);
+         }
+         log.info("Mining {} repositories with concurrency {}", repos.length, concurrency);
+         return mineConcurrently(session, repos, concurrency);
+     }
+
+    private int mineSequentially(MiningSession session, String[] repos) {
          int total = 0;
          for (String repoFullName : repos) {
-             total += mineCommitsForRepo(userId, repoFullName, nodeId, token);
+             total += mineCommitsForRepo(session, repoFullName);
          }
          return total;
      }
 
-    private int mineCommitsForRepo(Long userId, String repoFullName, String nodeId, String token) {
+    private int mineConcurrently(MiningSession session, String[] repos, int concurrency) {
+         Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+         Integer total = Flux.fromArray(repos)
+             .flatMap(repoFullName -> Mono.fromCallable(
+                     () -> mineWithMdc(mdcContext, () -> mineCommitsForRepo(session, repoFullName)))
+                 .subscribeOn(Schedulers.boundedElastic()), concurrency)
+             .reduce(0, Integer::sum)
+             .block();
+         return total != null ? total : 0;
+     }
+
+    private int mineWithMdc(Map<String, String> mdcContext, IntSupplier miner) {
+         if (mdcContext != null) {
+             MDC.setContextMap(mdcContext);
+         }
+         try {
+             return miner.getAsInt();
+         } finally {
+             MDC.clear();
+         }
+     }
+
+    private int resolveConcurrency(String token, int repoCount) {
+         if (miningProperties.commitConcurrency() <= 1 || repoCount <= 1) {
+             return 1;
+         }
+         int remaining = fetchRemainingPoints(token);
+         return Math.min(repoCount, miningProperties.commitConcurrencyFor(remaining));
+     }
+
+    private int fetchRemainingPoints(String token) {
+         Optional<RateLimitState> known = rateLimitGovernor.state(token, RateLimitGovernor.Resource.GRAPHQL);
+         if (known.isPresent() && known.get().resetAt() != null) {
+             return known.get().remaining();
+         }
+         try {
+             GraphQLResponse<RateLimitResponse> response = graphQLClient
+                 .getRateLimit(token, GraphQLTypeFactory.responseType(RateLimitResponse.class))
+                 .block();
+             if (response == null || response.hasErrors()) {
+                 return 0;
+             }
+             RateLimitResponse data = response.getDataAs(RateLimitResponse.class);
+             rateLimitGovernor.record(token, data.getRateLimit());
+             return data.getRemainingOrDefault(0);
+         } catch (Exception e) {
+             log.warn("Failed to read GraphQL rate limit, falling back to sequential mining: {}", e.getMessage());
+             return 0;
+         }
+     }
+
+    private int mineCommitsForRepo(MiningSession session, String repoFullName) {
          String[] parts = repoFullName.split("/");
          if (parts.length != 2) {
              log.warn("Invalid repo name format: {}", repoFullName);
@@ -121,38 +239,93 @@ public class CommitMiningStep implements StepProvider {
 
          String owner = parts[0];
          String name = parts[1];
-         return fetchAllCommits(userId, owner, name, nodeId, token);
+         CommitWatermarkDocument watermark = session.watermarks().get(repoFullName);
+         if (watermark == null) {
+             watermark = CommitWatermarkDocument.createNew(session.userId(), owner, name);
+         }
+         return fetchAllCommits(session, watermark);
      }
 
-     private int fetchAllCommits(Long userId, String owner, String name, String nodeId, String token) {
+     private int fetchAllCommits(MiningSession session, CommitWatermarkDocument watermark) {
+          String owner = watermark.getRepositoryOwner();
+          String name = watermark.getRepositoryName();
           Instant now = Instant.now();
-          int result = paginateCommits(userId, owner, name, nodeId, token, now, DEFAULT_PAGE_SIZE);
-          
+          RepoProgress progress = RepoProgress.resumedFrom(watermark);
+          PageSizeDocument pageSizeHint = pageSizeHintFor(session, watermark);
+          PageSizeController pageSize = PageSizeController.startingAt(pageSizeHint.getPageSize(), MAX_PAGE_SIZE);
+          CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom(
+              watermark.getResumeCursor(),
+              miningProperties.checkpointInterval(),
+              cursor -> storeCheckpoint(watermark, progress, cursor)
+          );
+          int result = paginateCommits(session, watermark, now, pageSize, checkpoint, progress);
+          rememberPageSize(pageSizeHint, pageSize);
+
           if (result >= 0) {
+              saveWatermarkIfComplete(watermark, progress);
               return result;
           }
-          
+
           if (result == -2) {
               log.warn("Skipping repo {}/{} — non-retryable GraphQL error (pageSize retry won't help)", owner, name);
               return 0;
           }
-          
-          log.warn("Retrying {}/{} with reduced page size {}", owner, name, RETRY_PAGE_SIZE);
-          result = paginateCommits(userId, owner, name, nodeId, token, now, RETRY_PAGE_SIZE);
-          
-          if (result >= 0) {
-              return result;
-          }
-          
-          log.warn("Skipping repo {}/{} after retry failure", owner, name);
+
+          log.warn("Skipping repo {}/{} after failing at the minimum page size", owner, name);
           return 0;
       }
 
-     private int paginateCommits(Long userId, String owner, String name, String nodeId, String token, Instant now, int pageSize) {
+     private PageSizeDocument pageSizeHintFor(MiningSession session, CommitWatermarkDocument watermark) {
+         String scope = PAGE_SIZE_SCOPE_PREFIX + watermark.getRepoFullName();
+         PageSizeDocument hint = session.pageSizes().get(scope);
+         if (hint != null) {
+             return hint;
+         }
+         return PageSizeDocument.createNew(session.userId(), scope, DEFAULT_PAGE_SIZE);
+     }
+
+     /**
+      * Only a run that reached its last page settles on a size worth starting the next run with.
+      */
+     private void rememberPageSize(PageSizeDocument pageSizeHint, PageSizeController pageSize) {
+         if (pageSize.isCompleted() && pageSizeHint.remember(pageSize.current())) {
+             pageSizeRepository.save(pageSizeHint);
+         }
+     }
+
+     private void storeCheckpoint(CommitWatermarkDocument watermark, RepoProgress progress, String cursor) {
+         watermark.checkpoint(cursor, progress.newestCommittedAt, progress.newestOid);
+         watermarkRepository.save(watermark);
+     }
+
+     private void saveWatermarkIfComplete(CommitWatermarkDocument watermark, RepoProgress progress) {
+         if (!progress.completed || progress.newestCommittedAt == null) {
+             return;
+         }
+         watermark.advance(progress.newestCommittedAt, progress.newestOid);
+         watermarkRepository.save(watermark);
+     }
+
+     private int paginateCommits(
+         MiningSession session,
+         CommitWatermarkDocument watermark,
+         Instant now,
+         PageSizeController pageSize,
+         CursorCheckpoint checkpoint,
+         RepoProgress progress
+     ) {
+         String owner = watermark.getRepositoryOwner();
+         String name = watermark.getRepositoryName();
+         Instant since = watermark.getLastCommittedAt();
          return PaginationHelper.paginate(
-             cursor -> fetchCommitsPage(owner, name, nodeId, cursor, token, pageSize),
+             (cursor, size) -> fetchCommitsPage(owner, name, session.nodeId(), cursor, since, session.token(), size),
+             pageSize,
+             checkpoint,
              RepositoryCommitsResponse::getPageInfo,
-             (data, cursor) -> saveCommits(userId, owner, name, data.getCommits(), now),
+             (data, cursor) -> {
+                 progress.track(data);
+                 return saveCommits(session, owner, name, data.getCommits(), now);
+             },
              "repo",
              owner + "/" + name,
              RepositoryCommitsResponse.class
@@ -164,30 +337,40 @@ public class CommitMiningStep implements StepProvider {
          String name,
          String nodeId,
          String cursor,
+         Instant since,
          String token,
          int pageSize
      ) {
-         return graphQLClient.getRepositoryCommits(owner, name, nodeId, cursor, token, pageSize, GraphQLTypeFactory.<RepositoryCommitsResponse>responseType()).block();
+         return graphQLClient.getRepositoryCommits(owner, name, nodeId, cursor, since, token, pageSize, GraphQLTypeFactory.responseType(RepositoryCommitsResponse.class)).block();
      }
 
-       private int saveCommits(Long userId, String owner, String name, List<CommitNode> commits, Instant now) {
-          int saved = 0;
+       private int saveCommits(
+           MiningSession session,
+           String owner,
+           String name,
+           List<CommitNode> commits,
+           Instant now
+       ) {
+          session.counter().recordPage(commits.size());
+          List<CommitDocument> documents = new ArrayList<>(commits.size());
           for (CommitNode commit : commits) {
-               if (commit == null) {
-                   totalSkippedCount++;
-                   continue;
-               }
-               if (commitDocumentRepository.existsByUserIdAndRepositoryNameAndSha(userId, name, commit.getOid())) {
-                 totalSkippedCount++;
-                 continue;
-             }
+              if (commit == null) {
+                  session.counter().addSkipped(1);
+                  continue;
+              }
+              documents.add(buildDocument(session.userId(), owner, name, commit, now));
+          }
 
-             CommitDocument document = buildDocument(userId, owner, name, commit, now);
-             commitDocumentRepository.save(document);
-             saved++;
-             totalSavedCount++;
-         }
-         return saved;
+          BulkInsertResult result = bulkDocumentWriter.insertMissing(CommitDocument.class, documents, this::uniqueKey);
+          session.counter().addSaved(result.inserted());
+          session.counter().addSkipped(result.existing());
+          return result.inserted();
+      }
+
+     private Query uniqueKey(CommitDocument document) {
+         return Query.query(Criteria.where("userId").is(document.getUserId())
+             .and("repositoryName").is(document.getRepositoryName())
+             .and("sha").is(document.getSha()));
      }
 
     private CommitDocument buildDocument(Long userId, String owner, String name, CommitNode commit, Instant now) {
@@ -234,4 +417,48 @@ public class CommitMiningStep implements StepProvider {
             .changedFiles(commit.getChangedFiles())
             .collectedAt(now);
     }
+
+    private record MiningSession(
+        Long userId,
+        String nodeId,
+        String token,
+        MiningCounter counter,
+        Map<String, CommitWatermarkDocument> watermarks,
+        Map<String, PageSizeDocument> pageSizes
+    ) {}
+
+    /**
+     * Tracks the newest commit seen while paging one repository and whether the last page was reached.
+     * The watermark only advances for complete runs, because history is returned newest first and a
+     * partial run would otherwise hide older commits that were never fetched. A run resumed from a
+     * checkpoint starts with the newest commit its earlier pages had seen.
+     */
+    private static class RepoProgress {
+        Instant newestCommittedAt;
+        String newestOid;
+        boolean completed;
+
+        static RepoProgress resumedFrom(CommitWatermarkDocument watermark) {
+            RepoProgress progress = new RepoProgress();
+            if (watermark.getResumeCursor() != null) {
+                progress.newestCommittedAt = watermark.getResumeNewestCommittedAt();
+                progress.newestOid = watermark.getResumeNewestOid();
+            }
+            return progress;
+        }
+
+        void track(RepositoryCommitsResponse data) {
+            for (CommitNode commit : data.getCommits()) {
+                if (commit == null || commit.getCommittedDate() == null) {
+                    continue;
+                }
+                if (newestCommittedAt == null || commit.getCommittedDate().isAfter(newestCommittedAt)) {
+                    newestCommittedAt = commit.getCommittedDate();
+                    newestOid = commit.getOid();
+                }
+            }
+            PageInfo pageInfo = data.getPageInfo();
+            completed = pageInfo == null || !pageInfo.isHasNextPage();
+        }
+    }
 }
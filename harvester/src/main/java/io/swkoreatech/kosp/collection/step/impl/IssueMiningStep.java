@@ -1,6 +1,7 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.batch.core.Step;
@@ -9,6 +10,8 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -18,15 +21,25 @@ import io.swkoreatech.kosp.client.dto.UserIssuesResponse;
 import io.swkoreatech.kosp.client.dto.UserIssuesResponse.IssueNode;
 import io.swkoreatech.kosp.client.dto.UserIssuesResponse.PageInfo;
 import io.swkoreatech.kosp.collection.document.IssueDocument;
-import io.swkoreatech.kosp.collection.repository.IssueDocumentRepository;
+import io.swkoreatech.kosp.collection.document.PageSizeDocument;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter.BulkInsertResult;
+import io.swkoreatech.kosp.collection.repository.PageSizeRepository;
+import io.swkoreatech.kosp.collection.repository.PaginationCheckpointRepository;
+import io.swkoreatech.kosp.collection.step.MiningProperties;
 import io.swkoreatech.kosp.collection.step.StepContextKeys;
 import io.swkoreatech.kosp.collection.step.StepProvider;
+import io.swkoreatech.kosp.collection.util.CursorCheckpoint;
 import io.swkoreatech.kosp.collection.util.GraphQLErrorHandler;
 import io.swkoreatech.kosp.collection.util.GraphQLTypeFactory;
+import io.swkoreatech.kosp.collection.util.MiningCounter;
+import io.swkoreatech.kosp.collection.util.MiningMetrics;
+import io.swkoreatech.kosp.collection.util.PageSizeController;
 import io.swkoreatech.kosp.collection.util.PaginationHelper;
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
 import io.swkoreatech.kosp.job.LoggingConstants;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,15 +58,21 @@ import lombok.extern.slf4j.Slf4j;
 public class IssueMiningStep implements StepProvider {
 
     private static final String STEP_NAME = "issueMiningStep";
+    private static final String PAGE_SIZE_SCOPE = "issues";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final PaginationCheckpointRepository.Field CHECKPOINT_FIELD = PaginationCheckpointRepository.Field.ISSUES;
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final GithubGraphQLClient graphQLClient;
-    private final IssueDocumentRepository issueDocumentRepository;
+    private final BulkDocumentWriter bulkDocumentWriter;
+    private final PageSizeRepository pageSizeRepository;
+    private final PaginationCheckpointRepository checkpointRepository;
+    private final MiningProperties miningProperties;
+    private final MiningMetrics miningMetrics;
     private final StepCompletionListener stepCompletionListener;
-
-    private int totalSavedCount;
-    private int totalSkippedCount;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
@@ -63,6 +82,7 @@ public class IssueMiningStep implements StepProvider {
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -82,48 +102,77 @@ public class IssueMiningStep implements StepProvider {
             return;
         }
 
-        totalSavedCount = 0;
-        totalSkippedCount = 0;
-        int totalMined = fetchAllIssues(userId, login, token);
-        log.info(LoggingConstants.MINING_SUMMARY, totalMined, totalSavedCount, totalSkippedCount);
+        MiningCounter counter = miningMetrics.newCounter("issues");
+        int totalMined = fetchAllIssues(userId, login, token, counter);
+        log.info(LoggingConstants.MINING_SUMMARY, totalMined, counter.getSaved(), counter.getSkipped());
     }
 
-    private int fetchAllIssues(Long userId, String login, String token) {
+    private int fetchAllIssues(Long userId, String login, String token, MiningCounter counter) {
          Instant now = Instant.now();
-         return PaginationHelper.paginate(
-             cursor -> fetchIssuesPage(login, cursor, token),
+         PageSizeDocument pageSizeHint = loadPageSize(userId);
+         PageSizeController pageSize = PageSizeController.startingAt(pageSizeHint.getPageSize(), MAX_PAGE_SIZE);
+         int result = PaginationHelper.paginate(
+             (cursor, size) -> fetchIssuesPage(login, cursor, size, token),
+             pageSize,
+             loadCheckpoint(userId),
              UserIssuesResponse::getPageInfo,
-             (data, cursor) -> {
-                 int saved = saveIssues(userId, data.getIssues(), now);
-                 totalSavedCount += saved;
-                 totalSkippedCount += data.getIssues().size() - saved;
-                 return saved;
-             },
+             (data, cursor) -> saveIssues(userId, data.getIssues(), now, counter),
              "user",
              login,
              UserIssuesResponse.class
          );
-      }
+         rememberPageSize(pageSizeHint, pageSize);
+         return result;
+     }
+
+    private CursorCheckpoint loadCheckpoint(Long userId) {
+        return CursorCheckpoint.resumingFrom(
+            checkpointRepository.findCursor(userId, CHECKPOINT_FIELD).orElse(null),
+            miningProperties.checkpointInterval(),
+            cursor -> checkpointRepository.saveCursor(userId, CHECKPOINT_FIELD, cursor)
+        );
+    }
 
-    private GraphQLResponse<UserIssuesResponse> fetchIssuesPage(String login, String cursor, String token) {
-        return graphQLClient.getUserIssues(login, cursor, token, GraphQLTypeFactory.<UserIssuesResponse>responseType()).block();
+    private PageSizeDocument loadPageSize(Long userId) {
+        return pageSizeRepository.findByUserIdAndScope(userId, PAGE_SIZE_SCOPE)
+            .orElseGet(() -> PageSizeDocument.createNew(userId, PAGE_SIZE_SCOPE, DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Only a run that reached its last page settles on a size worth starting the next run with.
+     */
+    private void rememberPageSize(PageSizeDocument pageSizeHint, PageSizeController pageSize) {
+        if (pageSize.isCompleted() && pageSizeHint.remember(pageSize.current())) {
+            pageSizeRepository.save(pageSizeHint);
+        }
     }
 
-     private int saveIssues(Long userId, List<IssueNode> issues, Instant now) {
-          int saved = 0;
+    private GraphQLResponse<UserIssuesResponse> fetchIssuesPage(String login, String cursor, int pageSize, String token) {
+        return graphQLClient.getUserIssues(login, cursor, pageSize, token, GraphQLTypeFactory.responseType(UserIssuesResponse.class)).block();
+    }
+
+     private int saveIssues(Long userId, List<IssueNode> issues, Instant now, MiningCounter counter) {
+          counter.recordPage(issues.size());
+          List<IssueDocument> documents = new ArrayList<>(issues.size());
+          int skipped = 0;
           for (IssueNode issue : issues) {
               if (issue == null) {
+                  skipped++;
                   continue;
               }
-              if (issueDocumentRepository.existsByUserIdAndRepositoryNameAndIssueNumber(userId, issue.getRepoName(), issue.getNumber())) {
-                 continue;
-             }
+              documents.add(buildDocument(userId, issue, now));
+          }
 
-            IssueDocument document = buildDocument(userId, issue, now);
-            issueDocumentRepository.save(document);
-            saved++;
-        }
-        return saved;
+          BulkInsertResult result = bulkDocumentWriter.insertMissing(IssueDocument.class, documents, this::uniqueKey);
+          counter.addSaved(result.inserted());
+          counter.addSkipped(skipped + result.existing());
+          return result.inserted();
+    }
+
+    private Query uniqueKey(IssueDocument document) {
+        return Query.query(Criteria.where("userId").is(document.getUserId())
+            .and("repositoryName").is(document.getRepositoryName())
+            .and("issueNumber").is(document.getIssueNumber()));
     }
 
     private IssueDocument buildDocument(Long userId, IssueNode issue, Instant now) {
@@ -11,6 +11,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 
 import io.swkoreatech.kosp.collection.step.StepProvider;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import io.swkoreatech.kosp.statistics.model.PlatformStatistics;
 import io.swkoreatech.kosp.domain.github.repository.GithubUserStatisticsRepository;
 import io.swkoreatech.kosp.statistics.repository.PlatformStatisticsRepository;
@@ -31,6 +32,7 @@ public class PlatformAverageStep implements StepProvider {
     private final GithubUserStatisticsRepository statisticsRepository;
     private final PlatformStatisticsRepository platformStatisticsRepository;
     private final StepCompletionListener stepCompletionListener;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
@@ -40,6 +42,7 @@ public class PlatformAverageStep implements StepProvider {
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -1,6 +1,7 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.batch.core.Step;
@@ -9,6 +10,8 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -17,16 +20,26 @@ import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 import io.swkoreatech.kosp.client.dto.UserPullRequestsResponse;
 import io.swkoreatech.kosp.client.dto.UserPullRequestsResponse.PageInfo;
 import io.swkoreatech.kosp.client.dto.UserPullRequestsResponse.PullRequestNode;
+import io.swkoreatech.kosp.collection.document.PageSizeDocument;
 import io.swkoreatech.kosp.collection.document.PullRequestDocument;
-import io.swkoreatech.kosp.collection.repository.PullRequestDocumentRepository;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter.BulkInsertResult;
+import io.swkoreatech.kosp.collection.repository.PageSizeRepository;
+import io.swkoreatech.kosp.collection.repository.PaginationCheckpointRepository;
+import io.swkoreatech.kosp.collection.step.MiningProperties;
 import io.swkoreatech.kosp.collection.step.StepContextKeys;
 import io.swkoreatech.kosp.collection.step.StepProvider;
+import io.swkoreatech.kosp.collection.util.CursorCheckpoint;
 import io.swkoreatech.kosp.collection.util.GraphQLErrorHandler;
 import io.swkoreatech.kosp.collection.util.GraphQLTypeFactory;
+import io.swkoreatech.kosp.collection.util.MiningCounter;
+import io.swkoreatech.kosp.collection.util.MiningMetrics;
+import io.swkoreatech.kosp.collection.util.PageSizeController;
 import io.swkoreatech.kosp.collection.util.PaginationHelper;
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
 import io.swkoreatech.kosp.job.LoggingConstants;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -45,12 +58,21 @@ import lombok.extern.slf4j.Slf4j;
 public class PullRequestMiningStep implements StepProvider {
 
     private static final String STEP_NAME = "pullRequestMiningStep";
+    private static final String PAGE_SIZE_SCOPE = "pullRequests";
+    private static final int DEFAULT_PAGE_SIZE = 30;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final PaginationCheckpointRepository.Field CHECKPOINT_FIELD = PaginationCheckpointRepository.Field.PULL_REQUESTS;
 
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final GithubGraphQLClient graphQLClient;
-    private final PullRequestDocumentRepository prDocumentRepository;
+    private final BulkDocumentWriter bulkDocumentWriter;
+    private final PageSizeRepository pageSizeRepository;
+    private final PaginationCheckpointRepository checkpointRepository;
+    private final MiningProperties miningProperties;
+    private final MiningMetrics miningMetrics;
     private final StepCompletionListener stepCompletionListener;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
@@ -60,6 +82,7 @@ public class PullRequestMiningStep implements StepProvider {
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -68,9 +91,6 @@ public class PullRequestMiningStep implements StepProvider {
         return STEP_NAME;
     }
 
-    private int totalSavedCount;
-    private int totalSkippedCount;
-
     private void execute(ChunkContext chunkContext) {
          ExecutionContext context = StepContextHelper.getExecutionContext(chunkContext);
          Long userId = StepContextHelper.extractUserId(chunkContext);
@@ -82,48 +102,78 @@ public class PullRequestMiningStep implements StepProvider {
             return;
         }
 
-        totalSavedCount = 0;
-        totalSkippedCount = 0;
-        int totalMined = fetchAllPullRequests(userId, login, token);
-        log.info(LoggingConstants.MINING_SUMMARY, totalMined, totalSavedCount, totalSkippedCount);
+        MiningCounter counter = miningMetrics.newCounter("pullRequests");
+        int totalMined = fetchAllPullRequests(userId, login, token, counter);
+        log.info(LoggingConstants.MINING_SUMMARY, totalMined, counter.getSaved(), counter.getSkipped());
     }
 
-    private int fetchAllPullRequests(Long userId, String login, String token) {
+    private int fetchAllPullRequests(Long userId, String login, String token, MiningCounter counter) {
          Instant now = Instant.now();
-         return PaginationHelper.paginate(
-             cursor -> fetchPullRequestsPage(login, cursor, token),
+         PageSizeDocument pageSizeHint = loadPageSize(userId);
+         PageSizeController pageSize = PageSizeController.startingAt(pageSizeHint.getPageSize(), MAX_PAGE_SIZE);
+         int result = PaginationHelper.paginate(
+             (cursor, size) -> fetchPullRequestsPage(login, cursor, size, token),
+             pageSize,
+             loadCheckpoint(userId),
              UserPullRequestsResponse::getPageInfo,
-             (data, c) -> savePullRequests(userId, data.getPullRequests(), now),
+             (data, c) -> savePullRequests(userId, data.getPullRequests(), now, counter),
              "user",
              login,
              UserPullRequestsResponse.class
          );
+         rememberPageSize(pageSizeHint, pageSize);
+         return result;
      }
 
-    private GraphQLResponse<UserPullRequestsResponse> fetchPullRequestsPage(String login, String cursor, String token) {
-        return graphQLClient.getUserPullRequests(login, cursor, token, GraphQLTypeFactory.<UserPullRequestsResponse>responseType()).block();
+    private CursorCheckpoint loadCheckpoint(Long userId) {
+        return CursorCheckpoint.resumingFrom(
+            checkpointRepository.findCursor(userId, CHECKPOINT_FIELD).orElse(null),
+            miningProperties.checkpointInterval(),
+            cursor -> checkpointRepository.saveCursor(userId, CHECKPOINT_FIELD, cursor)
+        );
+    }
+
+    private PageSizeDocument loadPageSize(Long userId) {
+        return pageSizeRepository.findByUserIdAndScope(userId, PAGE_SIZE_SCOPE)
+            .orElseGet(() -> PageSizeDocument.createNew(userId, PAGE_SIZE_SCOPE, DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Only a run that reached its last page settles on a size worth starting the next run with.
+     */
+    private void rememberPageSize(PageSizeDocument pageSizeHint, PageSizeController pageSize) {
+        if (pageSize.isCompleted() && pageSizeHint.remember(pageSize.current())) {
+            pageSizeRepository.save(pageSizeHint);
+        }
+    }
+
+    private GraphQLResponse<UserPullRequestsResponse> fetchPullRequestsPage(String login, String cursor, int pageSize, String token) {
+        return graphQLClient.getUserPullRequests(login, cursor, pageSize, token, GraphQLTypeFactory.responseType(UserPullRequestsResponse.class)).block();
     }
 
-      private int savePullRequests(Long userId, List<PullRequestNode> prs, Instant now) {
-           int saved = 0;
+      private int savePullRequests(Long userId, List<PullRequestNode> prs, Instant now, MiningCounter counter) {
+           counter.recordPage(prs.size());
+           List<PullRequestDocument> documents = new ArrayList<>(prs.size());
            int skipped = 0;
            for (PullRequestNode pr : prs) {
                if (pr == null) {
                    skipped++;
                    continue;
                }
-               if (prDocumentRepository.existsByUserIdAndRepositoryNameAndPrNumber(userId, pr.getRepoName(), pr.getNumber())) {
-                  skipped++;
-                  continue;
-              }
-
-             PullRequestDocument document = buildDocument(userId, pr, now);
-             prDocumentRepository.save(document);
-             saved++;
-         }
-         totalSavedCount += saved;
-         totalSkippedCount += skipped;
-         return saved + skipped;
+               documents.add(buildDocument(userId, pr, now));
+           }
+
+           BulkInsertResult result = bulkDocumentWriter.insertMissing(PullRequestDocument.class, documents, this::uniqueKey);
+           skipped += result.existing();
+           counter.addSaved(result.inserted());
+           counter.addSkipped(skipped);
+           return result.inserted() + skipped;
+      }
+
+     private Query uniqueKey(PullRequestDocument document) {
+         return Query.query(Criteria.where("userId").is(document.getUserId())
+             .and("repositoryName").is(document.getRepositoryName())
+             .and("prNumber").is(document.getPrNumber()));
      }
 
     private PullRequestDocument buildDocument(Long userId, PullRequestNode pr, Instant now) {
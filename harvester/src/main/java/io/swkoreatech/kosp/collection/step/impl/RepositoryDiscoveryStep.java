@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -13,28 +14,38 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import io.swkoreatech.kosp.common.github.model.GithubUser;
+import io.swkoreatech.kosp.client.ContributionRangesQueryBuilder;
 import io.swkoreatech.kosp.client.GithubGraphQLClient;
+import io.swkoreatech.kosp.client.dto.ContributedReposInRangesResponse;
 import io.swkoreatech.kosp.client.dto.ContributedReposResponse;
 import io.swkoreatech.kosp.client.dto.ContributedReposResponse.RepositoryInfo;
+import io.swkoreatech.kosp.client.dto.DateTimeRange;
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 import io.swkoreatech.kosp.client.dto.UserBasicInfoResponse;
 import io.swkoreatech.kosp.collection.document.CollectionMetadataDocument;
 import io.swkoreatech.kosp.collection.document.ContributedRepoDocument;
+import io.swkoreatech.kosp.collection.metadata.RepositoryMetadataStore;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter.BulkInsertResult;
 import io.swkoreatech.kosp.collection.repository.CollectionMetadataRepository;
-import io.swkoreatech.kosp.collection.repository.ContributedRepoDocumentRepository;
+import io.swkoreatech.kosp.collection.step.DiscoveryProperties;
 import io.swkoreatech.kosp.collection.step.StepContextKeys;
 import io.swkoreatech.kosp.collection.step.StepProvider;
 import io.swkoreatech.kosp.collection.util.GraphQLErrorHandler;
+import io.swkoreatech.kosp.collection.util.GraphQLErrorType;
 import io.swkoreatech.kosp.collection.util.GraphQLTypeFactory;
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
 import io.swkoreatech.kosp.collection.util.TimeChunkGenerator;
 import io.swkoreatech.kosp.job.ContextValidationListener;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import io.swkoreatech.kosp.domain.user.model.User;
 import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -47,7 +58,7 @@ import lombok.extern.slf4j.Slf4j;
  * REQUIRES: (none - initial step in pipeline)
  * PROVIDES: githubLogin, githubToken, githubNodeId, discoveredRepos
  * PURPOSE: Queries GitHub for all repositories the user has contributed to,
- *          stores repository metadata in MongoDB, and populates ExecutionContext
+ *          stores contributions and shared repository metadata in MongoDB, and populates ExecutionContext
  *          with credentials and repository list for downstream steps.
  */
 @Slf4j
@@ -62,10 +73,13 @@ public class RepositoryDiscoveryStep implements StepProvider {
     private final UserRepository userRepository;
     private final GithubGraphQLClient graphQLClient;
     private final TextEncryptor textEncryptor;
-    private final ContributedRepoDocumentRepository repoDocumentRepository;
+    private final BulkDocumentWriter bulkDocumentWriter;
+    private final RepositoryMetadataStore repositoryMetadataStore;
     private final CollectionMetadataRepository metadataRepository;
     private final StepCompletionListener stepCompletionListener;
+    private final StepMetricsListener stepMetricsListener;
     private final ContextValidationListener contextValidationListener;
+    private final DiscoveryProperties discoveryProperties;
 
     @Override
     public Step getStep() {
@@ -77,6 +91,7 @@ public class RepositoryDiscoveryStep implements StepProvider {
             }, transactionManager)
             .listener(contextValidationListener)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -119,36 +134,19 @@ public class RepositoryDiscoveryStep implements StepProvider {
 
         log.info("Collection range: {} to {} ({} chunks)", startDate, now, chunks.size());
 
+        int rangesPerRequest = discoveryProperties.rangesPerRequest(ContributionRangesQueryBuilder.NODES_PER_RANGE);
+        List<List<TimeChunkGenerator.TimeChunk>> batches = partition(chunks, rangesPerRequest);
+
         Set<RepositoryInfo> allRepositories = new HashSet<>();
         String userNodeId = null;
 
-        for (TimeChunkGenerator.TimeChunk chunk : chunks) {
-            log.info("Collecting chunk: {} to {}", chunk.start(), chunk.end());
-
-            GraphQLResponse<ContributedReposResponse> response = 
-                fetchContributedReposInRange(
-                    login, 
-                    chunk.getStartFormatted(), 
-                    chunk.getEndFormatted(), 
-                    token
-                );
+        for (List<TimeChunkGenerator.TimeChunk> batch : batches) {
+            log.info("Collecting {} chunks: {} to {}",
+                     batch.size(), batch.get(0).start(), batch.get(batch.size() - 1).end());
 
-            if (GraphQLErrorHandler.classifyErrors(response, "user", login) != null) {
-                continue;
-            }
-
-            ContributedReposResponse data = response.getDataAs(ContributedReposResponse.class);
+            String batchNodeId = collectBatch(login, batch, token, allRepositories);
             if (userNodeId == null) {
-                userNodeId = data.getUserNodeId();
-            }
-
-            Set<RepositoryInfo> repos = data.collectAllRepositories();
-            allRepositories.addAll(repos);
-
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                userNodeId = batchNodeId;
             }
         }
 
@@ -156,11 +154,98 @@ public class RepositoryDiscoveryStep implements StepProvider {
         allRepositories.addAll(ownedRepos);
 
         saveRepositories(userId, login, allRepositories);
+        refreshRepositoryMetadata(allRepositories, ownedRepos, token);
         storeUserInfoInContext(chunkContext, login, token, userNodeId);
         storeReposInContext(chunkContext, allRepositories);
 
-        log.info("Collection complete: {} repositories discovered from {} chunks", 
-                 allRepositories.size(), chunks.size());
+        log.info("Collection complete: {} repositories discovered from {} chunks in {} requests",
+                 allRepositories.size(), chunks.size(), batches.size());
+    }
+
+    /**
+     * Owned repositories come with their facts; contributed ones only carry their name.
+     */
+    private void refreshRepositoryMetadata(Set<RepositoryInfo> repositories, Set<RepositoryInfo> ownedRepos, String token) {
+        List<String> fullNames = repositories.stream()
+            .map(RepositoryInfo::getNameWithOwner)
+            .toList();
+        repositoryMetadataStore.refresh(fullNames, ownedRepos, token);
+    }
+
+    private List<List<TimeChunkGenerator.TimeChunk>> partition(List<TimeChunkGenerator.TimeChunk> chunks, int size) {
+        List<List<TimeChunkGenerator.TimeChunk>> batches = new ArrayList<>();
+        for (int start = 0; start < chunks.size(); start += size) {
+            batches.add(chunks.subList(start, Math.min(start + size, chunks.size())));
+        }
+        return batches;
+    }
+
+    /**
+     * Adds the repositories of one batch of ranges to {@code repositories}.
+     *
+     * <p>When the aliased query fails as a whole, the batch is read again one range per request so a
+     * single bad month does not drop the others.
+     *
+     * @return the user's node id, or {@code null} when no response carried it
+     */
+    private String collectBatch(
+        String login,
+        List<TimeChunkGenerator.TimeChunk> batch,
+        String token,
+        Set<RepositoryInfo> repositories
+    ) {
+        GraphQLResponse<ContributedReposInRangesResponse> response =
+            fetchContributedReposInRanges(login, batch, token);
+        GraphQLErrorType errorType = GraphQLErrorHandler.classifyErrors(response, "user", login);
+        if (!isUnusable(errorType)) {
+            ContributedReposInRangesResponse data = response.getDataAs(ContributedReposInRangesResponse.class);
+            repositories.addAll(data.collectAllRepositories());
+            return data.getUserNodeId();
+        }
+
+        log.warn("Contribution query for {} chunks of {} failed ({}), retrying one chunk per request",
+            batch.size(), login, errorType);
+        String userNodeId = null;
+        for (TimeChunkGenerator.TimeChunk chunk : batch) {
+            String chunkNodeId = collectChunk(login, chunk, token, repositories);
+            if (userNodeId == null) {
+                userNodeId = chunkNodeId;
+            }
+        }
+        return userNodeId;
+    }
+
+    /**
+     * A retryable failure fails the step, so the job is rescheduled instead of finishing with
+     * repositories missing. A range GitHub cannot answer at all is skipped, as a single range always was.
+     */
+    private String collectChunk(
+        String login,
+        TimeChunkGenerator.TimeChunk chunk,
+        String token,
+        Set<RepositoryInfo> repositories
+    ) {
+        GraphQLResponse<ContributedReposResponse> response = fetchContributedReposInRange(
+            login, chunk.getStartFormatted(), chunk.getEndFormatted(), token);
+        GraphQLErrorType errorType = GraphQLErrorHandler.classifyErrors(response, "user", login);
+        if (errorType == GraphQLErrorType.RETRYABLE) {
+            throw new IllegalStateException(String.format(
+                "Failed to discover contributions of %s from %s to %s", login, chunk.start(), chunk.end()));
+        }
+        if (isUnusable(errorType)) {
+            log.warn("Skipping contributions of {} from {} to {}: {}", login, chunk.start(), chunk.end(), errorType);
+            return null;
+        }
+        ContributedReposResponse data = response.getDataAs(ContributedReposResponse.class);
+        repositories.addAll(data.collectAllRepositories());
+        return data.getUserNodeId();
+    }
+
+    /**
+     * A failing range comes back as a null alias next to the others, so partial errors keep the batch.
+     */
+    private boolean isUnusable(GraphQLErrorType errorType) {
+        return errorType != null && errorType != GraphQLErrorType.PARTIAL;
     }
 
     private String decryptToken(String encryptedToken) {
@@ -186,7 +271,7 @@ public class RepositoryDiscoveryStep implements StepProvider {
 
     private ZonedDateTime fetchUserCreatedAt(String login, String token) {
         GraphQLResponse<UserBasicInfoResponse> response = 
-            graphQLClient.getUserBasicInfo(login, null, token, GraphQLTypeFactory.<UserBasicInfoResponse>responseType())
+            graphQLClient.getUserBasicInfo(login, null, token, GraphQLTypeFactory.responseType(UserBasicInfoResponse.class))
             .block();
 
         if (GraphQLErrorHandler.classifyErrors(response, "user", login) != null) {
@@ -206,7 +291,21 @@ public class RepositoryDiscoveryStep implements StepProvider {
     ) {
         return graphQLClient.getContributedRepos(
             login, from, to, token,
-            GraphQLTypeFactory.<ContributedReposResponse>responseType()
+            GraphQLTypeFactory.responseType(ContributedReposResponse.class)
+        ).block();
+    }
+
+    private GraphQLResponse<ContributedReposInRangesResponse> fetchContributedReposInRanges(
+        String login,
+        List<TimeChunkGenerator.TimeChunk> chunks,
+        String token
+    ) {
+        List<DateTimeRange> ranges = chunks.stream()
+            .map(chunk -> new DateTimeRange(chunk.getStartFormatted(), chunk.getEndFormatted()))
+            .toList();
+        return graphQLClient.getContributedReposInRanges(
+            login, ranges, token,
+            GraphQLTypeFactory.responseType(ContributedReposInRangesResponse.class)
         ).block();
     }
 
@@ -222,7 +321,7 @@ public class RepositoryDiscoveryStep implements StepProvider {
         while (hasNextPage) {
             GraphQLResponse<UserBasicInfoResponse> response = 
                 graphQLClient.getUserBasicInfo(login, cursor, token, 
-                    GraphQLTypeFactory.<UserBasicInfoResponse>responseType())
+                    GraphQLTypeFactory.responseType(UserBasicInfoResponse.class))
                 .block();
 
             if (GraphQLErrorHandler.classifyErrors(response, "user", login) != null) {
@@ -334,44 +433,29 @@ public class RepositoryDiscoveryStep implements StepProvider {
 
     private void saveRepositories(Long userId, String login, Set<RepositoryInfo> repositories) {
         Instant now = Instant.now();
+        List<ContributedRepoDocument> documents = new ArrayList<>(repositories.size());
         for (RepositoryInfo repo : repositories) {
-            ContributedRepoDocument document = buildRepoDocument(userId, login, repo, now);
-            repoDocumentRepository.save(document);
+            documents.add(buildRepoDocument(userId, login, repo, now));
         }
+        BulkInsertResult result = bulkDocumentWriter.insertMissing(ContributedRepoDocument.class, documents, this::uniqueKey);
+        log.info("Stored {} new contributed repositories for user {} ({} already known)",
+            result.inserted(), userId, result.existing());
+    }
+
+    private Query uniqueKey(ContributedRepoDocument document) {
+        return Query.query(Criteria.where("userId").is(document.getUserId())
+            .and("fullName").is(document.getFullName()));
     }
 
     private ContributedRepoDocument buildRepoDocument(Long userId, String login, RepositoryInfo repo, Instant now) {
-        var builder = ContributedRepoDocument.builder()
+        return ContributedRepoDocument.builder()
             .userId(userId)
             .repositoryName(repo.getName())
             .repositoryOwner(repo.getOwnerLogin())
             .fullName(repo.getNameWithOwner())
-            .description(repo.getDescription());
-        return buildRepoMetadata(builder, login, repo, now).build();
-    }
-
-    private ContributedRepoDocument.ContributedRepoDocumentBuilder buildRepoMetadata(
-            ContributedRepoDocument.ContributedRepoDocumentBuilder builder,
-            String login,
-            RepositoryInfo repo,
-            Instant now) {
-        return builder
             .isOwner(login.equals(repo.getOwnerLogin()))
-            .isFork(repo.isFork())
-            .isPrivate(repo.isPrivate())
-            .primaryLanguage(repo.getLanguageName())
-            .stargazersCount(repo.getStargazerCount())
-            .forksCount(repo.getForkCount())
-            .watchersCount(repo.getWatchersCount())
-            .repoCreatedAt(parseDateTime(repo.getCreatedAt()))
-            .collectedAt(now);
-    }
-
-    private Instant parseDateTime(String dateTimeString) {
-        if (dateTimeString == null) {
-            return null;
-        }
-        return Instant.parse(dateTimeString);
+            .collectedAt(now)
+            .build();
     }
 
     private void storeUserInfoInContext(ChunkContext chunkContext, String login, String token, String nodeId) {
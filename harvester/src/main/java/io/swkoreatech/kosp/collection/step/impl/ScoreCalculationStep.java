@@ -1,7 +1,7 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import java.math.BigDecimal;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -13,27 +13,29 @@ import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
+import io.swkoreatech.kosp.common.github.model.ChallengeInputs;
 import io.swkoreatech.kosp.common.github.model.GithubUser;
 import io.swkoreatech.kosp.common.github.model.GithubUserStatistics;
-import io.swkoreatech.kosp.collection.document.CommitDocument;
-import io.swkoreatech.kosp.collection.document.ContributedRepoDocument;
-import io.swkoreatech.kosp.collection.document.PullRequestDocument;
-import io.swkoreatech.kosp.collection.repository.CommitDocumentRepository;
-import io.swkoreatech.kosp.collection.repository.ContributedRepoDocumentRepository;
-import io.swkoreatech.kosp.collection.repository.PullRequestDocumentRepository;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.MergedPullRequestStats;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.RepoActivity;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.UserActivitySummary;
+import io.swkoreatech.kosp.collection.snapshot.ActivitySnapshot;
+import io.swkoreatech.kosp.collection.snapshot.ActivitySnapshotStore;
+import io.swkoreatech.kosp.collection.snapshot.ContributedRepository;
 import io.swkoreatech.kosp.collection.step.StepProvider;
-import io.swkoreatech.kosp.collection.util.NullSafeGetters;
 /**
  * Calculates contribution scores for the user based on collected data.
  *
  * @StepContract
- * REQUIRES: (none - reads from MongoDB collections)
+ * REQUIRES: (none - reads the job's ActivitySnapshot)
  * PROVIDES: (none - updates User entity in MySQL)
  * PURPOSE: Computes weighted scores from commits, PRs, and issues using configured
  *          weights, updates user contribution score in database for ranking.
  */
 import io.swkoreatech.kosp.collection.util.StepContextHelper;
 import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
 import io.swkoreatech.kosp.domain.github.repository.GithubUserStatisticsRepository;
 import io.swkoreatech.kosp.domain.user.model.User;
 import io.swkoreatech.kosp.domain.user.repository.UserRepository;
@@ -54,21 +56,22 @@ public class ScoreCalculationStep implements StepProvider {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final UserRepository userRepository;
-    private final CommitDocumentRepository commitRepository;
-    private final PullRequestDocumentRepository prRepository;
-    private final ContributedRepoDocumentRepository repoRepository;
+    private final ActivitySnapshotStore activitySnapshotStore;
     private final GithubUserStatisticsRepository statisticsRepository;
+    private final ChallengeEvaluationCoalescer evaluationCoalescer;
     private final StepCompletionListener stepCompletionListener;
+    private final StepMetricsListener stepMetricsListener;
 
     @Override
     public Step getStep() {
         return new StepBuilder(STEP_NAME, jobRepository)
             .tasklet((contribution, chunkContext) -> {
                 Long userId = StepContextHelper.extractUserId(chunkContext);
-                execute(userId);
+                execute(userId, StepContextHelper.extractJobExecutionId(chunkContext));
                 return RepeatStatus.FINISHED;
             }, transactionManager)
             .listener(stepCompletionListener)
+            .listener(stepMetricsListener)
             .build();
     }
 
@@ -77,7 +80,7 @@ public class ScoreCalculationStep implements StepProvider {
         return STEP_NAME;
     }
 
-    private void execute(Long userId) {
+    private void execute(Long userId, Long jobExecutionId) {
         User user = userRepository.getById(userId);
         if (!user.hasGithubUser()) {
             log.warn("User {} does not have GitHub account linked", userId);
@@ -87,53 +90,31 @@ public class ScoreCalculationStep implements StepProvider {
         GithubUser githubUser = user.getGithubUser();
         String githubId = String.valueOf(githubUser.getGithubId());
 
-        BigDecimal activityScore = calculateActivityScore(userId);
-        BigDecimal diversityScore = calculateDiversityScore(userId);
-        BigDecimal impactScore = calculateImpactScore(userId);
+        ActivitySnapshot snapshot = activitySnapshotStore.get(jobExecutionId, userId);
+        BigDecimal activityScore = calculateActivityScore(snapshot.activity());
+        BigDecimal diversityScore = calculateDiversityScore(snapshot.repos());
+        BigDecimal impactScore = calculateImpactScore(snapshot);
 
-        saveScores(githubId, activityScore, diversityScore, impactScore);
+        saveScores(userId, githubId, activityScore, diversityScore, impactScore);
 
         log.info("Calculated scores for user {}: activity={}, diversity={}, impact={}",
             userId, activityScore, diversityScore, impactScore);
     }
 
-     private BigDecimal calculateActivityScore(Long userId) {
-         List<CommitDocument> commits = commitRepository.findByUserId(userId);
-         List<PullRequestDocument> prs = prRepository.findByUserId(userId);
-         Map<String, RepoStats> repoStatsMap = new HashMap<>();
-         countCommitsPerRepo(commits, repoStatsMap);
-         countPrsPerRepo(prs, repoStatsMap);
-         int maxScore = findMaxActivityScore(repoStatsMap);
+     private BigDecimal calculateActivityScore(UserActivitySummary activity) {
+         int maxScore = findMaxActivityScore(activity.repos().values());
          return BigDecimal.valueOf(maxScore);
      }
 
-     private void countCommitsPerRepo(List<CommitDocument> commits, Map<String, RepoStats> statsMap) {
-         for (CommitDocument commit : commits) {
-             String repoKey = buildRepoKey(commit.getRepositoryOwner(), commit.getRepositoryName());
-             statsMap.computeIfAbsent(repoKey, k -> new RepoStats()).commitCount++;
-         }
-     }
-
-     private void countPrsPerRepo(List<PullRequestDocument> prs, Map<String, RepoStats> statsMap) {
-         for (PullRequestDocument pr : prs) {
-             String repoKey = buildRepoKey(pr.getRepositoryOwner(), pr.getRepositoryName());
-             statsMap.computeIfAbsent(repoKey, k -> new RepoStats()).prCount++;
-         }
-     }
-
-     private int findMaxActivityScore(Map<String, RepoStats> statsMap) {
+     private int findMaxActivityScore(Collection<RepoActivity> repos) {
          int maxScore = 0;
-         for (RepoStats stats : statsMap.values()) {
-             int score = calculateRepoActivityScore(stats.commitCount, stats.prCount);
+         for (RepoActivity repo : repos) {
+             int score = calculateRepoActivityScore(repo.commitCount(), repo.prCount());
              maxScore = Math.max(maxScore, score);
          }
          return maxScore;
      }
 
-    private String buildRepoKey(String owner, String name) {
-        return owner + "/" + name;
-    }
-
       private int calculateRepoActivityScore(int commitCount, int prCount) {
           if (hasHighActivity(commitCount, prCount)) return 3;
           if (hasMediumActivity(commitCount, prCount)) return 2;
@@ -153,8 +134,7 @@ public class ScoreCalculationStep implements StepProvider {
          return commitCount >= 5 || prCount >= 1;
      }
 
-     private BigDecimal calculateDiversityScore(Long userId) {
-         List<ContributedRepoDocument> repos = repoRepository.findByUserId(userId);
+     private BigDecimal calculateDiversityScore(List<ContributedRepository> repos) {
          int repoCount = repos.size();
          return getDiversityScoreForCount(repoCount);
      }
@@ -166,25 +146,20 @@ public class ScoreCalculationStep implements StepProvider {
           return BigDecimal.ZERO;
       }
 
-     private BigDecimal calculateImpactScore(Long userId) {
-         List<ContributedRepoDocument> repos = repoRepository.findByUserId(userId);
-         List<PullRequestDocument> prs = prRepository.findByUserId(userId);
-         return calculateImpactScoreInternal(repos, prs);
-     }
-
-     private BigDecimal calculateImpactScoreInternal(List<ContributedRepoDocument> repos, List<PullRequestDocument> prs) {
+     private BigDecimal calculateImpactScore(ActivitySnapshot snapshot) {
+         MergedPullRequestStats merged = snapshot.activity().mergedPullRequests();
          BigDecimal score = BigDecimal.ZERO;
-         score = score.add(calculateOwnedRepoStarBonus(repos));
-         score = score.add(calculateHighStarPrBonus(prs));
-         score = score.add(calculateClosedIssuesBonus(prs));
-         score = score.add(calculateCrossRepoPrBonus(prs));
+         score = score.add(calculateOwnedRepoStarBonus(snapshot.repos()));
+         score = score.add(calculateHighStarPrBonus(merged));
+         score = score.add(calculateClosedIssuesBonus(merged));
+         score = score.add(calculateCrossRepoPrBonus(merged));
          return score.min(BigDecimal.valueOf(5));
      }
 
-     private BigDecimal calculateOwnedRepoStarBonus(List<ContributedRepoDocument> repos) {
+     private BigDecimal calculateOwnedRepoStarBonus(List<ContributedRepository> repos) {
          boolean hasHighStarRepo = repos.stream()
-             .filter(r -> Boolean.TRUE.equals(r.getIsOwner()))
-             .anyMatch(r -> r.getStargazersCount() != null && r.getStargazersCount() >= STAR_THRESHOLD_FOR_OWNED_REPO);
+             .filter(ContributedRepository::isOwner)
+             .anyMatch(r -> r.stargazersCount() != null && r.stargazersCount() >= STAR_THRESHOLD_FOR_OWNED_REPO);
  
          return getHighStarRepoBonus(hasHighStarRepo);
      }
@@ -196,11 +171,8 @@ public class ScoreCalculationStep implements StepProvider {
          return BigDecimal.valueOf(2);
      }
 
-     private BigDecimal calculateHighStarPrBonus(List<PullRequestDocument> prs) {
-         boolean hasMergedPrToHighStarRepo = prs.stream()
-             .filter(pr -> Boolean.TRUE.equals(pr.getMerged()))
-             .anyMatch(pr -> pr.getRepoStarCount() != null && pr.getRepoStarCount() >= STAR_THRESHOLD_FOR_IMPACT);
- 
+     private BigDecimal calculateHighStarPrBonus(MergedPullRequestStats merged) {
+         boolean hasMergedPrToHighStarRepo = merged.maxRepoStars() >= STAR_THRESHOLD_FOR_IMPACT;
          return getHighStarPrBonus(hasMergedPrToHighStarRepo);
      }
 
@@ -211,13 +183,8 @@ public class ScoreCalculationStep implements StepProvider {
          return BigDecimal.valueOf(1.5);
      }
 
-      private BigDecimal calculateClosedIssuesBonus(List<PullRequestDocument> prs) {
-          int totalClosedIssues = prs.stream()
-              .filter(pr -> Boolean.TRUE.equals(pr.getMerged()))
-              .mapToInt(pr -> NullSafeGetters.intOrZero(pr.getClosedIssuesCount()))
-              .sum();
-  
-          return getClosedIssuesBonus(totalClosedIssues);
+      private BigDecimal calculateClosedIssuesBonus(MergedPullRequestStats merged) {
+          return getClosedIssuesBonus(merged.closedIssues());
       }
 
       private BigDecimal getClosedIssuesBonus(int totalClosedIssues) {
@@ -227,11 +194,8 @@ public class ScoreCalculationStep implements StepProvider {
          return BigDecimal.valueOf(1);
      }
 
-     private BigDecimal calculateCrossRepoPrBonus(List<PullRequestDocument> prs) {
-         boolean hasCrossRepoPrMerged = prs.stream()
-             .filter(pr -> Boolean.TRUE.equals(pr.getMerged()))
-             .anyMatch(pr -> Boolean.TRUE.equals(pr.getIsCrossRepository()));
- 
+     private BigDecimal calculateCrossRepoPrBonus(MergedPullRequestStats merged) {
+         boolean hasCrossRepoPrMerged = merged.crossRepository() > 0;
          return getCrossRepoPrBonus(hasCrossRepoPrMerged);
      }
 
@@ -242,16 +206,13 @@ public class ScoreCalculationStep implements StepProvider {
          return BigDecimal.valueOf(0.5);
      }
 
-    private void saveScores(String githubId, BigDecimal activityScore, BigDecimal diversityScore, BigDecimal impactScore) {
+    private void saveScores(Long userId, String githubId, BigDecimal activityScore, BigDecimal diversityScore, BigDecimal impactScore) {
         GithubUserStatistics statistics = statisticsRepository.getOrCreate(githubId);
+        Map<String, Object> before = ChallengeInputs.snapshot(statistics);
 
         statistics.updateScores(activityScore, diversityScore, impactScore);
 
+        evaluationCoalescer.recordChanges(userId, ChallengeInputs.changed(before, ChallengeInputs.snapshot(statistics)));
         statisticsRepository.save(statistics);
     }
-
-    private static class RepoStats {
-        int commitCount = 0;
-        int prCount = 0;
-    }
 }
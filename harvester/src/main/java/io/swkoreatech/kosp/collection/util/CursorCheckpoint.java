@@ -0,0 +1,82 @@
+package io.swkoreatech.kosp.collection.util;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persisted resume point of one pagination run.
+ *
+ * <p>The run starts at {@link #resumeCursor()} and hands the cursor of the next page to the
+ * store every {@code interval} pages, so a crashed or rate-limited run resumes close to where it
+ * stopped instead of paying for the first pages again. A failed page is stored immediately, a
+ * finished run clears the checkpoint by storing {@code null}. A single instance belongs to one
+ * pagination run and is not thread-safe.
+ */
+@Slf4j
+public final class CursorCheckpoint {
+
+    private final String resumeCursor;
+    private final int interval;
+    private final Consumer<String> store;
+    private String stored;
+    private int pagesSinceStore;
+
+    private CursorCheckpoint(String resumeCursor, int interval, Consumer<String> store) {
+        this.resumeCursor = resumeCursor;
+        this.interval = Math.max(1, interval);
+        this.store = store;
+        this.stored = resumeCursor;
+    }
+
+    public static CursorCheckpoint resumingFrom(String cursor, int interval, Consumer<String> store) {
+        return new CursorCheckpoint(cursor, interval, store);
+    }
+
+    public String resumeCursor() {
+        return resumeCursor;
+    }
+
+    public boolean isResumed() {
+        return resumeCursor != null;
+    }
+
+    void onPage(String nextCursor) {
+        pagesSinceStore++;
+        if (nextCursor != null && pagesSinceStore >= interval) {
+            save(nextCursor);
+        }
+    }
+
+    /**
+     * Remembers the page that could not be fetched so the next run starts with it.
+     */
+    void onFailure(String cursor) {
+        if (cursor != null) {
+            save(cursor);
+        }
+    }
+
+    /**
+     * Drops the checkpoint once the last page was reached, or when it cannot be resumed from.
+     */
+    void clear() {
+        if (stored != null) {
+            save(null);
+        }
+    }
+
+    private void save(String cursor) {
+        pagesSinceStore = 0;
+        if (Objects.equals(cursor, stored)) {
+            return;
+        }
+        try {
+            store.accept(cursor);
+            stored = cursor;
+        } catch (Exception e) {
+            log.warn("Failed to store pagination checkpoint: {}", e.getMessage());
+        }
+    }
+}
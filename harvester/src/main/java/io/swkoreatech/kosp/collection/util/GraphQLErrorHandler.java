@@ -2,6 +2,8 @@ package io.swkoreatech.kosp.collection.util;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import lombok.extern.slf4j.Slf4j;
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
@@ -12,6 +14,9 @@ import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 @Slf4j
 public final class GraphQLErrorHandler {
 
+    private static final Set<String> RESOURCE_LIMIT_TYPES = Set.of("RESOURCE_LIMITS_EXCEEDED", "MAX_NODE_LIMIT_EXCEEDED");
+    private static final Pattern TIMEOUT_MESSAGE = Pattern.compile("time(d)?[ -]?out", Pattern.CASE_INSENSITIVE);
+
     private GraphQLErrorHandler() {
         throw new AssertionError("Utility class");
     }
@@ -48,6 +53,26 @@ public final class GraphQLErrorHandler {
         return GraphQLErrorType.RETRYABLE;
     }
 
+    /**
+     * Whether GitHub rejected the query for its cost: a resource-limit error type or a message
+     * about a timeout. A smaller page may succeed where this one failed.
+     */
+    public static boolean isResourceLimit(GraphQLResponse<?> response) {
+        if (response == null || !response.hasErrors()) {
+            return false;
+        }
+        for (Map<String, Object> error : response.getErrors()) {
+            if (RESOURCE_LIMIT_TYPES.contains(error.get("type"))) {
+                return true;
+            }
+            Object message = error.get("message");
+            if (message instanceof String text && TIMEOUT_MESSAGE.matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static String extractErrorMessage(List<Map<String, Object>> errors) {
         if (errors == null || errors.isEmpty()) {
             return "";
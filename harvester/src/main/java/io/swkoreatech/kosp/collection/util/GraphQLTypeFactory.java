@@ -1,12 +1,15 @@
 package io.swkoreatech.kosp.collection.util;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 
 /**
- * Utility factory for creating typed GraphQL response classes.
- * 
- * <p>This class provides a generic method to create Class references for GraphQL response
- * deserialization, handling Java's type erasure through unchecked casting.
+ * Utility factory for creating typed GraphQL response types.
+ *
+ * <p>This class builds parameterized type references for GraphQL response deserialization,
+ * so the response data type is not lost to Java's type erasure.
  */
 public final class GraphQLTypeFactory {
 
@@ -15,16 +18,18 @@ public final class GraphQLTypeFactory {
     }
 
     /**
-     * Creates a typed Class reference for GraphQL response deserialization.
-     * 
-     * <p>This method performs an unchecked cast due to Java's type erasure.
-     * The cast is safe as long as the GraphQL response matches the expected type T.
+     * Creates a fully parameterized type reference for GraphQL response deserialization.
+     *
+     * <p>The data type survives erasure, so the decoder binds {@code data} directly to
+     * {@code dataType} instead of building an intermediate map tree that has to be converted again.
      *
+     * @param dataType the expected response data type
      * @param <T> the expected response data type
-     * @return the typed GraphQLResponse class
+     * @return the parameterized GraphQLResponse type
      */
-    @SuppressWarnings("unchecked")
-    public static <T> Class<GraphQLResponse<T>> responseType() {
-        return (Class<GraphQLResponse<T>>) (Class<?>) GraphQLResponse.class;
+    public static <T> ParameterizedTypeReference<GraphQLResponse<T>> responseType(Class<T> dataType) {
+        return ParameterizedTypeReference.forType(
+            ResolvableType.forClassWithGenerics(GraphQLResponse.class, dataType).getType()
+        );
     }
 }
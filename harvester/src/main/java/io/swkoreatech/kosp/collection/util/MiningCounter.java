@@ -0,0 +1,50 @@
+package io.swkoreatech.kosp.collection.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+
+/**
+ * Saved/skipped counters for a single mining step execution.
+ *
+ * <p>Step beans are singletons shared by every job the launcher runs concurrently,
+ * so counters must live per execution instead of in bean fields. Every update is also
+ * forwarded to the process-wide meters handed out by {@link MiningMetrics}.
+ */
+public final class MiningCounter {
+
+    private final AtomicInteger saved = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final Counter savedMeter;
+    private final Counter skippedMeter;
+    private final DistributionSummary pageNodes;
+
+    MiningCounter(Counter savedMeter, Counter skippedMeter, DistributionSummary pageNodes) {
+        this.savedMeter = savedMeter;
+        this.skippedMeter = skippedMeter;
+        this.pageNodes = pageNodes;
+    }
+
+    public void addSaved(int count) {
+        saved.addAndGet(count);
+        savedMeter.increment(count);
+    }
+
+    public void addSkipped(int count) {
+        skipped.addAndGet(count);
+        skippedMeter.increment(count);
+    }
+
+    public void recordPage(int nodes) {
+        pageNodes.record(nodes);
+    }
+
+    public int getSaved() {
+        return saved.get();
+    }
+
+    public int getSkipped() {
+        return skipped.get();
+    }
+}
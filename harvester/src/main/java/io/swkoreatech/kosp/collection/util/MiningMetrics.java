@@ -0,0 +1,41 @@
+package io.swkoreatech.kosp.collection.util;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Creates {@link MiningCounter}s backed by the mining meters.
+ *
+ * <p>{@code harvester.mining.documents} counts saved and skipped documents per entity,
+ * {@code harvester.mining.page.nodes} records how many nodes each GraphQL page returned.
+ */
+@Component
+@RequiredArgsConstructor
+public class MiningMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public MiningCounter newCounter(String entity) {
+        return new MiningCounter(
+            documents(entity, "saved"),
+            documents(entity, "skipped"),
+            DistributionSummary.builder("harvester.mining.page.nodes")
+                .description("Nodes returned per GraphQL page")
+                .tag("entity", entity)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+        );
+    }
+
+    private Counter documents(String entity, String result) {
+        return Counter.builder("harvester.mining.documents")
+            .description("Mined documents by persistence result")
+            .tag("entity", entity)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package io.swkoreatech.kosp.collection.util;
+
+import java.time.Duration;
+
+/**
+ * Adapts the page size of one pagination run to how GitHub copes with it.
+ *
+ * <p>Fast pages let the size grow by half up to the query's maximum, slow pages halve it, and
+ * pages that time out or exceed GitHub's resource limits halve it and are retried at the same cursor. A single instance
+ * belongs to one pagination run and is not thread-safe.
+ */
+public final class PageSizeController {
+
+    public static final int MIN_PAGE_SIZE = 5;
+
+    private static final Duration FAST_RESPONSE = Duration.ofSeconds(2);
+    private static final Duration SLOW_RESPONSE = Duration.ofSeconds(8);
+
+    private final int maxPageSize;
+    private int current;
+    private boolean completed;
+
+    private PageSizeController(int initial, int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+        this.current = clamp(initial);
+    }
+
+    public static PageSizeController startingAt(int initial, int maxPageSize) {
+        return new PageSizeController(initial, Math.max(MIN_PAGE_SIZE, maxPageSize));
+    }
+
+    public int current() {
+        return current;
+    }
+
+    void onSuccess(Duration latency) {
+        if (latency.compareTo(SLOW_RESPONSE) > 0) {
+            shrink();
+            return;
+        }
+        if (latency.compareTo(FAST_RESPONSE) < 0) {
+            current = clamp(current + Math.max(1, current / 2));
+        }
+    }
+
+    void onCompleted() {
+        completed = true;
+    }
+
+    /**
+     * Whether the run reached its last page. A failed run ends on a size forced down by its failures,
+     * which should not become the starting point of the next run.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * @return false if the size is already at its minimum and a retry would not help
+     */
+    boolean shrink() {
+        int previous = current;
+        current = clamp(current / 2);
+        return current < previous;
+    }
+
+    private int clamp(int size) {
+        return Math.max(MIN_PAGE_SIZE, Math.min(maxPageSize, size));
+    }
+}
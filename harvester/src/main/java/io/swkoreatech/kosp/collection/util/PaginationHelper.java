@@ -1,9 +1,12 @@
 package io.swkoreatech.kosp.collection.util;
 
+import io.swkoreatech.kosp.client.RateLimitException;
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -107,6 +110,114 @@ public final class PaginationHelper {
          return totalSaved;
      }
 
+     /**
+      * Paginates like {@link #paginate(Function, Function, BiFunction, String, String, Class)} while
+      * letting {@code pageSize} adapt the page size from page to page and {@code checkpoint} persist
+      * the position of the run.
+      *
+      * <p>The fetcher receives the cursor and the page size to request. A page that fails with a
+      * timeout or a GraphQL resource-limit error is retried at the same cursor with a smaller size
+      * until the controller reaches its minimum; only then does the usual error handling apply.
+      * Only the request latency feeds the controller, and the controller is marked completed once
+      * the last page was reached.
+      *
+      * <p>Paging starts at the checkpoint's resume cursor. The page that finally fails is stored as
+      * the new resume point, reaching the last page clears it. A checkpoint whose first page fails
+      * with a non-retryable error is cleared as well, so the next run starts from the beginning.
+      * A {@link RateLimitException} stores the page as the resume point and is rethrown.
+      *
+      * @param <T> the data type contained in the GraphQL response
+      * @param fetcher function to fetch a page of data for a cursor and a page size
+      * @param pageSize controller deciding the size of every request
+      * @param checkpoint resume point of this run, updated while paging
+      * @param pageInfoExtractor function to extract PageInfo from data
+      * @param dataProcessor function to process data and return saved count
+      * @param entityType the type of entity being queried
+      * @param entityId the identifier of the entity
+      * @param dataClass the Class object for the data type T
+      * @return total count of items saved across all pages, -2 for non-retryable error, or -1 for retryable error
+      */
+     public static <T> int paginate(
+             BiFunction<String, Integer, GraphQLResponse<T>> fetcher,
+             PageSizeController pageSize,
+             CursorCheckpoint checkpoint,
+             Function<T, Object> pageInfoExtractor,
+             BiFunction<T, String, Integer> dataProcessor,
+             String entityType,
+             String entityId,
+             Class<T> dataClass
+     ) {
+         int totalSaved = 0;
+         String cursor = checkpoint.resumeCursor();
+         if (cursor != null) {
+             log.info("Resuming {} {} from pagination checkpoint", entityType, entityId);
+         }
+         while (true) {
+             String pageCursor = cursor;
+             TimedFetcher<T> timedFetcher = new TimedFetcher<>(fetcher, pageSize.current());
+             PageResult<T> result;
+             try {
+                 result = fetchAndProcessPage(
+                     timedFetcher, pageInfoExtractor, dataProcessor, entityType, entityId, pageCursor, dataClass);
+             } catch (RuntimeException exception) {
+                 if (RateLimitException.isCauseOf(exception)) {
+                     checkpoint.onFailure(pageCursor);
+                 }
+                 throw exception;
+             }
+             if (result.hasError) {
+                 if (result.shrinkable && pageSize.shrink()) {
+                     log.warn("Retrying page of {} {} with reduced page size {}", entityType, entityId, pageSize.current());
+                     continue;
+                 }
+                 if (totalSaved == 0) {
+                     storeFailedPage(checkpoint, pageCursor, result.errorType);
+                     return determineErrorReturnValue(result.errorType, entityType, entityId);
+                 }
+                 checkpoint.onFailure(pageCursor);
+                 return totalSaved;
+             }
+             pageSize.onSuccess(timedFetcher.latency());
+             totalSaved += result.saved;
+             cursor = result.nextCursor;
+             if (cursor == null) {
+                 checkpoint.clear();
+                 pageSize.onCompleted();
+                 return totalSaved;
+             }
+             checkpoint.onPage(cursor);
+         }
+     }
+
+     /**
+      * A resumed run that cannot even fetch its first page most likely holds a cursor GitHub no
+      * longer accepts, e.g. after a force push; it is dropped instead of being retried forever.
+      */
+     private static void storeFailedPage(CursorCheckpoint checkpoint, String cursor, GraphQLErrorType errorType) {
+         if (errorType == GraphQLErrorType.NON_RETRYABLE && checkpoint.isResumed()) {
+             checkpoint.clear();
+             return;
+         }
+         checkpoint.onFailure(cursor);
+     }
+
+     /**
+      * A timed out request, or the 502/504 GitHub answers when a query runs out of time, means the
+      * page was too expensive. Other failures, like a refused connection, are not helped by a
+      * smaller page.
+      */
+     private static boolean isTimeout(Throwable throwable) {
+         for (Throwable current = throwable; current != null; current = current.getCause()) {
+             if (current instanceof TimeoutException
+                 || current instanceof io.netty.handler.timeout.TimeoutException
+                 || current instanceof WebClientResponseException.GatewayTimeout
+                 || current instanceof WebClientResponseException.BadGateway) {
+                 return true;
+             }
+         }
+         return false;
+     }
+
      /**
       * Determines the return value based on error type.
       *
@@ -126,6 +237,9 @@ public final class PaginationHelper {
      /**
       * Fetches and processes a single page of GraphQL results.
       *
+      * <p>A {@link RateLimitException} is not a failed page: it is rethrown so the step fails and
+      * the job is rescheduled after the reset instead of finishing with partial data.
+      *
       * @param <T> the data type
       * @param fetcher function to fetch a page
       * @param pageInfoExtractor function to extract PageInfo
@@ -148,9 +262,12 @@ public final class PaginationHelper {
         GraphQLResponse<T> response;
         try {
             response = fetcher.apply(cursor);
-        } catch (Exception exception) {
+        } catch (RuntimeException exception) {
+            if (RateLimitException.isCauseOf(exception)) {
+                throw exception;
+            }
             log.warn("HTTP error fetching page for {} {}: {}", entityType, entityId, exception.getMessage());
-            return new PageResult<>(0, null, true);
+            return new PageResult<>(0, null, true, null, isTimeout(exception));
         }
         return processResponse(response, pageInfoExtractor, dataProcessor, entityType, entityId, cursor, dataClass);
     }
@@ -179,7 +296,7 @@ public final class PaginationHelper {
      ) {
          GraphQLErrorType errorType = GraphQLErrorHandler.classifyErrors(response, entityType, entityId);
          if (errorType != null) {
-             return new PageResult<>(0, null, true, errorType);
+             return new PageResult<>(0, null, true, errorType, GraphQLErrorHandler.isResourceLimit(response));
          }
          T data = response.getDataAs(dataClass);
          int saved = dataProcessor.apply(data, cursor);
@@ -220,16 +337,50 @@ public final class PaginationHelper {
          final String nextCursor;
          final boolean hasError;
          final GraphQLErrorType errorType;
+         final boolean shrinkable;
 
-         PageResult(int saved, String nextCursor, boolean hasError, GraphQLErrorType errorType) {
+         PageResult(int saved, String nextCursor, boolean hasError, GraphQLErrorType errorType, boolean shrinkable) {
              this.saved = saved;
              this.nextCursor = nextCursor;
              this.hasError = hasError;
              this.errorType = errorType;
+             this.shrinkable = shrinkable;
          }
 
          PageResult(int saved, String nextCursor, boolean hasError) {
-             this(saved, nextCursor, hasError, null);
+             this(saved, nextCursor, hasError, null, false);
+         }
+     }
+
+     /**
+      * Requests a page of a fixed size and remembers how long GitHub took to answer it.
+      *
+      * <p>The client's own measurement is preferred because it leaves out rate-limit pacing; the
+      * time spent in the fetcher is the fallback. Processing the page is never included.
+      */
+     private static final class TimedFetcher<T> implements Function<String, GraphQLResponse<T>> {
+         private final BiFunction<String, Integer, GraphQLResponse<T>> fetcher;
+         private final int size;
+         private Duration latency = Duration.ZERO;
+
+         TimedFetcher(BiFunction<String, Integer, GraphQLResponse<T>> fetcher, int size) {
+             this.fetcher = fetcher;
+             this.size = size;
+         }
+
+         @Override
+         public GraphQLResponse<T> apply(String cursor) {
+             long startedAt = System.nanoTime();
+             GraphQLResponse<T> response = fetcher.apply(cursor, size);
+             latency = Duration.ofNanos(System.nanoTime() - startedAt);
+             if (response != null && response.getRequestLatency() != null) {
+                 latency = response.getRequestLatency();
+             }
+             return response;
+         }
+
+         Duration latency() {
+             return latency;
          }
      }
 }
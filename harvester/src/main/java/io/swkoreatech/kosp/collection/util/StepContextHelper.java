@@ -39,6 +39,18 @@ public final class StepContextHelper {
             .getLong("userId");
     }
 
+    /**
+     * Extracts the id of the running job execution.
+     *
+     * @param chunkContext the chunk context
+     * @return the job execution ID
+     */
+    public static Long extractJobExecutionId(ChunkContext chunkContext) {
+        return chunkContext.getStepContext()
+            .getStepExecution()
+            .getJobExecutionId();
+    }
+
     /**
      * Extracts a string value from execution context by key.
      *
@@ -8,15 +8,9 @@ import java.util.Map;
 /**
  * Propagates SLF4J MDC context to worker threads.
  *
- * <p>For future multi-threaded Spring Batch jobs (e.g., partitioned steps),
- * this decorator ensures MDC values (jobExecutionId, stepName, userId) are
- * available in worker threads spawned by task executors.
- *
- * <p>Current job is single-threaded, so this is NOT currently used.
- * To enable: configure AsyncConfigurer or TaskExecutor with this decorator.
- *
- * @see org.springframework.batch.core.partition.support.Partitioner
- * @see org.springframework.scheduling.annotation.AsyncConfigurer
+ * <p>githubCollectionJob runs its mining steps as a split on {@code miningTaskExecutor};
+ * this decorator carries the job's MDC values (jobExecutionId, userId) onto those threads
+ * so their logs stay correlated with the job.
  */
 public class MdcTaskDecorator implements TaskDecorator {
 
@@ -0,0 +1,103 @@
+package io.swkoreatech.kosp.config;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import io.swkoreatech.kosp.collection.document.CommitDocument;
+import io.swkoreatech.kosp.collection.document.CommitWatermarkDocument;
+import io.swkoreatech.kosp.collection.document.ContributedRepoDocument;
+import io.swkoreatech.kosp.collection.document.HttpCacheDocument;
+import io.swkoreatech.kosp.collection.document.IssueDocument;
+import io.swkoreatech.kosp.collection.document.PageSizeDocument;
+import io.swkoreatech.kosp.collection.document.PullRequestDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the indexes declared on documents that depend on them for correctness.
+ *
+ * <p>{@code auto-index-creation} is off, so index annotations alone never reach the database. The
+ * bulk upserts of mined documents rely on the unique indexes both to find existing documents
+ * without a collection scan and to reject concurrent inserts of the same key.
+ * Creating an index that already exists is a no-op, so every replica runs this on startup.
+ * A unique index cannot be built over duplicates written before it existed, so those are
+ * removed first, keeping the newest document of each key.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexInitializer {
+
+    private static final List<IndexedDocument> INDEXED_DOCUMENTS = List.of(
+        new IndexedDocument(HttpCacheDocument.class, List.of(), null),
+        new IndexedDocument(ContributedRepoDocument.class, List.of("userId", "fullName"), "collectedAt"),
+        new IndexedDocument(PageSizeDocument.class, List.of("userId", "scope"), "updatedAt"),
+        new IndexedDocument(CommitDocument.class, List.of("userId", "repositoryName", "sha"), "collectedAt"),
+        new IndexedDocument(PullRequestDocument.class, List.of("userId", "repositoryName", "prNumber"), "collectedAt"),
+        new IndexedDocument(IssueDocument.class, List.of("userId", "repositoryName", "issueNumber"), "collectedAt"),
+        new IndexedDocument(
+            CommitWatermarkDocument.class, List.of("userId", "repositoryOwner", "repositoryName"), "updatedAt")
+    );
+
+    private final MongoTemplate mongoTemplate;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoPersistentEntityIndexResolver resolver =
+            new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (IndexedDocument document : INDEXED_DOCUMENTS) {
+            String collection = mongoTemplate.getCollectionName(document.type());
+            try {
+                removeDuplicates(collection, document);
+                IndexOperations indexOperations = mongoTemplate.indexOps(document.type());
+                resolver.resolveIndexFor(document.type()).forEach(indexOperations::ensureIndex);
+                log.info("Ensured indexes of {}", collection);
+            } catch (RuntimeException e) {
+                log.error("Failed to ensure indexes of {}", collection, e);
+            }
+        }
+    }
+
+    private void removeDuplicates(String collection, IndexedDocument document) {
+        if (document.uniqueKey().isEmpty()) {
+            return;
+        }
+        Aggregation aggregation = Aggregation.newAggregation(
+            Aggregation.sort(Sort.Direction.DESC, document.newestField()),
+            Aggregation.group(document.uniqueKey().toArray(String[]::new)).push("_id").as("ids").count().as("count"),
+            Aggregation.match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long removed = 0;
+        for (Document duplicates : mongoTemplate.aggregate(aggregation, collection, Document.class)) {
+            List<Object> ids = duplicates.getList("ids", Object.class);
+            Query stale = Query.query(Criteria.where("_id").in(ids.subList(1, ids.size())));
+            removed += mongoTemplate.remove(stale, collection).getDeletedCount();
+        }
+        if (removed > 0) {
+            log.warn("Removed {} duplicate documents from {} before building its unique index", removed, collection);
+        }
+    }
+
+    /**
+     * @param uniqueKey   fields of the document's unique index; empty if it has none
+     * @param newestField field whose highest value marks the duplicate that is kept
+     */
+    private record IndexedDocument(Class<?> type, List<String> uniqueKey, String newestField) {
+    }
+}
@@ -1,11 +1,18 @@
 package io.swkoreatech.kosp.job;
 
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.swkoreatech.kosp.collection.snapshot.ActivitySnapshotStore;
 import io.swkoreatech.kosp.collection.step.impl.ChallengeEvaluationStep;
 import io.swkoreatech.kosp.collection.step.impl.CleanupStep;
 import io.swkoreatech.kosp.collection.step.impl.CommitMiningStep;
@@ -15,16 +22,29 @@ import io.swkoreatech.kosp.collection.step.impl.PullRequestMiningStep;
 import io.swkoreatech.kosp.collection.step.impl.RepositoryDiscoveryStep;
 import io.swkoreatech.kosp.collection.step.impl.ScoreCalculationStep;
 import io.swkoreatech.kosp.collection.step.impl.StatisticsAggregationStep;
+import io.swkoreatech.kosp.config.MdcTaskDecorator;
+import io.swkoreatech.kosp.launcher.LauncherProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Wires githubCollectionJob.
+ *
+ * <p>Discovery runs first and publishes the login, token, node id and repository list to the job
+ * context. The pull request, issue and commit miners only read those keys, so they run as a split
+ * on {@code miningTaskExecutor}; statistics and everything after it start once all three joined.
+ */
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class GithubCollectionJobConfig {
 
+    private static final int MINING_STEPS = 3;
+
     private final JobRepository jobRepository;
     private final JobSchedulingListener jobSchedulingListener;
+    private final ActivitySnapshotStore activitySnapshotStore;
+    private final LauncherProperties launcherProperties;
 
     private final RepositoryDiscoveryStep repositoryDiscoveryStep;
     private final CommitMiningStep commitMiningStep;
@@ -40,15 +60,49 @@ public class GithubCollectionJobConfig {
     public Job githubCollectionJob() {
         return new JobBuilder("githubCollectionJob", jobRepository)
             .listener(jobSchedulingListener)
-            .start(repositoryDiscoveryStep.getStep())
-            .next(pullRequestMiningStep.getStep())
-            .next(issueMiningStep.getStep())
-            .next(commitMiningStep.getStep())
+            .listener(activitySnapshotStore)
+            .flow(repositoryDiscoveryStep.getStep())
+            .next(miningFlow())
             .next(statisticsAggregationStep.getStep())
             .next(scoreCalculationStep.getStep())
             .next(challengeEvaluationStep.getStep())
             .next(platformAverageStep.getStep())
             .next(cleanupStep.getStep())
+            .end()
+            .build();
+    }
+
+    private Flow miningFlow() {
+        return new FlowBuilder<SimpleFlow>("miningFlow")
+            .split(miningTaskExecutor())
+            .add(
+                singleStepFlow(pullRequestMiningStep.getStep()),
+                singleStepFlow(issueMiningStep.getStep()),
+                singleStepFlow(commitMiningStep.getStep())
+            )
+            .build();
+    }
+
+    private Flow singleStepFlow(Step step) {
+        return new FlowBuilder<SimpleFlow>(step.getName() + "Flow")
+            .start(step)
             .build();
     }
+
+    /**
+     * Sized so every job the launcher may run concurrently gets a thread per miner;
+     * the calling job thread only waits for the split to join.
+     */
+    @Bean
+    public TaskExecutor miningTaskExecutor() {
+        int threads = launcherProperties.poolSize() * MINING_STEPS;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("harvester-mining-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setAwaitTerminationSeconds(30);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
 }
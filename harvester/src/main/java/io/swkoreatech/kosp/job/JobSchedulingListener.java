@@ -11,8 +11,10 @@ import org.springframework.stereotype.Component;
 
 import io.swkoreatech.kosp.client.RateLimitException;
 import io.swkoreatech.kosp.client.RateLimitManager;
+import io.swkoreatech.kosp.collection.step.StepContextKeys;
 import io.swkoreatech.kosp.common.queue.JobQueueService;
 import io.swkoreatech.kosp.common.queue.Priority;
+import io.swkoreatech.kosp.queue.LeaseOwner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,6 +25,7 @@ public class JobSchedulingListener implements JobExecutionListener {
 
     private final JobQueueService jobQueueService;
     private final RateLimitManager rateLimitManager;
+    private final LeaseOwner leaseOwner;
 
     @Override
     public void beforeJob(JobExecution jobExecution) {
@@ -36,7 +39,15 @@ public class JobSchedulingListener implements JobExecutionListener {
         String runId = jobExecution.getJobParameters().getString("runId");
         BatchStatus status = jobExecution.getStatus();
         log.info("========== [User {}] JOB FINISHED - {} ==========", userId, status);
+        persistRateLimit(userId, jobExecution);
+        try {
+            schedule(userId, runId, status, jobExecution);
+        } finally {
+            jobQueueService.release(leaseOwner.id(), userId, runId);
+        }
+    }
 
+    private void schedule(Long userId, String runId, BatchStatus status, JobExecution jobExecution) {
         if (status == BatchStatus.COMPLETED) {
             scheduleNextRun(userId);
             return;
@@ -50,20 +61,18 @@ public class JobSchedulingListener implements JobExecutionListener {
         scheduleRetry(userId, runId, Instant.now().plus(30, ChronoUnit.MINUTES));
     }
 
+    private void persistRateLimit(Long userId, JobExecution jobExecution) {
+        String token = jobExecution.getExecutionContext().getString(StepContextKeys.GITHUB_TOKEN, null);
+        if (token == null) {
+            return;
+        }
+        rateLimitManager.persist(userId, token);
+    }
+
     private boolean isRateLimitError(JobExecution execution) {
         List<Throwable> exceptions = execution.getAllFailureExceptions();
         return exceptions.stream()
-            .anyMatch(this::containsRateLimitException);
-    }
-
-    private boolean containsRateLimitException(Throwable throwable) {
-        if (throwable == null) {
-            return false;
-        }
-        if (throwable instanceof RateLimitException) {
-            return true;
-        }
-        return containsRateLimitException(throwable.getCause());
+            .anyMatch(RateLimitException::isCauseOf);
     }
 
     private void scheduleNextRun(Long userId) {
@@ -1,5 +1,8 @@
 package io.swkoreatech.kosp.job;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -8,20 +11,31 @@ import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
- * Automatically logs step execution metrics after each step completes.
- * Extracts duration, read/write/skip counts from StepExecution.
+ * Logs and records step execution metrics after each step completes.
+ * Extracts duration, read/write/skip counts from StepExecution and records the duration as
+ * {@code harvester.step.duration} tagged by step name and exit code.
+ *
+ * <p>The listener is a singleton shared by concurrently running jobs, so the duration is
+ * taken from the step execution itself rather than from a field.
  */
 @Component
 public class StepMetricsListener implements StepExecutionListener {
 
     private static final Logger log = LoggerFactory.getLogger(StepMetricsListener.class);
-    private long startTime;
+
+    private final MeterRegistry meterRegistry;
+
+    public StepMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @Override
     public void beforeStep(StepExecution stepExecution) {
         MDC.put("stepName", stepExecution.getStepName());
-        startTime = System.currentTimeMillis();
     }
 
     @Override
@@ -35,16 +49,28 @@ public class StepMetricsListener implements StepExecutionListener {
     }
 
     private void logMetrics(StepExecution stepExecution) {
-        long duration = calculateDuration();
+        Duration duration = calculateDuration(stepExecution);
         long readCount = stepExecution.getReadCount();
         long writeCount = stepExecution.getWriteCount();
         long skipCount = stepExecution.getSkipCount();
 
+        Timer.builder("harvester.step.duration")
+            .description("Wall-clock duration of a collection job step")
+            .tag("step", stepExecution.getStepName())
+            .tag("status", stepExecution.getExitStatus().getExitCode())
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(duration);
+
         log.info("Step [{}] completed in {}ms - Read: {}, Write: {}, Skip: {}",
-            stepExecution.getStepName(), duration, readCount, writeCount, skipCount);
+            stepExecution.getStepName(), duration.toMillis(), readCount, writeCount, skipCount);
     }
 
-    private long calculateDuration() {
-        return System.currentTimeMillis() - startTime;
+    private Duration calculateDuration(StepExecution stepExecution) {
+        LocalDateTime startTime = stepExecution.getStartTime();
+        if (startTime == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(startTime, LocalDateTime.now());
     }
 }
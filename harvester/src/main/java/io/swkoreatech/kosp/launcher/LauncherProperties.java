@@ -0,0 +1,28 @@
+package io.swkoreatech.kosp.launcher;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Worker pool settings for {@link PriorityJobLauncher}.
+ *
+ * @param poolSize number of collection jobs that may run at the same time
+ * @param queueCapacity number of accepted jobs that may wait for a free worker
+ */
+@ConfigurationProperties(prefix = "harvester.launcher")
+public record LauncherProperties(
+    Integer poolSize,
+    Integer queueCapacity
+) {
+
+    private static final int DEFAULT_POOL_SIZE = 8;
+    private static final int DEFAULT_QUEUE_CAPACITY = 0;
+
+    public LauncherProperties {
+        if (poolSize == null || poolSize < 1) {
+            poolSize = DEFAULT_POOL_SIZE;
+        }
+        if (queueCapacity == null || queueCapacity < 0) {
+            queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        }
+    }
+}
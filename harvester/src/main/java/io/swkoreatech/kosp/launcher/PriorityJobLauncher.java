@@ -1,55 +1,169 @@
 package io.swkoreatech.kosp.launcher;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.PreDestroy;
 
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Runs githubCollectionJob for many users at once on a bounded worker pool.
+ *
+ * <p>Each user has their own GitHub token and rate-limit budget, so jobs of different users
+ * do not compete for quota. A user is never admitted twice: the launcher tracks users whose
+ * job was accepted but has not finished yet, which also covers the window before Spring Batch
+ * persists the JobExecution that {@code RedisJobQueueListener} checks.
+ *
+ * <p>Exposed metrics: {@code harvester.launcher.active}, {@code harvester.launcher.queued},
+ * {@code harvester.launcher.saturation} and the {@code harvester.job.duration} timer.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PriorityJobLauncher {
-    
+
+    private static final String THREAD_NAME_PREFIX = "harvester-job-";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final JobLauncher jobLauncher;
-    private final @Lazy Job githubCollectionJob;
-    private final ExecutorService executor = Executors.newSingleThreadExecutor();
-    
-    public void run(Long userId, String runId) {
-        executor.submit(() -> executeJob(userId, runId));
+    private final Job githubCollectionJob;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> activeUsers = ConcurrentHashMap.newKeySet();
+
+    public PriorityJobLauncher(
+        JobLauncher jobLauncher,
+        @Lazy Job githubCollectionJob,
+        LauncherProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.githubCollectionJob = githubCollectionJob;
+        this.meterRegistry = meterRegistry;
+        this.executor = createExecutor(properties);
+        registerGauges();
+        log.info("PriorityJobLauncher started with {} workers", properties.poolSize());
+    }
+
+    private ThreadPoolExecutor createExecutor(LauncherProperties properties) {
+        return new ThreadPoolExecutor(
+            properties.poolSize(),
+            properties.poolSize(),
+            60, TimeUnit.SECONDS,
+            createWorkQueue(properties.queueCapacity()),
+            new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    private BlockingQueue<Runnable> createWorkQueue(int capacity) {
+        if (capacity == 0) {
+            return new SynchronousQueue<>();
+        }
+        return new LinkedBlockingQueue<>(capacity);
+    }
+
+    private void registerGauges() {
+        Gauge.builder("harvester.launcher.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Collection jobs currently running")
+            .register(meterRegistry);
+        Gauge.builder("harvester.launcher.queued", executor, e -> e.getQueue().size())
+            .description("Accepted collection jobs waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("harvester.launcher.saturation", this, PriorityJobLauncher::saturation)
+            .description("Ratio of occupied worker slots")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Submits the job of a user to the worker pool.
+     *
+     * @return false if the user already has an accepted job or the pool is full;
+     *         the caller is responsible for re-queuing the entry
+     */
+    public boolean run(Long userId, String runId) {
+        if (!activeUsers.add(userId)) {
+            log.info("Job for user {} already accepted by this launcher", userId);
+            return false;
+        }
+        try {
+            executor.execute(() -> executeJob(userId, runId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            activeUsers.remove(userId);
+            log.info("Worker pool saturated, job for user {} not accepted", userId);
+            return false;
+        }
+    }
+
+    public boolean isActive(Long userId) {
+        return activeUsers.contains(userId);
+    }
+
+    /**
+     * Number of jobs that can be accepted right now without being rejected. Queued jobs are
+     * already counted as accepted users, so the whole queue counts towards the capacity.
+     */
+    public int availableSlots() {
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        int capacity = executor.getMaximumPoolSize() + queue.size() + queue.remainingCapacity();
+        return Math.max(0, capacity - activeUsers.size());
+    }
+
+    private double saturation() {
+        return (double) activeUsers.size() / executor.getMaximumPoolSize();
     }
-    
+
     private void executeJob(Long userId, String runId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = BatchStatus.UNKNOWN.name();
         try {
             JobParameters params = new JobParametersBuilder()
                 .addLong("userId", userId, false)
                 .addString("runId", runId, true)
                 .toJobParameters();
-            
+
             log.info("Launching job for user {} (runId: {})", userId, runId);
-            jobLauncher.run(githubCollectionJob, params);
+            JobExecution execution = jobLauncher.run(githubCollectionJob, params);
+            outcome = execution.getStatus().name();
         } catch (Exception e) {
+            outcome = BatchStatus.FAILED.name();
             log.error("Failed to launch job for user {}", userId, e);
+        } finally {
+            activeUsers.remove(userId);
+            sample.stop(Timer.builder("harvester.job.duration")
+                .description("Wall time of a githubCollectionJob execution")
+                .tag("status", outcome)
+                .register(meterRegistry));
         }
     }
-    
+
     @PreDestroy
     public void shutdown() {
-        log.info("PriorityJobLauncher shutting down, awaiting task completion");
+        log.info("PriorityJobLauncher shutting down, awaiting {} running jobs", activeUsers.size());
         executor.shutdown();
         try {
-            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
-                log.warn("Executor did not terminate within 30s, forcing shutdown");
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Executor did not terminate within {}s, forcing shutdown", SHUTDOWN_TIMEOUT_SECONDS);
                 executor.shutdownNow();
             }
         } catch (InterruptedException e) {
@@ -0,0 +1,22 @@
+package io.swkoreatech.kosp.queue;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Identifies this replica as the owner of the queue leases it claims.
+ *
+ * <p>The id is unique per process start, so a restarted replica never mistakes the leases of its
+ * previous, crashed life for its own.
+ */
+@Component
+public class LeaseOwner {
+
+    private final String id = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+    public String id() {
+        return id;
+    }
+}
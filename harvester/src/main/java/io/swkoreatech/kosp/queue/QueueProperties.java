@@ -0,0 +1,71 @@
+package io.swkoreatech.kosp.queue;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Polling and lease settings of {@link RedisJobQueueListener}.
+ *
+ * @param pollInterval      tick of the poll loop; a backlog is drained at this pace
+ * @param maxIdleBackoff    longest pause between polls while the queue has nothing due
+ * @param claimBatchSize    most entries claimed in a single Redis round-trip
+ * @param leaseDuration     how long a claimed entry stays reserved for this replica without a heartbeat
+ * @param heartbeatInterval how often leases of running jobs are renewed; must be below {@code leaseDuration},
+ *                          defaults to a third of it when that is shorter than the usual 30 seconds
+ * @param reclaimInterval   how often expired leases of other, crashed replicas are put back into the queue
+ * @param reclaimBatchSize  expired leases moved back per reclaim round
+ */
+@ConfigurationProperties(prefix = "harvester.queue")
+public record QueueProperties(
+    Duration pollInterval,
+    Duration maxIdleBackoff,
+    Integer claimBatchSize,
+    Duration leaseDuration,
+    Duration heartbeatInterval,
+    Duration reclaimInterval,
+    Integer reclaimBatchSize
+) {
+
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(200);
+    private static final Duration DEFAULT_MAX_IDLE_BACKOFF = Duration.ofSeconds(5);
+    private static final int DEFAULT_CLAIM_BATCH_SIZE = 20;
+    private static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(2);
+    private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration DEFAULT_RECLAIM_INTERVAL = Duration.ofMinutes(1);
+    private static final int DEFAULT_RECLAIM_BATCH_SIZE = 100;
+
+    public QueueProperties {
+        if (isNotPositive(pollInterval)) {
+            pollInterval = DEFAULT_POLL_INTERVAL;
+        }
+        if (isNotPositive(maxIdleBackoff) || maxIdleBackoff.compareTo(pollInterval) < 0) {
+            maxIdleBackoff = DEFAULT_MAX_IDLE_BACKOFF.compareTo(pollInterval) < 0 ? pollInterval : DEFAULT_MAX_IDLE_BACKOFF;
+        }
+        if (claimBatchSize == null || claimBatchSize < 1) {
+            claimBatchSize = DEFAULT_CLAIM_BATCH_SIZE;
+        }
+        if (isNotPositive(leaseDuration)) {
+            leaseDuration = DEFAULT_LEASE_DURATION;
+        }
+        if (isNotPositive(heartbeatInterval)) {
+            Duration thirdOfLease = leaseDuration.dividedBy(3);
+            heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL.compareTo(thirdOfLease) > 0 ? thirdOfLease : DEFAULT_HEARTBEAT_INTERVAL;
+        }
+        if (heartbeatInterval.compareTo(leaseDuration) >= 0) {
+            throw new IllegalArgumentException(
+                "harvester.queue.heartbeat-interval (" + heartbeatInterval
+                    + ") must be shorter than harvester.queue.lease-duration (" + leaseDuration + ")");
+        }
+        if (isNotPositive(reclaimInterval)) {
+            reclaimInterval = DEFAULT_RECLAIM_INTERVAL;
+        }
+        if (reclaimBatchSize == null || reclaimBatchSize < 1) {
+            reclaimBatchSize = DEFAULT_RECLAIM_BATCH_SIZE;
+        }
+    }
+
+    private static boolean isNotPositive(Duration duration) {
+        return duration == null || duration.isNegative() || duration.isZero();
+    }
+}
@@ -1,14 +1,18 @@
 package io.swkoreatech.kosp.queue;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Optional;
-import java.util.Set;
-import org.springframework.batch.core.JobExecution;
-import org.springframework.batch.core.explore.JobExplorer;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextClosedEvent;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Component;
 import io.swkoreatech.kosp.common.queue.JobQueueEntry;
 import io.swkoreatech.kosp.common.queue.JobQueueService;
@@ -19,33 +23,62 @@ import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Feeds {@link PriorityJobLauncher} from the shared Redis queue.
+ *
+ * <p>Any number of harvester replicas may poll the same queue: entries are claimed atomically
+ * with a lease owned by this replica, renewed by a heartbeat while the job runs and released
+ * when it has finished. Leases left behind by a crashed replica expire and are reclaimed.
+ * Whether a user's job already runs elsewhere is decided by the leases alone: a claim never hands
+ * out a run of a user whose other run is leased, and a crashed replica leaves its batch execution
+ * {@code STARTED} forever, but its lease expires.
+ *
+ * <p>Due entries are claimed in batches sized to the launcher's free slots and kept in a local
+ * prefetch buffer until a worker takes them. While a backlog exists the queue is drained on
+ * every tick; once nothing is due, polls back off exponentially up to {@code maxIdleBackoff}.
+ *
+ * <p>The poll loop, heartbeat and reclaim are scheduled from {@link QueueProperties}, so their
+ * defaults and validation apply to the schedule as well.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class RedisJobQueueListener implements ApplicationListener<ContextClosedEvent> {
+public class RedisJobQueueListener implements ApplicationListener<ContextClosedEvent>, SchedulingConfigurer {
     private final JobQueueService jobQueueService;
     private final PriorityJobLauncher jobLauncher;
     private final UserRepository userRepository;
-    private final JobExplorer jobExplorer;
+    private final QueueProperties queueProperties;
+    private final LeaseOwner leaseOwner;
+    private final Map<Long, JobQueueEntry> leasedEntries = new ConcurrentHashMap<>();
+    private final Deque<JobQueueEntry> prefetched = new ConcurrentLinkedDeque<>();
     private volatile boolean running = true;
+    private volatile Duration idleBackoff = Duration.ZERO;
+    private volatile Instant nextPollAt = Instant.EPOCH;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::poll, queueProperties.pollInterval());
+        registrar.addFixedDelayTask(this::heartbeat, queueProperties.heartbeatInterval());
+        registrar.addFixedDelayTask(this::reclaimExpiredLeases, queueProperties.reclaimInterval());
+    }
 
     @Override
     public void onApplicationEvent(ContextClosedEvent event) {
         running = false;
         log.info("RedisJobQueueListener shutting down, stopping poll loop");
+        returnPrefetched();
     }
 
-    @Scheduled(fixedDelay = 1000)
     public void poll() {
-        if (!running) {
+        if (!running || Instant.now().isBefore(nextPollAt)) {
+            return;
+        }
+        if (jobLauncher.availableSlots() == 0) {
             return;
         }
         try {
-            Optional<JobQueueEntry> entry = jobQueueService.dequeue();
-            if (entry.isEmpty()) {
-                return;
-            }
-            processEntry(entry.get());
+            int claimed = drainQueue();
+            adaptPollRate(claimed);
         } catch (Exception e) {
             if (!running) {
                 log.info("Poll interrupted during shutdown: {}", e.getMessage());
@@ -55,22 +88,155 @@ public class RedisJobQueueListener implements ApplicationListener<ContextClosedE
         }
     }
 
-    private void processEntry(JobQueueEntry entry) {
+    /**
+     * Claims and launches until the launcher is full or nothing is due anymore.
+     *
+     * @return number of entries claimed
+     */
+    private int drainQueue() {
+        int claimedTotal = 0;
+        while (running) {
+            int claimed = prefetch();
+            claimedTotal += claimed;
+            launchPrefetched();
+            if (claimed == 0 || jobLauncher.availableSlots() == 0) {
+                break;
+            }
+        }
+        return claimedTotal;
+    }
+
+    private int prefetch() {
+        int wanted = Math.min(
+            jobLauncher.availableSlots() - prefetched.size(),
+            queueProperties.claimBatchSize()
+        );
+        List<JobQueueEntry> entries = jobQueueService.claim(leaseOwner.id(), queueProperties.leaseDuration(), wanted);
+        prefetched.addAll(entries);
+        return entries.size();
+    }
+
+    private void launchPrefetched() {
+        while (jobLauncher.availableSlots() > 0) {
+            JobQueueEntry entry = prefetched.pollFirst();
+            if (entry == null) {
+                return;
+            }
+            if (!processEntry(entry)) {
+                prefetched.addFirst(entry);
+                return;
+            }
+        }
+    }
+
+    private void adaptPollRate(int claimed) {
+        if (claimed > 0 || !prefetched.isEmpty()) {
+            idleBackoff = Duration.ZERO;
+            nextPollAt = Instant.EPOCH;
+            return;
+        }
+        Duration doubled = idleBackoff.isZero() ? queueProperties.pollInterval() : idleBackoff.multipliedBy(2);
+        idleBackoff = doubled.compareTo(queueProperties.maxIdleBackoff()) > 0 ? queueProperties.maxIdleBackoff() : doubled;
+        nextPollAt = Instant.now().plus(idleBackoff);
+    }
+
+    /**
+     * Hands entries that were claimed but never launched back to the queue for other replicas.
+     */
+    private void returnPrefetched() {
+        JobQueueEntry entry;
+        while ((entry = prefetched.pollFirst()) != null) {
+            try {
+                jobQueueService.enqueue(entry.userId(), entry.runId(), Instant.now(), Priority.HIGH);
+            } catch (Exception e) {
+                log.warn("Failed to return prefetched job of user {}, its lease will expire: {}", entry.userId(), e.getMessage());
+                continue;
+            }
+            releaseQuietly(entry);
+        }
+    }
+
+    /**
+     * Renews the leases of prefetched entries and of jobs still running on this replica,
+     * and releases the rest.
+     * Finished jobs normally release their lease in {@code JobSchedulingListener};
+     * this only catches jobs that never reached it.
+     */
+    public void heartbeat() {
+        if (leasedEntries.isEmpty() && prefetched.isEmpty()) {
+            return;
+        }
+        List<JobQueueEntry> active = new ArrayList<>(prefetched);
+        for (JobQueueEntry entry : leasedEntries.values()) {
+            if (jobLauncher.isActive(entry.userId())) {
+                active.add(entry);
+                continue;
+            }
+            leasedEntries.remove(entry.userId(), entry);
+            releaseQuietly(entry);
+        }
+        try {
+            long renewed = jobQueueService.renewLeases(leaseOwner.id(), active, queueProperties.leaseDuration());
+            if (renewed < active.size()) {
+                log.warn("Renewed {} of {} leases; the others expired and were reclaimed", renewed, active.size());
+            }
+        } catch (Exception e) {
+            log.warn("Lease heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    public void reclaimExpiredLeases() {
+        if (!running) {
+            return;
+        }
+        try {
+            long reclaimed = jobQueueService.reclaimExpiredLeases(queueProperties.reclaimBatchSize());
+            if (reclaimed > 0) {
+                log.info("Reclaimed {} expired job leases", reclaimed);
+            }
+        } catch (Exception e) {
+            log.warn("Lease reclaim failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return false if the launcher had no free worker; the entry stays claimed and is retried
+     */
+    private boolean processEntry(JobQueueEntry entry) {
         if (isUserDeleted(entry.userId())) {
             log.info("Skipping job for deleted user: {}", entry.userId());
-            return;
+            releaseQuietly(entry);
+            return true;
         }
-        if (isJobRunningForUser(entry.userId())) {
+        if (isJobRunningForUser(entry)) {
             log.info("Job already running for user {}, re-queuing with 1 min delay", entry.userId());
-            jobQueueService.enqueue(
-                entry.userId(),
-                entry.runId(),
-                Instant.now().plus(1, ChronoUnit.MINUTES),
-                Priority.HIGH
-            );
-            return;
+            requeue(entry);
+            return true;
+        }
+        if (!jobLauncher.run(entry.userId(), entry.runId())) {
+            log.info("Launcher did not accept job for user {}, keeping it prefetched", entry.userId());
+            return false;
+        }
+        leasedEntries.put(entry.userId(), entry);
+        return true;
+    }
+
+    private void requeue(JobQueueEntry entry) {
+        jobQueueService.enqueue(
+            entry.userId(),
+            entry.runId(),
+            Instant.now().plus(1, ChronoUnit.MINUTES),
+            Priority.HIGH
+        );
+        releaseQuietly(entry);
+    }
+
+    private void releaseQuietly(JobQueueEntry entry) {
+        try {
+            jobQueueService.release(leaseOwner.id(), entry.userId(), entry.runId());
+        } catch (Exception e) {
+            log.warn("Failed to release lease of user {}, it will expire: {}", entry.userId(), e.getMessage());
         }
-        jobLauncher.run(entry.userId(), entry.runId());
     }
 
     private boolean isUserDeleted(Long userId) {
@@ -81,12 +247,11 @@ public class RedisJobQueueListener implements ApplicationListener<ContextClosedE
         return user.isDeleted();
     }
 
-    private boolean isJobRunningForUser(Long userId) {
-        Set<JobExecution> runningExecutions = jobExplorer.findRunningJobExecutions("githubCollectionJob");
-        return runningExecutions.stream()
-            .anyMatch(execution -> {
-                Long jobUserId = execution.getJobParameters().getLong("userId");
-                return userId.equals(jobUserId);
-            });
+    /**
+     * Runs leased elsewhere are already deferred by the claim; this catches a local job that
+     * outlived its lease.
+     */
+    private boolean isJobRunningForUser(JobQueueEntry entry) {
+        return jobLauncher.isActive(entry.userId());
     }
 }
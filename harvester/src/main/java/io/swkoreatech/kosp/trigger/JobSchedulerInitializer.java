@@ -2,70 +2,70 @@ package io.swkoreatech.kosp.trigger;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import io.swkoreatech.kosp.common.github.model.GithubUser;
+import io.swkoreatech.kosp.common.queue.JobQueueRequest;
 import io.swkoreatech.kosp.common.queue.JobQueueService;
 import io.swkoreatech.kosp.common.queue.Priority;
-import io.swkoreatech.kosp.domain.user.model.User;
-import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Puts every active user into the job queue on startup.
+ *
+ * <p>Users are read as a two-column projection in one query and enqueued with multi-member
+ * {@code ZADD}s. Users that already wait in the queue or run on a replica are left alone, so
+ * redeploys and additional replicas do not schedule the same user twice.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JobSchedulerInitializer {
 
     private final UserIdProvider userIdProvider;
-    private final UserRepository userRepository;
     private final JobQueueService jobQueueService;
 
     @EventListener(ApplicationReadyEvent.class)
     public void initializeScheduler() {
         log.info("========== Initializing Job Scheduler ==========");
-        
-        List<Long> userIds = userIdProvider.findActiveUserIds();
-        log.info("Found {} active users to schedule", userIds.size());
-        
+
+        List<SchedulingTarget> targets = userIdProvider.findSchedulingTargets();
+        log.info("Found {} active users to schedule", targets.size());
+
+        Set<Long> queuedUserIds = jobQueueService.findQueuedUserIds();
+        Instant now = Instant.now();
+        List<JobQueueRequest> requests = new ArrayList<>(targets.size());
         int immediateCount = 0;
-        int scheduledCount = 0;
-        
-        for (Long userId : userIds) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                continue;
-            }
-            if (!user.hasGithubUser()) {
-                continue;
-            }
-            
-            GithubUser githubUser = user.getGithubUser();
-            Instant resetTime = githubUser.getRateLimitResetAt();
-            Instant now = Instant.now();
-            
-            if (resetTime == null) {
-                jobQueueService.enqueue(userId, UUID.randomUUID().toString(), now, Priority.HIGH);
-                immediateCount++;
+
+        for (SchedulingTarget target : targets) {
+            if (queuedUserIds.contains(target.userId())) {
                 continue;
             }
-            if (resetTime.isBefore(now)) {
-                jobQueueService.enqueue(userId, UUID.randomUUID().toString(), now, Priority.HIGH);
+            JobQueueRequest request = toRequest(target, now);
+            if (request.priority() == Priority.HIGH) {
                 immediateCount++;
-                continue;
             }
-            
-            Instant scheduledAt = resetTime.plus(5, ChronoUnit.MINUTES);
-            jobQueueService.enqueue(userId, UUID.randomUUID().toString(), scheduledAt, Priority.LOW);
-            scheduledCount++;
+            requests.add(request);
+        }
+
+        jobQueueService.enqueueAll(requests);
+        log.info("========== Scheduler Initialized: {} immediate, {} scheduled, {} already queued ==========",
+            immediateCount, requests.size() - immediateCount, targets.size() - requests.size());
+    }
+
+    private JobQueueRequest toRequest(SchedulingTarget target, Instant now) {
+        String runId = UUID.randomUUID().toString();
+        Instant resetTime = target.rateLimitResetAt();
+        if (resetTime == null || resetTime.isBefore(now)) {
+            return new JobQueueRequest(target.userId(), runId, now, Priority.HIGH);
         }
-        
-        log.info("========== Scheduler Initialized: {} immediate, {} scheduled ==========", 
-            immediateCount, scheduledCount);
+        return new JobQueueRequest(target.userId(), runId, resetTime.plus(5, ChronoUnit.MINUTES), Priority.LOW);
     }
 }
@@ -4,17 +4,17 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
-import io.swkoreatech.kosp.domain.user.repository.UserRepository;
+import io.swkoreatech.kosp.user.GithubUserRepository;
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class JpaUserIdProvider implements UserIdProvider {
 
-    private final UserRepository userRepository;
+    private final GithubUserRepository githubUserRepository;
 
     @Override
-    public List<Long> findActiveUserIds() {
-        return userRepository.findActiveUserIds();
+    public List<SchedulingTarget> findSchedulingTargets() {
+        return githubUserRepository.findSchedulingTargets();
     }
 }
@@ -0,0 +1,8 @@
+package io.swkoreatech.kosp.trigger;
+
+import java.time.Instant;
+
+/**
+ * Active user with a GitHub account and the reset time of their last known rate limit.
+ */
+public record SchedulingTarget(Long userId, Instant rateLimitResetAt) {}
@@ -3,5 +3,5 @@ package io.swkoreatech.kosp.trigger;
 import java.util.List;
 
 public interface UserIdProvider {
-    List<Long> findActiveUserIds();
+    List<SchedulingTarget> findSchedulingTargets();
 }
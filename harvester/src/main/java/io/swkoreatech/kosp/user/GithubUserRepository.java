@@ -1,10 +1,13 @@
 package io.swkoreatech.kosp.user;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 
 import io.swkoreatech.kosp.common.github.model.GithubUser;
+import io.swkoreatech.kosp.trigger.SchedulingTarget;
 
 public interface GithubUserRepository extends Repository<GithubUser, Long> {
 
@@ -17,4 +20,11 @@ public interface GithubUserRepository extends Repository<GithubUser, Long> {
     }
 
     Optional<GithubUser> findByGithubLogin(String githubLogin);
+
+    /**
+     * Active users with a GitHub account, projected to the two columns the scheduler needs.
+     */
+    @Query("SELECT new io.swkoreatech.kosp.trigger.SchedulingTarget(u.id, g.rateLimitResetAt) " +
+           "FROM User u JOIN u.githubUser g WHERE u.isDeleted = false")
+    List<SchedulingTarget> findSchedulingTargets();
 }
@@ -0,0 +1,153 @@
+package io.swkoreatech.kosp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import io.swkoreatech.kosp.collection.document.HttpCacheDocument;
+import io.swkoreatech.kosp.collection.repository.HttpCacheRepository;
+import reactor.core.publisher.Mono;
+
+@DisplayName("ConditionalRequestFilter 단위 테스트")
+class ConditionalRequestFilterTest {
+
+    private static final String TOKEN = "test-token";
+    private static final URI URL = URI.create("https://api.github.com/users/octocat");
+    private static final String KEY = ConditionalRequestFilter.cacheKey(TOKEN, URL.toString());
+
+    private final HttpCacheRepository repository = mock(HttpCacheRepository.class);
+    private final ConditionalRequestFilter filter = new ConditionalRequestFilter(
+        repository,
+        new ConditionalRequestProperties(true, 16, Duration.ofDays(7))
+    );
+
+    @Nested
+    @DisplayName("filter 메서드")
+    class FilterTest {
+
+        @Test
+        @DisplayName("캐시가 있으면 If-None-Match를 보내고 304에 캐시된 본문을 200으로 돌려준다")
+        void replaysCachedBody_whenNotModified() {
+            // given
+            HttpCacheDocument cached = HttpCacheDocument.of(
+                KEY, URL.toString(), "\"abc\"", "application/json", "{\"login\":\"octocat\"}", Duration.ofDays(7)
+            );
+            when(repository.findById(KEY)).thenReturn(Optional.of(cached));
+            AtomicReference<ClientRequest> sent = new AtomicReference<>();
+            ExchangeFunction next = request -> {
+                sent.set(request);
+                return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+            };
+
+            // when
+            ClientResponse response = filter.filter(get(), next).block(Duration.ofSeconds(5));
+
+            // then
+            assertThat(sent.get().headers().getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"abc\"");
+            assertThat(response.statusCode().value()).isEqualTo(200);
+            assertThat(response.bodyToMono(String.class).block(Duration.ofSeconds(5))).isEqualTo("{\"login\":\"octocat\"}");
+        }
+
+        @Test
+        @DisplayName("ETag가 있는 200 응답은 저장하고 본문을 그대로 전달한다")
+        void storesResponse_whenEtagPresent() {
+            // given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            ExchangeFunction next = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .body("{\"id\":1}")
+                .build());
+
+            // when
+            ClientResponse response = filter.filter(get(), next).block(Duration.ofSeconds(5));
+
+            // then
+            assertThat(response.bodyToMono(String.class).block(Duration.ofSeconds(5))).isEqualTo("{\"id\":1}");
+            ArgumentCaptor<HttpCacheDocument> captor = ArgumentCaptor.forClass(HttpCacheDocument.class);
+            verify(repository).save(captor.capture());
+            assertThat(captor.getValue().getId()).isEqualTo(KEY);
+            assertThat(captor.getValue().getEtag()).isEqualTo("\"v1\"");
+        }
+
+        @Test
+        @DisplayName("만료된 캐시는 무시하고 조건 없는 요청을 보낸다")
+        void ignoresExpiredEntry() {
+            // given
+            HttpCacheDocument expired = HttpCacheDocument.of(
+                KEY, URL.toString(), "\"abc\"", "application/json", "{}", Duration.ofDays(-1)
+            );
+            when(repository.findById(KEY)).thenReturn(Optional.of(expired));
+            AtomicReference<ClientRequest> sent = new AtomicReference<>();
+            ExchangeFunction next = request -> {
+                sent.set(request);
+                return Mono.just(ClientResponse.create(HttpStatus.OK).body("{}").build());
+            };
+
+            // when
+            filter.filter(get(), next).block(Duration.ofSeconds(5));
+
+            // then
+            assertThat(sent.get().headers().containsKey(HttpHeaders.IF_NONE_MATCH)).isFalse();
+        }
+
+        @Test
+        @DisplayName("본문 크기는 문자 수가 아니라 UTF-8 바이트 수로 제한한다")
+        void skipsBodiesLargerThanLimitInBytes() {
+            // given
+            when(repository.findById(KEY)).thenReturn(Optional.empty());
+            String body = "\"가나다라마바\"";
+            ExchangeFunction next = request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .body(body)
+                .build());
+
+            // when
+            ClientResponse response = filter.filter(get(), next).block(Duration.ofSeconds(5));
+
+            // then
+            assertThat(response.bodyToMono(String.class).block(Duration.ofSeconds(5))).isEqualTo(body);
+            verify(repository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("GET이 아닌 요청은 캐시를 조회하지 않는다")
+        void bypassesCache_forNonGetRequests() {
+            // given
+            ClientRequest post = ClientRequest.create(HttpMethod.POST, URL)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+                .build();
+            ExchangeFunction next = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+            // when
+            filter.filter(post, next).block(Duration.ofSeconds(5));
+
+            // then
+            verify(repository, never()).findById(any());
+        }
+    }
+
+    private ClientRequest get() {
+        return ClientRequest.create(HttpMethod.GET, URL)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN)
+            .build();
+    }
+}
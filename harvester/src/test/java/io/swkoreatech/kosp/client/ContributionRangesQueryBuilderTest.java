@@ -0,0 +1,76 @@
+package io.swkoreatech.kosp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import io.swkoreatech.kosp.client.dto.DateTimeRange;
+
+@DisplayName("ContributionRangesQueryBuilder 단위 테스트")
+class ContributionRangesQueryBuilderTest {
+
+    private static final String FRAGMENT = "fragment ContributedRepositories on ContributionsCollection { id }\n";
+
+    @Nested
+    @DisplayName("build 메서드")
+    class BuildTest {
+
+        @Test
+        @DisplayName("범위마다 별칭과 변수를 선언한다")
+        void declaresAliasAndVariablesPerRange() {
+            // when
+            String query = ContributionRangesQueryBuilder.build(2, FRAGMENT);
+
+            // then
+            assertThat(query)
+                .contains("$login: String!, $from0: DateTime!, $to0: DateTime!, $from1: DateTime!, $to1: DateTime!")
+                .contains("r0: contributionsCollection(from: $from0, to: $to0)")
+                .contains("r1: contributionsCollection(from: $from1, to: $to1)")
+                .doesNotContain("r2:");
+        }
+
+        @Test
+        @DisplayName("fragment를 문서 끝에 한 번만 포함한다")
+        void appendsFragmentOnce() {
+            // when
+            String query = ContributionRangesQueryBuilder.build(3, FRAGMENT);
+
+            // then
+            assertThat(query).endsWith(FRAGMENT);
+            assertThat(query.split("fragment ContributedRepositories", -1)).hasSize(2);
+            assertThat(query.split("\\.\\.\\.ContributedRepositories", -1)).hasSize(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("variables 메서드")
+    class VariablesTest {
+
+        @Test
+        @DisplayName("범위 순서대로 인덱스가 붙은 변수를 만든다")
+        void indexesVariablesInRangeOrder() {
+            // given
+            List<DateTimeRange> ranges = List.of(
+                new DateTimeRange("2024-01-01T00:00:00Z", "2024-02-01T00:00:01Z"),
+                new DateTimeRange("2024-02-01T00:00:00Z", "2024-03-01T00:00:01Z")
+            );
+
+            // when
+            Map<String, Object> variables = ContributionRangesQueryBuilder.variables("octocat", ranges);
+
+            // then
+            assertThat(variables)
+                .containsEntry("login", "octocat")
+                .containsEntry("from0", "2024-01-01T00:00:00Z")
+                .containsEntry("to0", "2024-02-01T00:00:01Z")
+                .containsEntry("from1", "2024-02-01T00:00:00Z")
+                .containsEntry("to1", "2024-03-01T00:00:01Z")
+                .hasSize(5);
+        }
+    }
+}
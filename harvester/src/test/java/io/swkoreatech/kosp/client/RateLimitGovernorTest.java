@@ -0,0 +1,141 @@
+package io.swkoreatech.kosp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swkoreatech.kosp.client.RateLimitGovernor.Resource;
+
+@DisplayName("RateLimitGovernor 단위 테스트")
+class RateLimitGovernorTest {
+
+    private static final String TOKEN = "test-token";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitGovernor governor = new RateLimitGovernor(
+        new RateLimitProperties(100, 1000, Duration.ofMinutes(5)),
+        meterRegistry
+    );
+
+    @Nested
+    @DisplayName("acquire 메서드")
+    class AcquireTest {
+
+        @Test
+        @DisplayName("알려진 한도가 없으면 즉시 통과한다")
+        void passesImmediately_whenBudgetUnknown() {
+            // when & then
+            governor.acquire(TOKEN, Resource.GRAPHQL).block(Duration.ofMillis(100));
+        }
+
+        @Test
+        @DisplayName("남은 포인트가 충분하면 즉시 통과하고 포인트를 차감한다")
+        void passesAndDecrements_whenBudgetPlentiful() {
+            // given
+            governor.record(TOKEN, headers(4000, Instant.now().plusSeconds(3600), "graphql"), Resource.GRAPHQL);
+
+            // when
+            governor.acquire(TOKEN, Resource.GRAPHQL).block(Duration.ofMillis(100));
+
+            // then
+            assertThat(governor.state(TOKEN, Resource.GRAPHQL))
+                .hasValueSatisfying(state -> assertThat(state.remaining()).isEqualTo(3999));
+        }
+
+        @Test
+        @DisplayName("예비분만 남고 리셋이 maxWait 이후면 RateLimitException이 발생한다")
+        void failsWithRateLimitException_whenResetBeyondMaxWait() {
+            // given
+            Instant resetAt = Instant.now().plusSeconds(3600);
+            governor.record(TOKEN, headers(100, resetAt, "graphql"), Resource.GRAPHQL);
+
+            // when & then
+            assertThatThrownBy(() -> governor.acquire(TOKEN, Resource.GRAPHQL).block())
+                .isInstanceOf(RateLimitException.class)
+                .hasMessageContaining("Reset at: " + Instant.ofEpochSecond(resetAt.getEpochSecond()));
+        }
+
+        @Test
+        @DisplayName("REST와 GraphQL 예산은 따로 관리된다")
+        void tracksResourcesSeparately() {
+            // given
+            governor.record(TOKEN, headers(100, Instant.now().plusSeconds(3600), "core"), Resource.GRAPHQL);
+
+            // when & then
+            governor.acquire(TOKEN, Resource.GRAPHQL).block(Duration.ofMillis(100));
+            assertThatThrownBy(() -> governor.acquire(TOKEN, Resource.CORE).block())
+                .isInstanceOf(RateLimitException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("mostConstrained 메서드")
+    class MostConstrainedTest {
+
+        @Test
+        @DisplayName("남은 포인트가 가장 적은 예산을 반환한다")
+        void returnsLowestRemaining() {
+            // given
+            governor.record(TOKEN, headers(4000, Instant.now().plusSeconds(3600), "core"), Resource.CORE);
+            governor.record(TOKEN, headers(1200, Instant.now().plusSeconds(1800), "graphql"), Resource.GRAPHQL);
+
+            // when & then
+            assertThat(governor.mostConstrained(TOKEN))
+                .hasValueSatisfying(state -> assertThat(state.remaining()).isEqualTo(1200));
+        }
+
+        @Test
+        @DisplayName("forget 이후에는 비어 있다")
+        void isEmpty_afterForget() {
+            // given
+            governor.record(TOKEN, headers(4000, Instant.now().plusSeconds(3600), "core"), Resource.CORE);
+
+            // when
+            governor.forget(TOKEN);
+
+            // then
+            assertThat(governor.mostConstrained(TOKEN)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("남은 포인트 게이지")
+    class RemainingGaugeTest {
+
+        @Test
+        @DisplayName("토큰 원문 없이 남은 포인트를 노출하고 forget 시 제거한다")
+        void exposesRemainingPoints_untilForget() {
+            // given
+            governor.record(TOKEN, headers(4000, Instant.now().plusSeconds(3600), "graphql"), Resource.GRAPHQL);
+
+            // when
+            Gauge gauge = meterRegistry.find("github.ratelimit.remaining").tag("resource", "graphql").gauge();
+
+            // then
+            assertThat(gauge).isNotNull();
+            assertThat(gauge.value()).isEqualTo(4000);
+            assertThat(gauge.getId().getTag("token")).isNotEqualTo(TOKEN).hasSize(8);
+
+            governor.forget(TOKEN);
+            assertThat(meterRegistry.find("github.ratelimit.remaining").gauge()).isNull();
+        }
+    }
+
+    private HttpHeaders headers(int remaining, Instant resetAt, String resource) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", "5000");
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.add("X-RateLimit-Reset", String.valueOf(resetAt.getEpochSecond()));
+        headers.add("X-RateLimit-Resource", resource);
+        return headers;
+    }
+}
@@ -0,0 +1,59 @@
+package io.swkoreatech.kosp.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RepositoryMetadataQueryBuilder 단위 테스트")
+class RepositoryMetadataQueryBuilderTest {
+
+    private static final String FRAGMENT = "fragment RepositoryMetadata on Repository { name }\n";
+
+    @Nested
+    @DisplayName("build 메서드")
+    class BuildTest {
+
+        @Test
+        @DisplayName("레포지토리마다 별칭과 변수를 선언하고 fragment를 한 번만 포함한다")
+        void declaresAliasAndVariablesPerRepository() {
+            // when
+            String query = RepositoryMetadataQueryBuilder.build(2, FRAGMENT);
+
+            // then
+            assertThat(query)
+                .contains("$owner0: String!, $name0: String!, $owner1: String!, $name1: String!")
+                .contains("r0: repository(owner: $owner0, name: $name0)")
+                .contains("r1: repository(owner: $owner1, name: $name1)")
+                .doesNotContain("r2:")
+                .endsWith(FRAGMENT);
+            assertThat(query.split("\\.\\.\\.RepositoryMetadata", -1)).hasSize(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("variables 메서드")
+    class VariablesTest {
+
+        @Test
+        @DisplayName("owner/name을 나눠 인덱스가 붙은 변수를 만든다")
+        void splitsFullNames() {
+            // when
+            Map<String, Object> variables = RepositoryMetadataQueryBuilder.variables(
+                List.of("octocat/hello-world", "swkoreatech/kosp")
+            );
+
+            // then
+            assertThat(variables)
+                .containsEntry("owner0", "octocat")
+                .containsEntry("name0", "hello-world")
+                .containsEntry("owner1", "swkoreatech")
+                .containsEntry("name1", "kosp")
+                .hasSize(4);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.swkoreatech.kosp.collection.metadata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.swkoreatech.kosp.client.GithubGraphQLClient;
+import io.swkoreatech.kosp.client.dto.ContributedReposResponse.RepositoryInfo;
+import io.swkoreatech.kosp.collection.document.RepositoryMetadataDocument;
+import io.swkoreatech.kosp.collection.repository.RepositoryMetadataRepository;
+import io.swkoreatech.kosp.collection.step.DiscoveryProperties;
+import reactor.core.publisher.Mono;
+
+@DisplayName("RepositoryMetadataStore 단위 테스트")
+class RepositoryMetadataStoreTest {
+
+    private static final String CACHED = "swkoreatech/course";
+    private static final String OWNED = "octocat/hello-world";
+
+    private final RepositoryMetadataRepository repository = mock(RepositoryMetadataRepository.class);
+    private final GithubGraphQLClient graphQLClient = mock(GithubGraphQLClient.class);
+    private final RepositoryMetadataStore store = new RepositoryMetadataStore(
+        repository,
+        graphQLClient,
+        new DiscoveryProperties(null, null, Duration.ofHours(24))
+    );
+
+    @Nested
+    @DisplayName("refresh 메서드")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("TTL 안의 메타데이터는 다시 받지 않고 이미 가진 레포 정보는 요청 없이 저장한다")
+        void reusesCachedAndKnownMetadata() {
+            // given
+            RepositoryMetadataDocument cached = RepositoryMetadataDocument.builder()
+                .fullName(CACHED)
+                .stargazersCount(42)
+                .fetchedAt(Instant.now().minus(Duration.ofHours(1)))
+                .build();
+            when(repository.findAllById(any())).thenReturn(List.of(cached));
+            RepositoryInfo owned = mock(RepositoryInfo.class);
+            when(owned.getNameWithOwner()).thenReturn(OWNED);
+            when(owned.getStargazerCount()).thenReturn(7);
+
+            // when
+            int fetched = store.refresh(List.of(CACHED, OWNED), Set.of(owned), "token");
+
+            // then
+            assertThat(fetched).isZero();
+            verify(graphQLClient, never()).getRepositoryMetadata(anyList(), anyString(), any());
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<RepositoryMetadataDocument>> captor = ArgumentCaptor.forClass(List.class);
+            verify(repository).saveAll(captor.capture());
+            assertThat(captor.getValue())
+                .singleElement()
+                .satisfies(document -> {
+                    assertThat(document.getFullName()).isEqualTo(OWNED);
+                    assertThat(document.getStargazersCount()).isEqualTo(7);
+                });
+        }
+
+        @Test
+        @DisplayName("TTL이 지난 메타데이터는 다시 받는다")
+        void refetchesExpiredMetadata() {
+            // given
+            RepositoryMetadataDocument expired = RepositoryMetadataDocument.builder()
+                .fullName(CACHED)
+                .fetchedAt(Instant.now().minus(Duration.ofDays(2)))
+                .build();
+            when(repository.findAllById(any())).thenReturn(List.of(expired));
+            when(graphQLClient.getRepositoryMetadata(anyList(), anyString(), any()))
+                .thenReturn(Mono.empty());
+
+            // when
+            int fetched = store.refresh(List.of(CACHED), Set.of(), "token");
+
+            // then
+            assertThat(fetched).isEqualTo(1);
+            verify(graphQLClient).getRepositoryMetadata(eq(List.of(CACHED)), eq("token"), any());
+        }
+    }
+}
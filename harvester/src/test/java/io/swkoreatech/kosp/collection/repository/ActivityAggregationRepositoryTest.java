@@ -0,0 +1,203 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.swkoreatech.kosp.collection.document.CommitDocument;
+import io.swkoreatech.kosp.collection.document.IssueDocument;
+import io.swkoreatech.kosp.collection.document.PullRequestDocument;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.MergedPullRequestStats;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.RepoActivity;
+import io.swkoreatech.kosp.collection.repository.ActivityAggregationRepository.UserActivitySummary;
+
+@DataMongoTest
+@ActiveProfiles("test")
+@Import(ActivityAggregationRepository.class)
+@DisplayName("ActivityAggregationRepository 집계 테스트")
+class ActivityAggregationRepositoryTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+	private static final Long USER_ID = 1L;
+	private static final Long OTHER_USER_ID = 2L;
+
+	@Autowired
+	private ActivityAggregationRepository repository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	private long nextNumber = 1;
+
+	@BeforeEach
+	void setUp() {
+		commit(USER_ID, "alice", "project", "c1", at(2025, 3, 10, 22, 0), 10, 5);
+		commit(USER_ID, "alice", "project", "c2", at(2025, 3, 11, 5, 59), null, 3);
+		commit(USER_ID, "alice", "project", "c3", at(2025, 3, 11, 6, 0), 7, null);
+		commit(USER_ID, "alice", "project", "c4", at(2025, 3, 11, 21, 59), 1, 1);
+		commit(USER_ID, "bob", "lib", "c5", at(2025, 3, 12, 12, 0), 2, 2);
+		commit(USER_ID, "bob", "lib", "c6", null, null, null);
+		commit(OTHER_USER_ID, "alice", "project", "c7", at(2025, 3, 10, 23, 0), 100, 100);
+
+		pullRequest(USER_ID, "alice", "project", true, 50, 2, false);
+		pullRequest(USER_ID, "alice", "project", null, 5000, 10, true);
+		pullRequest(USER_ID, "bob", "lib", true, 120, null, true);
+		pullRequest(USER_ID, "bob", "lib", false, 9999, 7, true);
+		pullRequest(OTHER_USER_ID, "bob", "lib", true, 100000, 50, true);
+
+		issue(USER_ID, "alice", "project");
+		issue(USER_ID, "carol", "docs");
+		issue(USER_ID, "carol", "docs");
+		issue(OTHER_USER_ID, "carol", "docs");
+	}
+
+	@AfterEach
+	void tearDown() {
+		mongoTemplate.remove(new Query(), CommitDocument.class);
+		mongoTemplate.remove(new Query(), PullRequestDocument.class);
+		mongoTemplate.remove(new Query(), IssueDocument.class);
+	}
+
+	@Nested
+	@DisplayName("summarize 메서드")
+	class SummarizeTest {
+
+		@Test
+		@DisplayName("커밋 수와 추가/삭제 합계는 null을 0으로 보고 해당 사용자만 센다")
+		void sumsCommitTotals() {
+			// when
+			UserActivitySummary summary = repository.summarize(USER_ID, SEOUL);
+
+			// then
+			assertThat(summary.totalCommits()).isEqualTo(6);
+			assertThat(summary.totalAdditions()).isEqualTo(20);
+			assertThat(summary.totalDeletions()).isEqualTo(11);
+		}
+
+		@Test
+		@DisplayName("22시 정각부터 6시 전까지를 야간 커밋으로 센다")
+		void countsNightCommitsWithinBoundaries() {
+			// when
+			UserActivitySummary summary = repository.summarize(USER_ID, SEOUL);
+
+			// then
+			assertThat(summary.nightCommits()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("야간 여부는 주어진 시간대의 시각으로 판단한다")
+		void evaluatesNightHoursInGivenZone() {
+			// when
+			UserActivitySummary summary = repository.summarize(USER_ID, ZoneId.of("UTC"));
+
+			// then
+			assertThat(summary.nightCommits()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("병합 여부가 true인 PR만 병합 통계에 포함한다")
+		void aggregatesOnlyMergedPullRequests() {
+			// when
+			UserActivitySummary summary = repository.summarize(USER_ID, SEOUL);
+
+			// then
+			assertThat(summary.totalPrs()).isEqualTo(4);
+			assertThat(summary.mergedPullRequests()).isEqualTo(new MergedPullRequestStats(120, 2, 1));
+		}
+
+		@Test
+		@DisplayName("저장소별 커밋, PR, 이슈 수와 마지막 커밋 시각을 모은다")
+		void collectsPerRepositoryActivity() {
+			// when
+			UserActivitySummary summary = repository.summarize(USER_ID, SEOUL);
+
+			// then
+			assertThat(summary.totalIssues()).isEqualTo(3);
+			assertThat(summary.repos()).hasSize(3);
+			assertThat(summary.repo("alice/project"))
+				.isEqualTo(new RepoActivity(4, 2, 1, at(2025, 3, 11, 21, 59)));
+			assertThat(summary.repo("bob/lib"))
+				.isEqualTo(new RepoActivity(2, 2, 0, at(2025, 3, 12, 12, 0)));
+		}
+
+		@Test
+		@DisplayName("커밋 없이 이슈만 있는 저장소도 포함한다")
+		void includesRepositoryWithIssuesOnly() {
+			// when
+			UserActivitySummary summary = repository.summarize(USER_ID, SEOUL);
+
+			// then
+			assertThat(summary.repo("carol/docs")).isEqualTo(new RepoActivity(0, 0, 2, null));
+		}
+
+		@Test
+		@DisplayName("활동이 없는 사용자는 모두 0이다")
+		void returnsZeros_whenNoActivity() {
+			// when
+			UserActivitySummary summary = repository.summarize(99L, SEOUL);
+
+			// then
+			assertThat(summary.totalCommits()).isZero();
+			assertThat(summary.totalAdditions()).isZero();
+			assertThat(summary.nightCommits()).isZero();
+			assertThat(summary.totalPrs()).isZero();
+			assertThat(summary.totalIssues()).isZero();
+			assertThat(summary.mergedPullRequests()).isEqualTo(new MergedPullRequestStats(0, 0, 0));
+			assertThat(summary.repos()).isEmpty();
+		}
+	}
+
+	private Instant at(int year, int month, int day, int hour, int minute) {
+		return LocalDateTime.of(year, month, day, hour, minute).atZone(SEOUL).toInstant();
+	}
+
+	private void commit(Long userId, String owner, String name, String sha, Instant authoredAt,
+			Integer additions, Integer deletions) {
+		mongoTemplate.insert(CommitDocument.builder()
+			.userId(userId)
+			.repositoryOwner(owner)
+			.repositoryName(name)
+			.sha(sha)
+			.authoredAt(authoredAt)
+			.additions(additions)
+			.deletions(deletions)
+			.build());
+	}
+
+	private void pullRequest(Long userId, String owner, String name, Boolean merged, Integer repoStarCount,
+			Integer closedIssuesCount, Boolean crossRepository) {
+		mongoTemplate.insert(PullRequestDocument.builder()
+			.userId(userId)
+			.repositoryOwner(owner)
+			.repositoryName(name)
+			.prNumber(nextNumber++)
+			.merged(merged)
+			.repoStarCount(repoStarCount)
+			.closedIssuesCount(closedIssuesCount)
+			.isCrossRepository(crossRepository)
+			.build());
+	}
+
+	private void issue(Long userId, String owner, String name) {
+		mongoTemplate.insert(IssueDocument.builder()
+			.userId(userId)
+			.repositoryOwner(owner)
+			.repositoryName(name)
+			.issueNumber(nextNumber++)
+			.build());
+	}
+}
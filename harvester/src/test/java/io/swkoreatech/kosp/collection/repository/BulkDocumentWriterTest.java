@@ -0,0 +1,121 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+
+import io.swkoreatech.kosp.collection.document.CommitDocument;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter.BulkInsertResult;
+
+@DataMongoTest
+@ActiveProfiles("test")
+@Import(BulkDocumentWriter.class)
+@DisplayName("BulkDocumentWriter 통합 테스트")
+class BulkDocumentWriterTest {
+
+	@Autowired
+	private BulkDocumentWriter bulkDocumentWriter;
+
+	@Autowired
+	private CommitDocumentRepository repository;
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Nested
+	@DisplayName("insertMissing 메서드")
+	class InsertMissingTest {
+
+		@Test
+		@DisplayName("새 문서는 모두 삽입한다")
+		void insertsNewDocuments() {
+			// given
+			List<CommitDocument> documents = List.of(commit("abc123", "first"), commit("def456", "second"));
+
+			// when
+			BulkInsertResult result = insertMissing(documents);
+
+			// then
+			assertThat(result).isEqualTo(new BulkInsertResult(2, 0));
+			assertThat(repository.count()).isEqualTo(2);
+		}
+
+		@Test
+		@DisplayName("이미 있는 문서는 건드리지 않고 기존 문서로 센다")
+		void leavesExistingDocumentsUntouched() {
+			// given
+			repository.save(commit("abc123", "original"));
+
+			// when
+			BulkInsertResult result = insertMissing(List.of(commit("abc123", "changed"), commit("def456", "second")));
+
+			// then
+			assertThat(result).isEqualTo(new BulkInsertResult(1, 1));
+			assertThat(repository.count()).isEqualTo(2);
+			assertThat(repository.findAll())
+				.filteredOn(document -> "abc123".equals(document.getSha()))
+				.extracting(CommitDocument::getMessage)
+				.containsExactly("original");
+		}
+
+		@Test
+		@DisplayName("같은 페이지에 같은 키가 두 번 있으면 한 번만 삽입한다")
+		void insertsDuplicateWithinPageOnce() {
+			// given
+			List<CommitDocument> documents = List.of(commit("abc123", "first"), commit("abc123", "again"));
+
+			// when
+			BulkInsertResult result = insertMissing(documents);
+
+			// then
+			assertThat(result).isEqualTo(new BulkInsertResult(1, 1));
+			assertThat(repository.count()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("빈 목록이면 아무것도 쓰지 않는다")
+		void skipsEmptyList() {
+			// when
+			BulkInsertResult result = insertMissing(List.of());
+
+			// then
+			assertThat(result).isEqualTo(new BulkInsertResult(0, 0));
+			assertThat(repository.count()).isZero();
+		}
+	}
+
+	private BulkInsertResult insertMissing(List<CommitDocument> documents) {
+		return bulkDocumentWriter.insertMissing(CommitDocument.class, documents, document -> Query.query(
+			Criteria.where("userId").is(document.getUserId())
+				.and("repositoryName").is(document.getRepositoryName())
+				.and("sha").is(document.getSha())));
+	}
+
+	private CommitDocument commit(String sha, String message) {
+		return CommitDocument.builder()
+			.userId(1L)
+			.repositoryName("alice/project")
+			.repositoryOwner("alice")
+			.sha(sha)
+			.message(message)
+			.authoredAt(Instant.now())
+			.additions(10)
+			.deletions(5)
+			.collectedAt(Instant.now())
+			.build();
+	}
+}
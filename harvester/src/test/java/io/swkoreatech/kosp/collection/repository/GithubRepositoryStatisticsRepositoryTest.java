@@ -0,0 +1,99 @@
+package io.swkoreatech.kosp.collection.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import io.swkoreatech.kosp.collection.entity.GithubRepositoryStatistics;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GithubRepositoryStatisticsRepository 단위 테스트")
+class GithubRepositoryStatisticsRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private GithubRepositoryStatisticsRepository repository;
+
+    @Nested
+    @DisplayName("upsertAll 메서드")
+    class UpsertAllTest {
+
+        @Test
+        @DisplayName("같은 키의 행은 하나로 합치고 마지막 값을 남긴다")
+        void collapsesDuplicateKeys() {
+            // given
+            GithubRepositoryStatistics first = statistics("alice", "project", "1", 1);
+            GithubRepositoryStatistics other = statistics("alice", "other", "1", 2);
+            GithubRepositoryStatistics duplicate = statistics("alice", "project", "1", 3);
+
+            // when
+            repository.upsertAll(List.of(first, other, duplicate));
+
+            // then
+            assertThat(boundRows()).containsExactly(duplicate, other);
+        }
+
+        @Test
+        @DisplayName("저장소가 같아도 기여자가 다르면 모두 보낸다")
+        void keepsRowsOfDifferentContributors() {
+            // given
+            GithubRepositoryStatistics alice = statistics("alice", "project", "1", 1);
+            GithubRepositoryStatistics bob = statistics("alice", "project", "2", 1);
+
+            // when
+            repository.upsertAll(List.of(alice, bob));
+
+            // then
+            assertThat(boundRows()).containsExactly(alice, bob);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 쿼리를 보내지 않는다")
+        void skipsEmptyList() {
+            // when
+            repository.upsertAll(List.of());
+
+            // then
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GithubRepositoryStatistics> boundRows() {
+        ArgumentCaptor<Collection<GithubRepositoryStatistics>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(
+            anyString(),
+            captor.capture(),
+            eq(500),
+            any(ParameterizedPreparedStatementSetter.class)
+        );
+        return new ArrayList<>(captor.getValue());
+    }
+
+    private GithubRepositoryStatistics statistics(String owner, String name, String contributorId, int commits) {
+        GithubRepositoryStatistics statistics = GithubRepositoryStatistics.create(owner, name, contributorId);
+        statistics.updateUserContributions(commits, 0, 0, null);
+        return statistics;
+    }
+}
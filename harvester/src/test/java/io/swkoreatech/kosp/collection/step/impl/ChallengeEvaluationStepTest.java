@@ -1,21 +1,28 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.InvocationTargetException;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
@@ -26,6 +33,7 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
 import io.swkoreatech.kosp.common.event.ChallengeEvaluationRequest;
 import io.swkoreatech.kosp.infra.rabbitmq.constants.QueueNames;
 import io.swkoreatech.kosp.job.StepCompletionListener;
@@ -43,6 +51,9 @@ class ChallengeEvaluationStepTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    @Mock
+    private ChallengeEvaluationCoalescer evaluationCoalescer;
+
     @Mock
     private StepCompletionListener stepCompletionListener;
 
@@ -86,7 +97,8 @@ class ChallengeEvaluationStepTest {
             ChallengeEvaluationRequest request = new ChallengeEvaluationRequest(
                 userId,
                 "test-message-id",
-                java.time.LocalDateTime.now()
+                java.time.LocalDateTime.now(),
+                null
             );
 
             // Execute the private method via reflection (simulating tasklet execution)
@@ -102,6 +114,69 @@ class ChallengeEvaluationStepTest {
             );
         }
 
+        @Test
+        @DisplayName("발행 전에 요청을 사용자의 최신 요청으로 표시한다")
+        void marksRequestAsLatestBeforePublishing() throws Exception {
+            Long userId = 7L;
+            ArgumentCaptor<ChallengeEvaluationRequest> requestCaptor =
+                ArgumentCaptor.forClass(ChallengeEvaluationRequest.class);
+
+            java.lang.reflect.Method method = ChallengeEvaluationStep.class.getDeclaredMethod(
+                "publishChallengeEvaluationRequest", Long.class);
+            method.setAccessible(true);
+            method.invoke(challengeEvaluationStep, userId);
+
+            InOrder order = inOrder(evaluationCoalescer, rabbitTemplate);
+            order.verify(evaluationCoalescer).markLatest(eq(userId), any());
+            order.verify(rabbitTemplate).convertAndSend(
+                eq(QueueNames.CHALLENGE_EVALUATION),
+                requestCaptor.capture()
+            );
+            verify(evaluationCoalescer).markLatest(userId, requestCaptor.getValue().messageId());
+        }
+
+        @Test
+        @DisplayName("발행에 실패하면 최신 요청 표시를 철회하고 예외를 다시 던진다")
+        void discardsLatestMark_whenPublishingFails() throws Exception {
+            Long userId = 5L;
+            AmqpException failure = new AmqpException("broker unavailable");
+            doThrow(failure).when(rabbitTemplate)
+                .convertAndSend(eq(QueueNames.CHALLENGE_EVALUATION), any(ChallengeEvaluationRequest.class));
+            ArgumentCaptor<String> messageIdCaptor = ArgumentCaptor.forClass(String.class);
+
+            java.lang.reflect.Method method = ChallengeEvaluationStep.class.getDeclaredMethod(
+                "publishChallengeEvaluationRequest", Long.class);
+            method.setAccessible(true);
+
+            assertThatThrownBy(() -> method.invoke(challengeEvaluationStep, userId))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCause(failure);
+            verify(evaluationCoalescer).markLatest(eq(userId), messageIdCaptor.capture());
+            verify(evaluationCoalescer).discard(userId, messageIdCaptor.getValue());
+        }
+
+        @Test
+        @DisplayName("발행된 이벤트에 마지막 평가 이후 누적된 변경 입력이 포함된다")
+        void eventContainsAccumulatedChangedInputs() throws Exception {
+            Long userId = 3L;
+            when(evaluationCoalescer.markLatest(eq(userId), any()))
+                .thenReturn(java.util.Set.of("totalCommits", "totalScore"));
+            ArgumentCaptor<ChallengeEvaluationRequest> requestCaptor =
+                ArgumentCaptor.forClass(ChallengeEvaluationRequest.class);
+
+            java.lang.reflect.Method method = ChallengeEvaluationStep.class.getDeclaredMethod(
+                "publishChallengeEvaluationRequest", Long.class);
+            method.setAccessible(true);
+            method.invoke(challengeEvaluationStep, userId);
+
+            verify(rabbitTemplate).convertAndSend(
+                eq(QueueNames.CHALLENGE_EVALUATION),
+                requestCaptor.capture()
+            );
+            assertThat(requestCaptor.getValue().changedFields())
+                .containsExactlyInAnyOrder("totalCommits", "totalScore");
+        }
+
         @Test
         @DisplayName("발행된 이벤트에 userId가 포함된다")
         void eventContainsUserId() throws Exception {
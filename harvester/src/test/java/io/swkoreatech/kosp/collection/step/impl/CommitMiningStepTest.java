@@ -0,0 +1,438 @@
+package io.swkoreatech.kosp.collection.step.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.slf4j.MDC;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.swkoreatech.kosp.client.GithubGraphQLClient;
+import io.swkoreatech.kosp.client.RateLimitException;
+import io.swkoreatech.kosp.client.RateLimitGovernor;
+import io.swkoreatech.kosp.client.RateLimitState;
+import io.swkoreatech.kosp.client.dto.GraphQLResponse;
+import io.swkoreatech.kosp.client.dto.RepositoryCommitsResponse;
+import io.swkoreatech.kosp.collection.document.CommitDocument;
+import io.swkoreatech.kosp.collection.document.CommitWatermarkDocument;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter.BulkInsertResult;
+import io.swkoreatech.kosp.collection.repository.CommitWatermarkRepository;
+import io.swkoreatech.kosp.collection.repository.PageSizeRepository;
+import io.swkoreatech.kosp.collection.step.MiningProperties;
+import io.swkoreatech.kosp.collection.step.StepContextKeys;
+import io.swkoreatech.kosp.collection.util.MiningMetrics;
+import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
+import reactor.core.publisher.Mono;
+
+@DisplayName("CommitMiningStep 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class CommitMiningStepTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String TOKEN = "test-token";
+    private static final String NODE_ID = "node-1";
+    private static final String OWNER = "alice";
+    private static final Instant COMMITTED_AT = Instant.parse("2025-03-10T12:00:00Z");
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private GithubGraphQLClient graphQLClient;
+
+    @Mock
+    private RateLimitGovernor rateLimitGovernor;
+
+    @Mock
+    private BulkDocumentWriter bulkDocumentWriter;
+
+    @Mock
+    private CommitWatermarkRepository watermarkRepository;
+
+    @Mock
+    private PageSizeRepository pageSizeRepository;
+
+    @Mock
+    private StepCompletionListener stepCompletionListener;
+
+    @Mock
+    private StepMetricsListener stepMetricsListener;
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("저장소 동시 수집")
+    class ConcurrentMiningTest {
+
+        @Test
+        @DisplayName("동시에 수집하는 저장소 수는 남은 포인트로 감당할 수 있는 워커 수를 넘지 않는다")
+        void capsConcurrencyByRemainingPoints() throws Exception {
+            // given
+            remainingPoints(400);
+            insertAll();
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            CountDownLatch overlap = new CountDownLatch(2);
+            stubFetch(invocation -> Mono.fromCallable(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                overlap.countDown();
+                overlap.await(1, TimeUnit.SECONDS);
+                inFlight.decrementAndGet();
+                return lastPage(invocation.getArgument(1) + "-sha");
+            }));
+
+            // when
+            execute(new MiningProperties(4, 200, null), "a", "b", "c", "d");
+
+            // then
+            assertThat(maxInFlight).hasValue(2);
+            verify(graphQLClient, times(4))
+                .getRepositoryCommits(eq(OWNER), any(), eq(NODE_ID), any(), any(), eq(TOKEN), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("남은 포인트가 워커 하나 몫도 안 되면 호출한 스레드에서 차례로 수집한다")
+        void minesSequentially_whenPointsAreLow() throws Exception {
+            // given
+            remainingPoints(100);
+            insertAll();
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            stubFetch(invocation -> {
+                threads.add(Thread.currentThread());
+                return Mono.just(lastPage(invocation.getArgument(1) + "-sha"));
+            });
+
+            // when
+            execute(new MiningProperties(4, 200, null), "a", "b", "c");
+
+            // then
+            assertThat(threads).hasSize(3).containsOnly(Thread.currentThread());
+        }
+
+        @Test
+        @DisplayName("작업 스레드에도 호출한 스레드의 MDC를 전달한다")
+        void propagatesMdcToWorkers() throws Exception {
+            // given
+            remainingPoints(400);
+            insertAll();
+            MDC.put("jobExecutionId", "42");
+            Queue<String> seen = new ConcurrentLinkedQueue<>();
+            Queue<Thread> threads = new ConcurrentLinkedQueue<>();
+            stubFetch(invocation -> {
+                seen.add(String.valueOf(MDC.get("jobExecutionId")));
+                threads.add(Thread.currentThread());
+                return Mono.just(lastPage(invocation.getArgument(1) + "-sha"));
+            });
+
+            // when
+            execute(new MiningProperties(4, 200, null), "a", "b");
+
+            // then
+            assertThat(seen).containsExactly("42", "42");
+            assertThat(threads).doesNotContain(Thread.currentThread());
+            assertThat(MDC.get("jobExecutionId")).isEqualTo("42");
+        }
+
+        @Test
+        @DisplayName("한 저장소가 실패해도 건너뛰고 나머지 저장소는 수집한다")
+        void skipsFailingRepository() throws Exception {
+            // given
+            remainingPoints(1000);
+            insertAll();
+            stubFetch(invocation -> {
+                String name = invocation.getArgument(1);
+                if ("broken".equals(name)) {
+                    return Mono.error(new IllegalStateException("boom"));
+                }
+                return Mono.just(lastPage(name + "-sha"));
+            });
+
+            // when
+            execute(new MiningProperties(4, 200, null), "a", "broken", "c");
+
+            // then
+            verify(bulkDocumentWriter, times(2)).insertMissing(eq(CommitDocument.class), anyList(), any());
+            verify(watermarkRepository, times(2)).save(any());
+        }
+
+        @Test
+        @DisplayName("한 저장소가 rate limit에 걸리면 예전처럼 단계가 실패한다")
+        void rethrowsRateLimit() {
+            // given
+            remainingPoints(1000);
+            lenientInsertAll();
+            stubFetch(invocation -> {
+                String name = invocation.getArgument(1);
+                if ("limited".equals(name)) {
+                    return Mono.error(new RateLimitException("rate limited", Duration.ofMinutes(5)));
+                }
+                return Mono.just(lastPage(name + "-sha"));
+            });
+
+            // when & then
+            assertThatThrownBy(() -> execute(new MiningProperties(4, 200, null), "a", "limited", "c"))
+                .isInstanceOf(InvocationTargetException.class)
+                .satisfies(thrown -> assertThat(RateLimitException.isCauseOf(thrown)).isTrue());
+        }
+    }
+
+    @Nested
+    @DisplayName("커밋 워터마크")
+    class WatermarkTest {
+
+        private static final MiningProperties SEQUENTIAL = new MiningProperties(1, null, null);
+        private static final Instant STORED_AT = COMMITTED_AT.minus(Duration.ofDays(7));
+
+        @Test
+        @DisplayName("저장된 워터마크가 있으면 그 시각을 since로 넘긴다")
+        void passesStoredWatermarkAsSince() throws Exception {
+            // given
+            CommitWatermarkDocument watermark = storedWatermark(null);
+            insertAll();
+            stubFetch(invocation -> Mono.just(lastPage("new-sha")));
+
+            // when
+            execute(SEQUENTIAL, "project");
+
+            // then
+            verify(graphQLClient).getRepositoryCommits(
+                eq(OWNER), eq("project"), eq(NODE_ID), isNull(), eq(STORED_AT), eq(TOKEN), anyInt(), any());
+            assertThat(watermark.getLastCommittedAt()).isEqualTo(COMMITTED_AT);
+            assertThat(watermark.getLastOid()).isEqualTo("new-sha");
+        }
+
+        @Test
+        @DisplayName("워터마크가 없으면 전체 이력을 받고 마지막 페이지 뒤에 가장 새로운 커밋으로 워터마크를 만든다")
+        void createsWatermark_afterFullHistory() throws Exception {
+            // given
+            insertAll();
+            stubFetch(invocation -> Mono.just(invocation.getArgument(3) == null
+                ? page("c1", commitNode("newest", COMMITTED_AT), commitNode("older", COMMITTED_AT.minusSeconds(60)))
+                : page(null, commitNode("oldest", COMMITTED_AT.minusSeconds(120)))));
+            ArgumentCaptor<CommitWatermarkDocument> saved = ArgumentCaptor.forClass(CommitWatermarkDocument.class);
+
+            // when
+            execute(SEQUENTIAL, "project");
+
+            // then
+            verify(graphQLClient, times(2)).getRepositoryCommits(
+                eq(OWNER), eq("project"), eq(NODE_ID), any(), isNull(), eq(TOKEN), anyInt(), any());
+            verify(watermarkRepository).save(saved.capture());
+            assertThat(saved.getValue().getLastCommittedAt()).isEqualTo(COMMITTED_AT);
+            assertThat(saved.getValue().getLastOid()).isEqualTo("newest");
+            assertThat(saved.getValue().getResumeCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("마지막 페이지 전에 멈추면 워터마크는 그대로 두고 재개 지점만 남긴다")
+        void keepsWatermark_whenPagingStopsEarly() throws Exception {
+            // given
+            CommitWatermarkDocument watermark = storedWatermark(null);
+            insertAll();
+            stubFetch(invocation -> invocation.getArgument(3) == null
+                ? Mono.just(page("c1", commitNode("newest", COMMITTED_AT)))
+                : Mono.error(new IllegalStateException("boom")));
+
+            // when
+            execute(SEQUENTIAL, "project");
+
+            // then
+            assertThat(watermark.getLastCommittedAt()).isEqualTo(STORED_AT);
+            assertThat(watermark.getLastOid()).isEqualTo("stored-sha");
+            assertThat(watermark.getResumeCursor()).isEqualTo("c1");
+            assertThat(watermark.getResumeNewestCommittedAt()).isEqualTo(COMMITTED_AT);
+            verify(watermarkRepository).save(watermark);
+        }
+
+        @Test
+        @DisplayName("끝까지 받았지만 새 커밋이 없으면 워터마크를 저장하지 않는다")
+        void doesNotSave_whenNoNewCommits() throws Exception {
+            // given
+            CommitWatermarkDocument watermark = storedWatermark(null);
+            insertAll();
+            stubFetch(invocation -> Mono.just(page(null)));
+
+            // when
+            execute(SEQUENTIAL, "project");
+
+            // then
+            assertThat(watermark.getLastCommittedAt()).isEqualTo(STORED_AT);
+            verify(watermarkRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("체크포인트에서 재개해 끝까지 받으면 앞선 페이지에서 본 가장 새로운 커밋까지 워터마크를 올린다")
+        void advancesToCheckpointedNewest_whenResumedRunCompletes() throws Exception {
+            // given
+            CommitWatermarkDocument watermark = storedWatermark("c1");
+            insertAll();
+            stubFetch(invocation -> Mono.just(lastPage("resumed-sha")));
+
+            // when
+            execute(SEQUENTIAL, "project");
+
+            // then
+            verify(graphQLClient).getRepositoryCommits(
+                eq(OWNER), eq("project"), eq(NODE_ID), eq("c1"), eq(STORED_AT), eq(TOKEN), anyInt(), any());
+            assertThat(watermark.getLastCommittedAt()).isEqualTo(COMMITTED_AT.plusSeconds(60));
+            assertThat(watermark.getLastOid()).isEqualTo("checkpointed-sha");
+            assertThat(watermark.getResumeCursor()).isNull();
+        }
+
+        private CommitWatermarkDocument storedWatermark(String resumeCursor) {
+            CommitWatermarkDocument watermark = CommitWatermarkDocument.builder()
+                .userId(USER_ID)
+                .repositoryOwner(OWNER)
+                .repositoryName("project")
+                .lastCommittedAt(STORED_AT)
+                .lastOid("stored-sha")
+                .resumeCursor(resumeCursor)
+                .resumeNewestCommittedAt(resumeCursor == null ? null : COMMITTED_AT.plusSeconds(60))
+                .resumeNewestOid(resumeCursor == null ? null : "checkpointed-sha")
+                .build();
+            when(watermarkRepository.findByUserId(USER_ID)).thenReturn(List.of(watermark));
+            return watermark;
+        }
+    }
+
+    private CommitMiningStep newStep(MiningProperties properties) {
+        return new CommitMiningStep(
+            jobRepository,
+            transactionManager,
+            graphQLClient,
+            rateLimitGovernor,
+            bulkDocumentWriter,
+            watermarkRepository,
+            pageSizeRepository,
+            properties,
+            new MiningMetrics(new SimpleMeterRegistry()),
+            stepCompletionListener,
+            stepMetricsListener
+        );
+    }
+
+    private void execute(MiningProperties properties, String... repoNames) throws Exception {
+        String[] repos = new String[repoNames.length];
+        for (int i = 0; i < repoNames.length; i++) {
+            repos[i] = OWNER + "/" + repoNames[i];
+        }
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution(
+            new JobParametersBuilder().addLong("userId", USER_ID).toJobParameters());
+        ExecutionContext context = stepExecution.getJobExecution().getExecutionContext();
+        context.putString(StepContextKeys.GITHUB_TOKEN, TOKEN);
+        context.putString(StepContextKeys.GITHUB_NODE_ID, NODE_ID);
+        context.put(StepContextKeys.DISCOVERED_REPOS, repos);
+
+        Method method = CommitMiningStep.class.getDeclaredMethod("execute", ChunkContext.class);
+        method.setAccessible(true);
+        method.invoke(newStep(properties), new ChunkContext(new StepContext(stepExecution)));
+    }
+
+    private void remainingPoints(int remaining) {
+        when(rateLimitGovernor.state(TOKEN, RateLimitGovernor.Resource.GRAPHQL))
+            .thenReturn(Optional.of(new RateLimitState(remaining, Instant.now().plusSeconds(3600))));
+    }
+
+    private void insertAll() {
+        when(bulkDocumentWriter.insertMissing(eq(CommitDocument.class), anyList(), any()))
+            .thenAnswer(invocation -> new BulkInsertResult(invocation.<List<?>>getArgument(1).size(), 0));
+    }
+
+    private void lenientInsertAll() {
+        lenient()
+            .when(bulkDocumentWriter.insertMissing(eq(CommitDocument.class), anyList(), any()))
+            .thenAnswer(invocation -> new BulkInsertResult(invocation.<List<?>>getArgument(1).size(), 0));
+    }
+
+    private void stubFetch(Answer<?> answer) {
+        when(graphQLClient.getRepositoryCommits(eq(OWNER), any(), eq(NODE_ID), any(), any(), eq(TOKEN), anyInt(), any()))
+            .thenAnswer(answer);
+    }
+
+    private GraphQLResponse<RepositoryCommitsResponse> lastPage(String oid) {
+        return page(null, commitNode(oid, COMMITTED_AT));
+    }
+
+    @SafeVarargs
+    private GraphQLResponse<RepositoryCommitsResponse> page(String nextCursor, Map<String, Object>... commits) {
+        Map<String, Object> pageInfo = new HashMap<>();
+        pageInfo.put("hasNextPage", nextCursor != null);
+        pageInfo.put("endCursor", nextCursor);
+        Map<String, Object> history = Map.of("pageInfo", pageInfo, "nodes", List.of(commits));
+        Map<String, Object> data = Map.of(
+            "repository", Map.of("defaultBranchRef", Map.of("target", Map.of("history", history))));
+        GraphQLResponse<RepositoryCommitsResponse> response = new GraphQLResponse<>();
+        setField(response, "data", data);
+        return response;
+    }
+
+    private Map<String, Object> commitNode(String oid, Instant committedAt) {
+        return Map.of(
+            "oid", oid,
+            "message", "commit " + oid,
+            "additions", 1,
+            "deletions", 1,
+            "authoredDate", committedAt.toString(),
+            "committedDate", committedAt.toString()
+        );
+    }
+
+    private void setField(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to set field: " + fieldName, e);
+        }
+    }
+}
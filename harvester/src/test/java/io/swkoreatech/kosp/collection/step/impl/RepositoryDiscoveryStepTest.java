@@ -1,13 +1,20 @@
 package io.swkoreatech.kosp.collection.step.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +32,10 @@ import io.swkoreatech.kosp.client.GithubGraphQLClient;
 import io.swkoreatech.kosp.client.dto.ContributedReposResponse.RepositoryInfo;
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 import io.swkoreatech.kosp.client.dto.UserBasicInfoResponse;
+import io.swkoreatech.kosp.collection.metadata.RepositoryMetadataStore;
+import io.swkoreatech.kosp.collection.repository.BulkDocumentWriter;
 import io.swkoreatech.kosp.collection.repository.CollectionMetadataRepository;
-import io.swkoreatech.kosp.collection.repository.ContributedRepoDocumentRepository;
+import io.swkoreatech.kosp.collection.util.TimeChunkGenerator.TimeChunk;
 import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import io.swkoreatech.kosp.job.ContextValidationListener;
 import io.swkoreatech.kosp.job.StepCompletionListener;
@@ -52,7 +61,10 @@ class RepositoryDiscoveryStepTest {
     private TextEncryptor textEncryptor;
 
     @Mock
-    private ContributedRepoDocumentRepository repoDocumentRepository;
+    private BulkDocumentWriter bulkDocumentWriter;
+
+    @Mock
+    private RepositoryMetadataStore repositoryMetadataStore;
 
     @Mock
     private CollectionMetadataRepository metadataRepository;
@@ -153,6 +165,83 @@ class RepositoryDiscoveryStepTest {
         }
     }
 
+    @Nested
+    @DisplayName("collectBatch 메서드")
+    class CollectBatchTest {
+
+        private final List<TimeChunk> batch = List.of(
+            new TimeChunk(ZonedDateTime.parse("2024-01-01T00:00:00Z"), ZonedDateTime.parse("2024-02-01T00:00:01Z")),
+            new TimeChunk(ZonedDateTime.parse("2024-02-01T00:00:00Z"), ZonedDateTime.parse("2024-03-01T00:00:01Z"))
+        );
+
+        @Test
+        @DisplayName("묶음 조회가 실패하면 구간별로 다시 조회한다")
+        void fallsBackToOneRequestPerChunk() throws Exception {
+            // given
+            when(githubGraphQLClient.getContributedReposInRanges(eq("testuser"), any(), eq("test-token"), any()))
+                .thenReturn(Mono.just(failedResponse()));
+            when(githubGraphQLClient.getContributedRepos(eq("testuser"), anyString(), anyString(), eq("test-token"), any()))
+                .thenReturn(Mono.just(contributedResponse("testuser/repo-1")))
+                .thenReturn(Mono.just(contributedResponse("testuser/repo-2")));
+            Set<RepositoryInfo> repositories = new HashSet<>();
+
+            // when
+            String nodeId = invokeCollectBatch(repositories);
+
+            // then
+            assertThat(nodeId).isEqualTo("U_1");
+            assertThat(repositories).extracting(RepositoryInfo::getNameWithOwner)
+                .containsExactlyInAnyOrder("testuser/repo-1", "testuser/repo-2");
+            verify(githubGraphQLClient, times(2)).getContributedRepos(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("구간 조회도 재시도 가능한 오류로 실패하면 스텝을 실패시킨다")
+        void failsWhenChunkFails() {
+            // given
+            when(githubGraphQLClient.getContributedReposInRanges(eq("testuser"), any(), eq("test-token"), any()))
+                .thenReturn(Mono.just(failedResponse()));
+            when(githubGraphQLClient.getContributedRepos(eq("testuser"), anyString(), anyString(), eq("test-token"), any()))
+                .thenReturn(Mono.just(contributedResponse("testuser/repo-1")))
+                .thenReturn(Mono.just(failedResponse()));
+
+            // when & then
+            assertThatThrownBy(() -> invokeCollectBatch(new HashSet<>()))
+                .isInstanceOf(InvocationTargetException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        private String invokeCollectBatch(Set<RepositoryInfo> repositories) throws Exception {
+            Method method = RepositoryDiscoveryStep.class.getDeclaredMethod(
+                "collectBatch",
+                String.class,
+                List.class,
+                String.class,
+                Set.class
+            );
+            method.setAccessible(true);
+            return (String) method.invoke(repositoryDiscoveryStep, "testuser", batch, "test-token", repositories);
+        }
+    }
+
+    private <T> GraphQLResponse<T> failedResponse() {
+        GraphQLResponse<T> response = new GraphQLResponse<>();
+        setField(response, "errors", List.of(Map.of("message", "timeout")));
+        return response;
+    }
+
+    private <T> GraphQLResponse<T> contributedResponse(String fullName) {
+        GraphQLResponse<T> response = new GraphQLResponse<>();
+        setGraphQLResponseData(response, Map.of("user", Map.of(
+            "id", "U_1",
+            "contributionsCollection", Map.of("commitContributionsByRepository", List.of(
+                Map.of("repository", Map.of("name", fullName.split("/")[1], "nameWithOwner", fullName))
+            ))
+        )));
+        return response;
+    }
+
     private Set<RepositoryInfo> invokeFetchOwnedRepositories(String login, String token) throws Exception {
         Method method = RepositoryDiscoveryStep.class.getDeclaredMethod(
             "fetchOwnedRepositories", 
@@ -0,0 +1,113 @@
+package io.swkoreatech.kosp.collection.step.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.swkoreatech.kosp.collection.snapshot.ActivitySnapshotStore;
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
+import io.swkoreatech.kosp.common.github.model.GithubUserStatistics;
+import io.swkoreatech.kosp.domain.github.repository.GithubUserStatisticsRepository;
+import io.swkoreatech.kosp.domain.user.repository.UserRepository;
+import io.swkoreatech.kosp.job.StepCompletionListener;
+import io.swkoreatech.kosp.job.StepMetricsListener;
+
+@DisplayName("ScoreCalculationStep 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class ScoreCalculationStepTest {
+
+    private static final String GITHUB_ID = "12345";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ActivitySnapshotStore activitySnapshotStore;
+
+    @Mock
+    private GithubUserStatisticsRepository statisticsRepository;
+
+    @Mock
+    private ChallengeEvaluationCoalescer evaluationCoalescer;
+
+    @Mock
+    private StepCompletionListener stepCompletionListener;
+
+    @Mock
+    private StepMetricsListener stepMetricsListener;
+
+    @InjectMocks
+    private ScoreCalculationStep scoreCalculationStep;
+
+    @Nested
+    @DisplayName("saveScores 동작")
+    class SaveScoresTest {
+
+        @Test
+        @DisplayName("변경된 점수를 저장하기 전에 기록한다")
+        void recordsChangedScoresBeforeSaving() throws Exception {
+            // given
+            GithubUserStatistics statistics = GithubUserStatistics.create(GITHUB_ID);
+            when(statisticsRepository.getOrCreate(GITHUB_ID)).thenReturn(statistics);
+
+            // when
+            saveScores(1L, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE);
+
+            // then
+            InOrder order = inOrder(evaluationCoalescer, statisticsRepository);
+            order.verify(evaluationCoalescer).recordChanges(eq(1L), argThat(changes -> changes.contains("totalScore")));
+            order.verify(statisticsRepository).save(statistics);
+        }
+
+        @Test
+        @DisplayName("변경을 기록하지 못하면 점수를 저장하지 않는다")
+        void doesNotSave_whenRecordingFails() {
+            // given
+            when(statisticsRepository.getOrCreate(GITHUB_ID)).thenReturn(GithubUserStatistics.create(GITHUB_ID));
+            QueryTimeoutException failure = new QueryTimeoutException("redis timeout");
+            doThrow(failure).when(evaluationCoalescer).recordChanges(eq(1L), anySet());
+
+            // when & then
+            assertThatThrownBy(() -> saveScores(1L, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCause(failure);
+            verify(statisticsRepository, never()).save(any());
+        }
+    }
+
+    private void saveScores(Long userId, BigDecimal activity, BigDecimal diversity, BigDecimal impact) throws Exception {
+        Method method = ScoreCalculationStep.class.getDeclaredMethod(
+            "saveScores", Long.class, String.class, BigDecimal.class, BigDecimal.class, BigDecimal.class);
+        method.setAccessible(true);
+        method.invoke(scoreCalculationStep, userId, GITHUB_ID, activity, diversity, impact);
+    }
+}
@@ -0,0 +1,115 @@
+package io.swkoreatech.kosp.collection.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@DisplayName("CursorCheckpoint 단위 테스트")
+class CursorCheckpointTest {
+
+    private final List<String> stored = new ArrayList<>();
+
+    @Nested
+    @DisplayName("onPage 메서드")
+    class OnPageTest {
+
+        @Test
+        @DisplayName("interval 페이지마다 다음 커서를 저장한다")
+        void storesEveryIntervalPages() {
+            // given
+            CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom(null, 2, stored::add);
+
+            // when
+            checkpoint.onPage("cursor1");
+            checkpoint.onPage("cursor2");
+            checkpoint.onPage("cursor3");
+            checkpoint.onPage("cursor4");
+
+            // then
+            assertThat(stored).containsExactly("cursor2", "cursor4");
+        }
+
+        @Test
+        @DisplayName("저장에 실패해도 예외를 전파하지 않는다")
+        void swallowsStoreFailure() {
+            // given
+            CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom(null, 1, cursor -> {
+                throw new IllegalStateException("mongo down");
+            });
+
+            // when
+            checkpoint.onPage("cursor1");
+
+            // then
+            assertThat(checkpoint.resumeCursor()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("onFailure 메서드")
+    class OnFailureTest {
+
+        @Test
+        @DisplayName("실패한 페이지의 커서를 바로 저장한다")
+        void storesFailedCursorImmediately() {
+            // given
+            CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom(null, 5, stored::add);
+            checkpoint.onPage("cursor1");
+
+            // when
+            checkpoint.onFailure("cursor1");
+
+            // then
+            assertThat(stored).containsExactly("cursor1");
+        }
+
+        @Test
+        @DisplayName("재개한 커서와 같으면 다시 저장하지 않는다")
+        void skipsUnchangedCursor() {
+            // given
+            CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom("cursor7", 5, stored::add);
+
+            // when
+            checkpoint.onFailure("cursor7");
+
+            // then
+            assertThat(stored).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("clear 메서드")
+    class ClearTest {
+
+        @Test
+        @DisplayName("저장된 체크포인트가 있으면 null로 지운다")
+        void clearsStoredCheckpoint() {
+            // given
+            CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom("cursor7", 5, stored::add);
+
+            // when
+            checkpoint.clear();
+
+            // then
+            assertThat(stored).containsExactly((String) null);
+        }
+
+        @Test
+        @DisplayName("저장된 체크포인트가 없으면 아무것도 쓰지 않는다")
+        void skipsWhenNothingStored() {
+            // given
+            CursorCheckpoint checkpoint = CursorCheckpoint.resumingFrom(null, 5, stored::add);
+
+            // when
+            checkpoint.clear();
+
+            // then
+            assertThat(stored).isEmpty();
+        }
+    }
+}
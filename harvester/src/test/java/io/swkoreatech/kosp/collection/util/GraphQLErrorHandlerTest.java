@@ -254,6 +254,48 @@ class GraphQLErrorHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("isResourceLimit 메서드")
+    class IsResourceLimitTest {
+
+        @Test
+        @DisplayName("리소스 한도 초과 타입이면 true를 반환한다")
+        void returnsTrue_forResourceLimitType() {
+            // given
+            GraphQLResponse<Object> response = createResponseWithErrors(
+                List.of(Map.of("message", "Resource limits exceeded", "type", "RESOURCE_LIMITS_EXCEEDED"))
+            );
+
+            // when & then
+            assertThat(GraphQLErrorHandler.isResourceLimit(response)).isTrue();
+        }
+
+        @Test
+        @DisplayName("타임아웃 메시지면 true를 반환한다")
+        void returnsTrue_forTimeoutMessage() {
+            // given
+            GraphQLResponse<Object> response = createResponseWithErrors(
+                List.of(Map.of("message", "We couldn't respond to your request in time. Sorry about that. Request timed out."))
+            );
+
+            // when & then
+            assertThat(GraphQLErrorHandler.isResourceLimit(response)).isTrue();
+        }
+
+        @Test
+        @DisplayName("그 밖의 에러나 null 응답이면 false를 반환한다")
+        void returnsFalse_forOtherErrors() {
+            // given
+            GraphQLResponse<Object> response = createResponseWithErrors(
+                List.of(Map.of("message", "Something went wrong"))
+            );
+
+            // when & then
+            assertThat(GraphQLErrorHandler.isResourceLimit(response)).isFalse();
+            assertThat(GraphQLErrorHandler.isResourceLimit(null)).isFalse();
+        }
+    }
+
     private GraphQLResponse<Object> createResponseWithErrors(List<Map<String, Object>> errors) {
         GraphQLResponse<Object> response = new GraphQLResponse<>();
         setFieldValue(response, "errors", errors);
@@ -2,21 +2,28 @@ package io.swkoreatech.kosp.collection.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.reflect.ParameterizedType;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.ParameterizedTypeReference;
+
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 
 @DisplayName("GraphQLTypeFactory 단위 테스트")
 class GraphQLTypeFactoryTest {
 
     @Test
-    @DisplayName("responseType()은 GraphQLResponse 클래스를 반환한다")
-    void responseType_returnsGraphQLResponseClass() {
+    @DisplayName("responseType(Class)은 데이터 타입이 보존된 GraphQLResponse 타입을 반환한다")
+    void responseTypeWithDataType_keepsTypeArgument() {
         // when
-        Class<GraphQLResponse<String>> result = GraphQLTypeFactory.responseType();
+        ParameterizedTypeReference<GraphQLResponse<String>> result = GraphQLTypeFactory.responseType(String.class);
 
         // then
-        assertThat(result).isEqualTo(GraphQLResponse.class);
+        assertThat(result.getType()).isInstanceOf(ParameterizedType.class);
+        ParameterizedType type = (ParameterizedType) result.getType();
+        assertThat(type.getRawType()).isEqualTo(GraphQLResponse.class);
+        assertThat(type.getActualTypeArguments()).containsExactly(String.class);
     }
 }
@@ -0,0 +1,108 @@
+package io.swkoreatech.kosp.collection.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+@DisplayName("PageSizeController 단위 테스트")
+class PageSizeControllerTest {
+
+    @Nested
+    @DisplayName("startingAt 메서드")
+    class StartingAtTest {
+
+        @Test
+        @DisplayName("초기값은 최소값과 최대값 사이로 제한된다")
+        void clampsInitialSize() {
+            // when
+            PageSizeController tooLarge = PageSizeController.startingAt(500, 100);
+            PageSizeController tooSmall = PageSizeController.startingAt(1, 100);
+
+            // then
+            assertThat(tooLarge.current()).isEqualTo(100);
+            assertThat(tooSmall.current()).isEqualTo(PageSizeController.MIN_PAGE_SIZE);
+        }
+    }
+
+    @Nested
+    @DisplayName("onSuccess 메서드")
+    class OnSuccessTest {
+
+        @Test
+        @DisplayName("빠른 응답이면 절반만큼 커진다")
+        void growsOnFastResponse() {
+            // given
+            PageSizeController controller = PageSizeController.startingAt(30, 100);
+
+            // when
+            controller.onSuccess(Duration.ofMillis(500));
+
+            // then
+            assertThat(controller.current()).isEqualTo(45);
+        }
+
+        @Test
+        @DisplayName("최대값을 넘어서 커지지 않는다")
+        void doesNotGrowBeyondMax() {
+            // given
+            PageSizeController controller = PageSizeController.startingAt(80, 100);
+
+            // when
+            controller.onSuccess(Duration.ofMillis(500));
+
+            // then
+            assertThat(controller.current()).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("느린 응답이면 절반으로 줄어든다")
+        void shrinksOnSlowResponse() {
+            // given
+            PageSizeController controller = PageSizeController.startingAt(40, 100);
+
+            // when
+            controller.onSuccess(Duration.ofSeconds(10));
+
+            // then
+            assertThat(controller.current()).isEqualTo(20);
+        }
+
+        @Test
+        @DisplayName("보통 응답이면 유지된다")
+        void keepsSizeOnModerateResponse() {
+            // given
+            PageSizeController controller = PageSizeController.startingAt(40, 100);
+
+            // when
+            controller.onSuccess(Duration.ofSeconds(4));
+
+            // then
+            assertThat(controller.current()).isEqualTo(40);
+        }
+    }
+
+    @Nested
+    @DisplayName("shrink 메서드")
+    class ShrinkTest {
+
+        @Test
+        @DisplayName("최소값에서는 더 줄어들지 않고 false를 반환한다")
+        void returnsFalseAtMinimum() {
+            // given
+            PageSizeController controller = PageSizeController.startingAt(8, 100);
+
+            // when
+            boolean first = controller.shrink();
+            boolean second = controller.shrink();
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(controller.current()).isEqualTo(PageSizeController.MIN_PAGE_SIZE);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.swkoreatech.kosp.collection.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.swkoreatech.kosp.client.RateLimitException;
 import io.swkoreatech.kosp.client.dto.GraphQLResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,8 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -475,6 +480,245 @@ class PaginationHelperTest {
         }
     }
 
+    @Nested
+    @DisplayName("paginate 메서드 - rate limit")
+    class PaginateRateLimitTest {
+
+        @Test
+        @DisplayName("RateLimitException은 삼키지 않고 다시 던진다")
+        void rethrowsRateLimitException() {
+            // given
+            when(fetcher.apply(null)).thenThrow(new RateLimitException("exhausted", Duration.ofMinutes(30)));
+
+            // when & then
+            assertThatThrownBy(() -> PaginationHelper.paginate(
+                fetcher,
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            )).isInstanceOf(RateLimitException.class);
+        }
+
+        @Test
+        @DisplayName("RateLimitException을 감싼 예외도 다시 던진다")
+        void rethrowsWrappedRateLimitException() {
+            // given
+            RuntimeException wrapped = new IllegalStateException(new RateLimitException("exhausted", Duration.ofMinutes(30)));
+            when(fetcher.apply(null)).thenThrow(wrapped);
+
+            // when & then
+            assertThatThrownBy(() -> PaginationHelper.paginate(
+                fetcher,
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            )).isSameAs(wrapped);
+        }
+
+        @Test
+        @DisplayName("중간 페이지에서 rate limit에 걸리면 커서를 저장하고 다시 던진다")
+        void storesCursorBeforeRethrowing() {
+            // given
+            TestResponse data = new TestResponse();
+            GraphQLResponse<TestResponse> response = mock(GraphQLResponse.class);
+            when(response.hasErrors()).thenReturn(false);
+            when(response.getDataAs(TestResponse.class)).thenReturn(data);
+            when(pageInfoExtractor.apply(data)).thenReturn(new TestPageInfo(true, "cursor1"));
+            when(dataProcessor.apply(data, null)).thenReturn(3);
+            List<String> stored = new ArrayList<>();
+
+            // when & then
+            assertThatThrownBy(() -> PaginationHelper.paginate(
+                (cursor, size) -> {
+                    if (cursor != null) {
+                        throw new RateLimitException("exhausted", Duration.ofMinutes(30));
+                    }
+                    return response;
+                },
+                PageSizeController.startingAt(50, 100),
+                CursorCheckpoint.resumingFrom(null, 10, stored::add),
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            )).isInstanceOf(RateLimitException.class);
+            assertThat(stored).containsExactly("cursor1");
+        }
+    }
+
+    @Nested
+    @DisplayName("paginate 메서드 - 체크포인트")
+    class PaginateCheckpointTest {
+
+        @Test
+        @DisplayName("체크포인트 커서에서 시작하고 마지막 페이지에 도달하면 지운다")
+        void resumesFromCheckpoint_andClearsOnCompletion() {
+            // given
+            TestResponse data = new TestResponse();
+            GraphQLResponse<TestResponse> response = mock(GraphQLResponse.class);
+            when(response.hasErrors()).thenReturn(false);
+            when(response.getDataAs(TestResponse.class)).thenReturn(data);
+            when(pageInfoExtractor.apply(data)).thenReturn(new TestPageInfo(false, null));
+            when(dataProcessor.apply(data, "cursor5")).thenReturn(4);
+            List<String> requested = new ArrayList<>();
+            List<String> stored = new ArrayList<>();
+
+            // when
+            int result = PaginationHelper.paginate(
+                (cursor, size) -> {
+                    requested.add(cursor);
+                    return response;
+                },
+                PageSizeController.startingAt(50, 100),
+                CursorCheckpoint.resumingFrom("cursor5", 1, stored::add),
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            );
+
+            // then
+            assertThat(result).isEqualTo(4);
+            assertThat(requested).containsExactly("cursor5");
+            assertThat(stored).containsExactly((String) null);
+        }
+
+        @Test
+        @DisplayName("중간 페이지에서 실패하면 실패한 페이지의 커서를 저장한다")
+        void storesFailedPageCursor() {
+            // given
+            TestResponse data = new TestResponse();
+            GraphQLResponse<TestResponse> response = mock(GraphQLResponse.class);
+            when(response.hasErrors()).thenReturn(false);
+            when(response.getDataAs(TestResponse.class)).thenReturn(data);
+            when(pageInfoExtractor.apply(data)).thenReturn(new TestPageInfo(true, "cursor1"));
+            when(dataProcessor.apply(data, null)).thenReturn(3);
+            List<String> stored = new ArrayList<>();
+
+            // when
+            int result = PaginationHelper.paginate(
+                (cursor, size) -> {
+                    if (cursor != null) {
+                        throw new IllegalStateException("timeout");
+                    }
+                    return response;
+                },
+                PageSizeController.startingAt(PageSizeController.MIN_PAGE_SIZE, 100),
+                CursorCheckpoint.resumingFrom(null, 10, stored::add),
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            );
+
+            // then
+            assertThat(result).isEqualTo(3);
+            assertThat(stored).containsExactly("cursor1");
+        }
+
+        @Test
+        @DisplayName("타임아웃으로 실패하면 페이지 크기를 절반으로 줄여 다시 요청한다")
+        void shrinksOnTimeout() {
+            // given
+            TestResponse data = new TestResponse();
+            GraphQLResponse<TestResponse> response = mock(GraphQLResponse.class);
+            when(response.hasErrors()).thenReturn(false);
+            when(response.getDataAs(TestResponse.class)).thenReturn(data);
+            when(pageInfoExtractor.apply(data)).thenReturn(new TestPageInfo(false, null));
+            when(dataProcessor.apply(data, null)).thenReturn(3);
+            List<Integer> sizes = new ArrayList<>();
+            PageSizeController pageSize = PageSizeController.startingAt(50, 100);
+
+            // when
+            int result = PaginationHelper.paginate(
+                (cursor, size) -> {
+                    sizes.add(size);
+                    if (size == 50) {
+                        throw new IllegalStateException(new TimeoutException());
+                    }
+                    return response;
+                },
+                pageSize,
+                CursorCheckpoint.resumingFrom(null, 10, cursor -> {}),
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            );
+
+            // then
+            assertThat(result).isEqualTo(3);
+            assertThat(sizes).containsExactly(50, 25);
+            assertThat(pageSize.isCompleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("타임아웃이 아닌 실패에는 페이지 크기를 줄이지 않는다")
+        void doesNotShrinkOnOtherFailures() {
+            // given
+            List<Integer> sizes = new ArrayList<>();
+            PageSizeController pageSize = PageSizeController.startingAt(50, 100);
+
+            // when
+            int result = PaginationHelper.paginate(
+                (cursor, size) -> {
+                    sizes.add(size);
+                    throw new IllegalStateException("Connection refused");
+                },
+                pageSize,
+                CursorCheckpoint.resumingFrom(null, 10, cursor -> {}),
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            );
+
+            // then
+            assertThat(result).isEqualTo(-1);
+            assertThat(sizes).containsExactly(50);
+            assertThat(pageSize.current()).isEqualTo(50);
+            assertThat(pageSize.isCompleted()).isFalse();
+        }
+
+        @Test
+        @DisplayName("응답에 기록된 요청 지연 시간으로 페이지 크기를 조절한다")
+        void usesRecordedRequestLatency() {
+            // given
+            TestResponse data = new TestResponse();
+            GraphQLResponse<TestResponse> response = mock(GraphQLResponse.class);
+            when(response.hasErrors()).thenReturn(false);
+            when(response.getDataAs(TestResponse.class)).thenReturn(data);
+            when(response.getRequestLatency()).thenReturn(Duration.ofSeconds(20));
+            when(pageInfoExtractor.apply(data)).thenReturn(new TestPageInfo(false, null));
+            when(dataProcessor.apply(data, null)).thenReturn(3);
+            PageSizeController pageSize = PageSizeController.startingAt(50, 100);
+
+            // when
+            PaginationHelper.paginate(
+                (cursor, size) -> response,
+                pageSize,
+                CursorCheckpoint.resumingFrom(null, 10, cursor -> {}),
+                pageInfoExtractor,
+                dataProcessor,
+                "user",
+                "octocat",
+                TestResponse.class
+            );
+
+            // then
+            assertThat(pageSize.current()).isLessThan(50);
+        }
+    }
+
     /**
      * Test data class representing a GraphQL response with pagination.
      */
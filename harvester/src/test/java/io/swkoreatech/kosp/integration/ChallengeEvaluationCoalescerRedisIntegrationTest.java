@@ -0,0 +1,266 @@
+package io.swkoreatech.kosp.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.swkoreatech.kosp.common.event.ChallengeEvaluationCoalescer;
+import io.swkoreatech.kosp.common.event.RedisChallengeEvaluationCoalescer;
+
+/**
+ * Runs the coalescer's Lua scripts against the Redis of the test profile (localhost:6379, database 1).
+ * Skipped when no Redis is reachable.
+ */
+@DisplayName("RedisChallengeEvaluationCoalescer Redis 통합 테스트")
+class ChallengeEvaluationCoalescerRedisIntegrationTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String LATEST_KEY = "challenge:evaluation:latest:" + USER_ID;
+    private static final String CHANGES_KEY = "challenge:evaluation:changes:" + USER_ID;
+    private static final Long OTHER_USER_ID = 2L;
+    private static final String OTHER_LATEST_KEY = "challenge:evaluation:latest:" + OTHER_USER_ID;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private ChallengeEvaluationCoalescer coalescer;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(1);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "Redis is not available on localhost:6379");
+        redisTemplate.delete(List.of(LATEST_KEY, CHANGES_KEY, OTHER_LATEST_KEY));
+        coalescer = new RedisChallengeEvaluationCoalescer(redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("markLatest 메서드")
+    class MarkLatestTest {
+
+        @Test
+        @DisplayName("완료된 평가가 없으면 변경을 알 수 없다고 반환한다")
+        void reportsUnknown_beforeFirstCompletion() {
+            // given
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+
+            // when
+            Set<String> pending = coalescer.markLatest(USER_ID, "m1");
+
+            // then
+            assertThat(pending).isNull();
+            assertThat(coalescer.findLatest(List.of(USER_ID))).isEqualTo(Map.of(USER_ID, "m1"));
+        }
+
+        @Test
+        @DisplayName("평가가 완료된 뒤 변경이 없으면 빈 집합을 반환한다")
+        void reportsNoChanges_afterCompletion() {
+            // given
+            completeEvaluation("m1");
+
+            // when
+            Set<String> pending = coalescer.markLatest(USER_ID, "m2");
+
+            // then
+            assertThat(pending).isEmpty();
+        }
+
+        @Test
+        @DisplayName("요청을 보내지 못하고 끝난 실행의 변경도 다음 요청에 포함한다")
+        void includesChangesOfFailedRun() {
+            // given
+            completeEvaluation("m1");
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+            coalescer.recordChanges(USER_ID, Set.of());
+
+            // when
+            Set<String> pending = coalescer.markLatest(USER_ID, "m2");
+
+            // then
+            assertThat(pending).containsExactly("totalCommits");
+        }
+
+        @Test
+        @DisplayName("변경 키가 만료되면 변경을 알 수 없다고 반환한다")
+        void reportsUnknown_whenChangesExpired() {
+            // given
+            completeEvaluation("m1");
+            redisTemplate.delete(CHANGES_KEY);
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+
+            // when
+            Set<String> pending = coalescer.markLatest(USER_ID, "m2");
+
+            // then
+            assertThat(pending).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findLatest 메서드")
+    class FindLatestTest {
+
+        @Test
+        @DisplayName("사용자마다 마지막으로 표시된 요청을 한 번에 읽고 표시가 없는 사용자는 뺀다")
+        void readsLatestPerUser() {
+            // given
+            coalescer.markLatest(USER_ID, "m1");
+            coalescer.markLatest(USER_ID, "m2");
+
+            // when
+            Map<Long, String> latest = coalescer.findLatest(List.of(USER_ID, OTHER_USER_ID));
+
+            // then
+            assertThat(latest).isEqualTo(Map.of(USER_ID, "m2"));
+        }
+
+        @Test
+        @DisplayName("최신 표시는 만료 시간을 두어 남은 이전 요청이 영원히 건너뛰어지지 않게 한다")
+        void expiresLatestMark() {
+            // when
+            coalescer.markLatest(USER_ID, "m1");
+
+            // then
+            assertThat(redisTemplate.getExpire(LATEST_KEY)).isBetween(1L, Duration.ofHours(1).toSeconds());
+        }
+
+        @Test
+        @DisplayName("표시 이후 변경이 기록되면 최신 요청이 없는 것으로 본다")
+        void dropsLatest_whenChangesRecordedAfterMark() {
+            // given
+            coalescer.markLatest(USER_ID, "m1");
+
+            // when
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+
+            // then
+            assertThat(coalescer.findLatest(List.of(USER_ID))).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("recordChanges 메서드")
+    class RecordChangesTest {
+
+        @Test
+        @DisplayName("변경 키는 수집 주기보다 오래 유지한다")
+        void keepsChangesLongerThanCollectionInterval() {
+            // when
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+
+            // then
+            assertThat(redisTemplate.getExpire(CHANGES_KEY)).isGreaterThan(Duration.ofDays(1).toSeconds());
+        }
+
+        @Test
+        @DisplayName("표시 이후 기록된 변경은 그 요청의 완료로 지워지지 않는다")
+        void keepsChangesRecordedAfterMark() {
+            // given
+            completeEvaluation("m1");
+            coalescer.markLatest(USER_ID, "m2");
+            coalescer.recordChanges(USER_ID, Set.of("totalScore"));
+
+            // when
+            coalescer.complete(USER_ID, "m2");
+
+            // then
+            assertThat(coalescer.markLatest(USER_ID, "m3")).containsExactly("totalScore");
+        }
+    }
+
+    @Nested
+    @DisplayName("complete 메서드")
+    class CompleteTest {
+
+        @Test
+        @DisplayName("최신 요청이 아니면 누적된 변경을 지우지 않는다")
+        void keepsChanges_whenNotLatest() {
+            // given
+            completeEvaluation("m1");
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+            coalescer.markLatest(USER_ID, "m2");
+            coalescer.markLatest(USER_ID, "m3");
+
+            // when
+            coalescer.complete(USER_ID, "m2");
+
+            // then
+            assertThat(coalescer.markLatest(USER_ID, "m4")).containsExactly("totalCommits");
+        }
+    }
+
+    @Nested
+    @DisplayName("discard 메서드")
+    class DiscardTest {
+
+        @Test
+        @DisplayName("보내지 못한 요청의 표시만 철회하고 변경은 남긴다")
+        void withdrawsMarkAndKeepsChanges() {
+            // given
+            completeEvaluation("m1");
+            coalescer.recordChanges(USER_ID, Set.of("totalCommits"));
+            coalescer.markLatest(USER_ID, "m2");
+
+            // when
+            coalescer.discard(USER_ID, "m2");
+
+            // then
+            assertThat(coalescer.findLatest(List.of(USER_ID))).isEmpty();
+            assertThat(coalescer.markLatest(USER_ID, "m3")).containsExactly("totalCommits");
+        }
+
+        @Test
+        @DisplayName("그 사이 더 새로운 요청이 표시됐다면 철회하지 않는다")
+        void keepsNewerMark() {
+            // given
+            coalescer.markLatest(USER_ID, "m1");
+            coalescer.markLatest(USER_ID, "m2");
+
+            // when
+            coalescer.discard(USER_ID, "m1");
+
+            // then
+            assertThat(coalescer.findLatest(List.of(USER_ID))).isEqualTo(Map.of(USER_ID, "m2"));
+        }
+    }
+
+    private void completeEvaluation(String messageId) {
+        coalescer.markLatest(USER_ID, messageId);
+        coalescer.complete(USER_ID, messageId);
+    }
+
+    private static boolean isRedisAvailable() {
+        try {
+            return "PONG".equals(redisTemplate.execute((RedisCallback<String>) connection -> connection.ping()));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
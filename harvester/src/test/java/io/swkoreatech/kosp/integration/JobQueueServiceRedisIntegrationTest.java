@@ -0,0 +1,286 @@
+package io.swkoreatech.kosp.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.swkoreatech.kosp.common.queue.JobQueueEntry;
+import io.swkoreatech.kosp.common.queue.JobQueueService;
+import io.swkoreatech.kosp.common.queue.Priority;
+
+/**
+ * Runs the queue's Lua scripts against the Redis of the test profile (localhost:6379, database 1).
+ * Skipped when no Redis is reachable.
+ */
+@DisplayName("JobQueueService Redis 통합 테스트")
+class JobQueueServiceRedisIntegrationTest {
+
+    private static final String OWNER = "replica-a";
+    private static final String OTHER_OWNER = "replica-b";
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private JobQueueService jobQueueService;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(1);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(isRedisAvailable(), "Redis is not available on localhost:6379");
+        redisTemplate.delete(List.of("job:queue", "job:leases", "job:lease:owners", "job:lease:users"));
+        jobQueueService = new JobQueueService(redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("claim 메서드")
+    class ClaimTest {
+
+        @Test
+        @DisplayName("실행 시각이 된 항목만 limit 개수까지 빠른 순서로 가져가 임대한다")
+        void claimsDueEntriesUpToLimit() {
+            // given
+            Instant now = Instant.now();
+            jobQueueService.enqueue(1L, "run1", now.minusSeconds(30), Priority.HIGH);
+            jobQueueService.enqueue(2L, "run2", now.minusSeconds(20), Priority.HIGH);
+            jobQueueService.enqueue(3L, "run3", now.minusSeconds(10), Priority.HIGH);
+            jobQueueService.enqueue(4L, "run4", now.plusSeconds(3600), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> claimed = jobQueueService.claim(OWNER, LEASE, 2);
+
+            // then
+            assertThat(claimed).containsExactly(new JobQueueEntry(1L, "run1"), new JobQueueEntry(2L, "run2"));
+            assertThat(redisTemplate.opsForZSet().range("job:queue", 0, -1)).containsExactlyInAnyOrder("3:run3", "4:run4");
+            assertThat(redisTemplate.opsForHash().get("job:lease:owners", "1:run1")).isEqualTo(OWNER);
+        }
+
+        @Test
+        @DisplayName("두 소유자가 같은 항목을 함께 가져가지 않는다")
+        void doesNotClaimTwice() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> first = jobQueueService.claim(OWNER, LEASE, 5);
+            List<JobQueueEntry> second = jobQueueService.claim(OTHER_OWNER, LEASE, 5);
+
+            // then
+            assertThat(first).hasSize(1);
+            assertThat(second).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("renewLeases 메서드")
+    class RenewLeasesTest {
+
+        @Test
+        @DisplayName("자신이 가진 임대만 연장한다")
+        void renewsOnlyOwnLeases() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+            List<JobQueueEntry> claimed = jobQueueService.claim(OWNER, LEASE, 1);
+            Double before = redisTemplate.opsForZSet().score("job:leases", "1:run1");
+
+            // when
+            long renewedByOther = jobQueueService.renewLeases(OTHER_OWNER, claimed, Duration.ofHours(1));
+            long renewedByOwner = jobQueueService.renewLeases(OWNER, claimed, Duration.ofHours(1));
+
+            // then
+            assertThat(renewedByOther).isZero();
+            assertThat(renewedByOwner).isEqualTo(1);
+            assertThat(redisTemplate.opsForZSet().score("job:leases", "1:run1")).isGreaterThan(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("reclaimExpiredLeases 메서드")
+    class ReclaimExpiredLeasesTest {
+
+        @Test
+        @DisplayName("만료된 임대를 큐로 되돌리고 소유자를 지운다")
+        void returnsExpiredLeasesToQueue() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+            jobQueueService.enqueue(2L, "run2", Instant.now().minusSeconds(10), Priority.HIGH);
+            jobQueueService.claim(OWNER, Duration.ofSeconds(-1), 1);
+            jobQueueService.claim(OWNER, LEASE, 1);
+
+            // when
+            long reclaimed = jobQueueService.reclaimExpiredLeases(10);
+
+            // then
+            assertThat(reclaimed).isEqualTo(1);
+            assertThat(redisTemplate.opsForZSet().range("job:queue", 0, -1)).containsExactly("1:run1");
+            assertThat(redisTemplate.opsForZSet().range("job:leases", 0, -1)).containsExactly("2:run2");
+            assertThat(redisTemplate.opsForHash().hasKey("job:lease:owners", "1:run1")).isFalse();
+        }
+
+        @Test
+        @DisplayName("회수된 임대는 이전 소유자가 연장하거나 해제할 수 없다")
+        void formerOwnerCannotTouchReclaimedLease() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+            List<JobQueueEntry> claimed = jobQueueService.claim(OWNER, Duration.ofSeconds(-1), 1);
+            jobQueueService.reclaimExpiredLeases(10);
+            jobQueueService.claim(OTHER_OWNER, LEASE, 1);
+
+            // when
+            long renewed = jobQueueService.renewLeases(OWNER, claimed, LEASE);
+            boolean released = jobQueueService.release(OWNER, 1L, "run1");
+
+            // then
+            assertThat(renewed).isZero();
+            assertThat(released).isFalse();
+            assertThat(redisTemplate.opsForHash().get("job:lease:owners", "1:run1")).isEqualTo(OTHER_OWNER);
+        }
+    }
+
+    @Nested
+    @DisplayName("release 메서드")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("소유자가 일치하면 임대를 지운다")
+        void releasesOwnLease() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+            jobQueueService.claim(OWNER, LEASE, 1);
+
+            // when
+            boolean released = jobQueueService.release(OWNER, 1L, "run1");
+
+            // then
+            assertThat(released).isTrue();
+            assertThat(redisTemplate.opsForZSet().size("job:leases")).isZero();
+            assertThat(redisTemplate.opsForHash().size("job:lease:owners")).isZero();
+            assertThat(redisTemplate.opsForHash().size("job:lease:users")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자별 임대")
+    class UserLeaseTest {
+
+        @Test
+        @DisplayName("다른 실행이 임대 중인 사용자의 실행은 가져가지 않고 뒤로 미룬다")
+        void defersRunOfUserLeasedByOtherRun() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(20), Priority.HIGH);
+            jobQueueService.claim(OTHER_OWNER, LEASE, 1);
+            jobQueueService.enqueue(1L, "run2", Instant.now().minusSeconds(10), Priority.HIGH);
+            jobQueueService.enqueue(2L, "run3", Instant.now().minusSeconds(10), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> claimed = jobQueueService.claim(OWNER, LEASE, 5);
+
+            // then
+            assertThat(claimed).containsExactly(new JobQueueEntry(2L, "run3"));
+            assertThat(redisTemplate.opsForZSet().score("job:queue", "1:run2"))
+                .isGreaterThan((double) Instant.now().getEpochSecond());
+        }
+
+        @Test
+        @DisplayName("한 번에 가져오는 항목에 같은 사용자의 실행이 둘이면 하나만 가져간다")
+        void claimsOneRunPerUserWithinBatch() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(20), Priority.HIGH);
+            jobQueueService.enqueue(1L, "run2", Instant.now().minusSeconds(10), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> first = jobQueueService.claim(OWNER, LEASE, 5);
+            List<JobQueueEntry> second = jobQueueService.claim(OTHER_OWNER, LEASE, 5);
+
+            // then
+            assertThat(first).containsExactly(new JobQueueEntry(1L, "run1"));
+            assertThat(second).isEmpty();
+            assertThat(redisTemplate.opsForHash().get("job:lease:users", "1")).isEqualTo("1:run1");
+        }
+
+        @Test
+        @DisplayName("미뤄진 항목 뒤의 실행 가능한 항목으로 limit을 채운다")
+        void fillsLimitPastDeferredEntries() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(30), Priority.HIGH);
+            jobQueueService.claim(OTHER_OWNER, LEASE, 1);
+            jobQueueService.enqueue(1L, "run2", Instant.now().minusSeconds(20), Priority.HIGH);
+            jobQueueService.enqueue(2L, "run3", Instant.now().minusSeconds(10), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> claimed = jobQueueService.claim(OWNER, LEASE, 1);
+
+            // then
+            assertThat(claimed).containsExactly(new JobQueueEntry(2L, "run3"));
+        }
+
+        @Test
+        @DisplayName("임대를 해제하면 같은 사용자의 다음 실행을 가져갈 수 있다")
+        void allowsNextRunAfterRelease() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+            jobQueueService.claim(OWNER, LEASE, 1);
+            jobQueueService.release(OWNER, 1L, "run1");
+            jobQueueService.enqueue(1L, "run2", Instant.now().minusSeconds(10), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> claimed = jobQueueService.claim(OTHER_OWNER, LEASE, 1);
+
+            // then
+            assertThat(claimed).containsExactly(new JobQueueEntry(1L, "run2"));
+        }
+
+        @Test
+        @DisplayName("회수된 임대는 같은 사용자의 다른 실행을 막지 않는다")
+        void reclaimedLeaseDoesNotBlockOtherRun() {
+            // given
+            jobQueueService.enqueue(1L, "run1", Instant.now().minusSeconds(10), Priority.HIGH);
+            jobQueueService.claim(OTHER_OWNER, Duration.ofSeconds(-1), 1);
+            jobQueueService.reclaimExpiredLeases(10);
+            redisTemplate.delete("job:queue");
+            jobQueueService.enqueue(1L, "run2", Instant.now().minusSeconds(10), Priority.HIGH);
+
+            // when
+            List<JobQueueEntry> claimed = jobQueueService.claim(OWNER, LEASE, 1);
+
+            // then
+            assertThat(claimed).containsExactly(new JobQueueEntry(1L, "run2"));
+            assertThat(redisTemplate.opsForHash().get("job:lease:users", "1")).isEqualTo("1:run2");
+        }
+    }
+
+    private static boolean isRedisAvailable() {
+        try {
+            return "PONG".equals(redisTemplate.execute((RedisCallback<String>) connection -> connection.ping()));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -2,7 +2,7 @@ package io.swkoreatech.kosp.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,25 +10,32 @@ import static org.mockito.Mockito.when;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.swkoreatech.kosp.client.RateLimitGovernor;
 import io.swkoreatech.kosp.client.RateLimitManager;
+import io.swkoreatech.kosp.client.RateLimitState;
 import io.swkoreatech.kosp.common.github.model.GithubUser;
+import io.swkoreatech.kosp.common.queue.JobQueueRequest;
 import io.swkoreatech.kosp.common.queue.JobQueueService;
 import io.swkoreatech.kosp.common.queue.Priority;
 import io.swkoreatech.kosp.domain.user.model.User;
 import io.swkoreatech.kosp.domain.user.repository.UserRepository;
 import io.swkoreatech.kosp.trigger.JobSchedulerInitializer;
+import io.swkoreatech.kosp.trigger.SchedulingTarget;
 import io.swkoreatech.kosp.trigger.UserIdProvider;
 import io.swkoreatech.kosp.user.GithubUserRepository;
 
@@ -42,6 +49,9 @@ class RateLimitPersistenceIntegrationTest {
     @Mock
     private GithubUserRepository githubUserRepository;
 
+    @Mock
+    private RateLimitGovernor rateLimitGovernor;
+
     @Mock
     private JobQueueService jobQueueService;
 
@@ -63,19 +73,21 @@ class RateLimitPersistenceIntegrationTest {
     class RateLimitPersistenceTest {
 
         @Test
-        @DisplayName("GitHub API 응답 후 resetTime이 DB에 저장되어야 함")
+        @DisplayName("Job 종료 시 governor의 resetTime이 DB에 저장되어야 함")
         void shouldPersistResetTimeToDatabase() {
             User user = createUserWithGithubAccount(1001L);
-            long resetTimeMillis = Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli();
-            
+            Instant resetTime = Instant.now().plus(1, ChronoUnit.HOURS);
+
             when(userRepository.getById(user.getId())).thenReturn(user);
+            when(rateLimitGovernor.mostConstrained("dummy_token_1001"))
+                .thenReturn(Optional.of(new RateLimitState(5000, resetTime)));
 
-            rateLimitManager.updateRateLimitFromHeaders(user.getId(), resetTimeMillis, 5000);
+            rateLimitManager.persist(user.getId(), "dummy_token_1001");
 
             GithubUser githubUser = user.getGithubUser();
-            assertThat(githubUser.getRateLimitResetAt()).isNotNull();
-            assertThat(githubUser.getRateLimitResetAt().toEpochMilli()).isEqualTo(resetTimeMillis);
+            assertThat(githubUser.getRateLimitResetAt()).isEqualTo(resetTime);
             verify(githubUserRepository, times(1)).save(githubUser);
+            verify(rateLimitGovernor).forget("dummy_token_1001");
         }
 
         @Test
@@ -114,33 +126,34 @@ class RateLimitPersistenceIntegrationTest {
     class JobSchedulerInitializerTest {
 
         @Test
-        @DisplayName("서버 시작 시 모든 사용자가 큐에 추가되어야 함")
+        @DisplayName("서버 시작 시 모든 사용자가 한 번에 큐에 추가되어야 함")
         void shouldEnqueueAllUsersOnStartup() {
-            User user1 = createUserWithGithubAccount(2001L);
-            User user2 = createUserWithGithubAccount(2002L);
-            
-            when(userIdProvider.findActiveUserIds()).thenReturn(List.of(user1.getId(), user2.getId()));
-            when(userRepository.findById(user1.getId())).thenReturn(Optional.of(user1));
-            when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
+            when(userIdProvider.findSchedulingTargets()).thenReturn(List.of(
+                new SchedulingTarget(2001L, null),
+                new SchedulingTarget(2002L, null)
+            ));
 
             jobSchedulerInitializer.initializeScheduler();
 
-            verify(jobQueueService, times(2)).enqueue(any(Long.class), any(String.class), any(Instant.class), any(Priority.class));
+            assertThat(captureEnqueuedRequests())
+                .extracting(JobQueueRequest::userId)
+                .containsExactly(2001L, 2002L);
         }
 
         @Test
-        @DisplayName("GitHub 계정 없는 사용자는 큐에 추가되지 않아야 함")
-        void shouldSkipUsersWithoutGithubAccount() {
-            User userWithoutGithub = createUserWithoutGithub(9999L);
-            User userWithGithub = createUserWithGithubAccount(2003L);
-            
-            when(userIdProvider.findActiveUserIds()).thenReturn(List.of(userWithoutGithub.getId(), userWithGithub.getId()));
-            when(userRepository.findById(userWithoutGithub.getId())).thenReturn(Optional.of(userWithoutGithub));
-            when(userRepository.findById(userWithGithub.getId())).thenReturn(Optional.of(userWithGithub));
+        @DisplayName("이미 큐에 있거나 실행 중인 사용자는 다시 추가되지 않아야 함")
+        void shouldSkipUsersAlreadyQueued() {
+            when(userIdProvider.findSchedulingTargets()).thenReturn(List.of(
+                new SchedulingTarget(9999L, null),
+                new SchedulingTarget(2003L, null)
+            ));
+            when(jobQueueService.findQueuedUserIds()).thenReturn(Set.of(9999L));
 
             jobSchedulerInitializer.initializeScheduler();
 
-            verify(jobQueueService, times(1)).enqueue(any(Long.class), any(String.class), any(Instant.class), any(Priority.class));
+            assertThat(captureEnqueuedRequests())
+                .extracting(JobQueueRequest::userId)
+                .containsExactly(2003L);
         }
     }
 
@@ -151,14 +164,16 @@ class RateLimitPersistenceIntegrationTest {
         @Test
         @DisplayName("resetTime이 NULL인 사용자는 즉시 실행 큐에 추가 (HIGH priority)")
         void shouldEnqueueImmediatelyWhenResetTimeIsNull() {
-            User user = createUserWithGithubAccount(3001L);
-            
-            when(userIdProvider.findActiveUserIds()).thenReturn(List.of(user.getId()));
-            when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+            when(userIdProvider.findSchedulingTargets()).thenReturn(List.of(new SchedulingTarget(3001L, null)));
 
             jobSchedulerInitializer.initializeScheduler();
 
-            verify(jobQueueService).enqueue(eq(user.getId()), any(String.class), any(Instant.class), eq(Priority.HIGH));
+            assertThat(captureEnqueuedRequests())
+                .singleElement()
+                .satisfies(request -> {
+                    assertThat(request.userId()).isEqualTo(3001L);
+                    assertThat(request.priority()).isEqualTo(Priority.HIGH);
+                });
         }
 
         @Test
@@ -180,18 +195,19 @@ class RateLimitPersistenceIntegrationTest {
         @Test
         @DisplayName("resetTime이 미래인 사용자는 스케줄 큐에 추가 (LOW priority)")
         void shouldScheduleWhenResetTimeIsFuture() {
-            User user = createUserWithGithubAccount(4001L);
             Instant futureResetTime = Instant.now().plus(1, ChronoUnit.HOURS);
 
-            GithubUser githubUser = user.getGithubUser();
-            githubUser.updateRateLimit(futureResetTime, null);
-
-            when(userIdProvider.findActiveUserIds()).thenReturn(List.of(user.getId()));
-            when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+            when(userIdProvider.findSchedulingTargets()).thenReturn(List.of(new SchedulingTarget(4001L, futureResetTime)));
 
             jobSchedulerInitializer.initializeScheduler();
 
-            verify(jobQueueService).enqueue(eq(user.getId()), any(String.class), any(Instant.class), eq(Priority.LOW));
+            assertThat(captureEnqueuedRequests())
+                .singleElement()
+                .satisfies(request -> {
+                    assertThat(request.userId()).isEqualTo(4001L);
+                    assertThat(request.priority()).isEqualTo(Priority.LOW);
+                    assertThat(request.scheduledAt()).isEqualTo(futureResetTime.plus(5, ChronoUnit.MINUTES));
+                });
         }
 
         @Test
@@ -211,18 +227,18 @@ class RateLimitPersistenceIntegrationTest {
         @Test
         @DisplayName("resetTime이 과거인 사용자는 즉시 실행 큐에 추가 (HIGH priority)")
         void shouldEnqueueImmediatelyWhenResetTimeIsPast() {
-            User user = createUserWithGithubAccount(4003L);
             Instant pastResetTime = Instant.now().minus(10, ChronoUnit.MINUTES);
 
-            GithubUser githubUser = user.getGithubUser();
-            githubUser.updateRateLimit(pastResetTime, null);
-
-            when(userIdProvider.findActiveUserIds()).thenReturn(List.of(user.getId()));
-            when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+            when(userIdProvider.findSchedulingTargets()).thenReturn(List.of(new SchedulingTarget(4003L, pastResetTime)));
 
             jobSchedulerInitializer.initializeScheduler();
 
-            verify(jobQueueService).enqueue(eq(user.getId()), any(String.class), any(Instant.class), eq(Priority.HIGH));
+            assertThat(captureEnqueuedRequests())
+                .singleElement()
+                .satisfies(request -> {
+                    assertThat(request.userId()).isEqualTo(4003L);
+                    assertThat(request.priority()).isEqualTo(Priority.HIGH);
+                });
         }
     }
 
@@ -244,16 +260,16 @@ class RateLimitPersistenceIntegrationTest {
         }
 
         @Test
-        @DisplayName("waitIfNeeded()는 NULL resetTime일 때 에러 없이 실행되어야 함")
-        void shouldNotThrowWhenWaitIfNeededWithNullResetTime() {
+        @DisplayName("governor가 모르는 토큰이면 DB를 건드리지 않아야 함")
+        void shouldNotPersistWhenGovernorHasNoState() {
             User user = createUserWithGithubAccount(5002L);
-            
-            when(userRepository.getById(user.getId())).thenReturn(user);
 
-            rateLimitManager.waitIfNeeded(user.getId(), 5000).block();
+            when(rateLimitGovernor.mostConstrained("dummy_token_5002")).thenReturn(Optional.empty());
 
-            GithubUser githubUser = user.getGithubUser();
-            assertThat(githubUser.getRateLimitResetAt()).isNull();
+            rateLimitManager.persist(user.getId(), "dummy_token_5002");
+
+            assertThat(user.getGithubUser().getRateLimitResetAt()).isNull();
+            verify(githubUserRepository, never()).save(any());
         }
 
         @Test
@@ -261,11 +277,13 @@ class RateLimitPersistenceIntegrationTest {
         void shouldNotOverwriteUserDataOnRateLimitUpdate() {
             User user = createUserWithGithubAccount(5003L);
             String originalLogin = user.getGithubUser().getGithubLogin();
-            long resetTimeMillis = Instant.now().plus(1, ChronoUnit.HOURS).toEpochMilli();
+            Instant resetTime = Instant.now().plus(1, ChronoUnit.HOURS);
 
             when(userRepository.getById(user.getId())).thenReturn(user);
+            when(rateLimitGovernor.mostConstrained("dummy_token_5003"))
+                .thenReturn(Optional.of(new RateLimitState(5000, resetTime)));
 
-            rateLimitManager.updateRateLimitFromHeaders(user.getId(), resetTimeMillis, 5000);
+            rateLimitManager.persist(user.getId(), "dummy_token_5003");
 
             GithubUser githubUser = user.getGithubUser();
             assertThat(githubUser.getGithubLogin()).isEqualTo(originalLogin);
@@ -273,6 +291,13 @@ class RateLimitPersistenceIntegrationTest {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private List<JobQueueRequest> captureEnqueuedRequests() {
+        ArgumentCaptor<Collection<JobQueueRequest>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jobQueueService).enqueueAll(captor.capture());
+        return List.copyOf(captor.getValue());
+    }
+
     private User createUserWithGithubAccount(Long githubId) {
         GithubUser githubUser = GithubUser.builder()
             .githubId(githubId)
@@ -293,14 +318,4 @@ class RateLimitPersistenceIntegrationTest {
             .build();
         return user;
     }
-
-    private User createUserWithoutGithub(Long userId) {
-        return User.builder()
-            .id(userId)
-            .name("User " + userId)
-            .kutId(String.valueOf(userId))
-            .kutEmail("user" + userId + "@koreatech.ac.kr")
-            .password("tempPassword123!")
-            .build();
-    }
 }
@@ -0,0 +1,160 @@
+package io.swkoreatech.kosp.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("PriorityJobLauncher 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class PriorityJobLauncherTest {
+
+    @Mock
+    private JobLauncher jobLauncher;
+
+    @Mock
+    private Job githubCollectionJob;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PriorityJobLauncher launcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (launcher != null) {
+            launcher.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("run 메서드")
+    class RunTest {
+
+        @Test
+        @DisplayName("작업자가 모두 바쁘면 다른 사용자의 작업을 거절하고 활성 사용자로 남기지 않는다")
+        void rejects_whenSaturated() throws Exception {
+            // given
+            launcher = newLauncher(1, 0);
+            blockJobs();
+            launcher.run(1L, "run-1");
+
+            // when
+            boolean accepted = launcher.run(2L, "run-2");
+
+            // then
+            assertThat(accepted).isFalse();
+            assertThat(launcher.isActive(1L)).isTrue();
+            assertThat(launcher.isActive(2L)).isFalse();
+            assertThat(launcher.availableSlots()).isZero();
+            assertThat(meterRegistry.get("harvester.launcher.saturation").gauge().value()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("이미 받아들인 사용자의 작업은 다시 받지 않는다")
+        void rejects_whenUserAlreadyAccepted() throws Exception {
+            // given
+            launcher = newLauncher(2, 0);
+            blockJobs();
+            launcher.run(1L, "run-1");
+
+            // when
+            boolean accepted = launcher.run(1L, "run-2");
+
+            // then
+            assertThat(accepted).isFalse();
+            assertThat(launcher.availableSlots()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("작업이 끝나면 활성 사용자에서 빠지고 자리가 돌아온다")
+        void releasesUser_whenJobFinishes() throws Exception {
+            // given
+            launcher = newLauncher(1, 0);
+            JobExecution execution = new JobExecution(1L);
+            execution.setStatus(BatchStatus.COMPLETED);
+            when(jobLauncher.run(eq(githubCollectionJob), any())).thenReturn(execution);
+
+            // when
+            boolean accepted = launcher.run(1L, "run-1");
+            launcher.shutdown();
+
+            // then
+            assertThat(accepted).isTrue();
+            assertThat(launcher.isActive(1L)).isFalse();
+            assertThat(launcher.availableSlots()).isEqualTo(1);
+            assertThat(meterRegistry.get("harvester.job.duration").tag("status", "COMPLETED").timer().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("작업이 실패해도 활성 사용자에서 빠진다")
+        void releasesUser_whenJobFails() throws Exception {
+            // given
+            launcher = newLauncher(1, 0);
+            when(jobLauncher.run(eq(githubCollectionJob), any())).thenThrow(new IllegalStateException("launch failed"));
+
+            // when
+            boolean accepted = launcher.run(1L, "run-1");
+            launcher.shutdown();
+
+            // then
+            assertThat(accepted).isTrue();
+            assertThat(launcher.isActive(1L)).isFalse();
+            assertThat(meterRegistry.get("harvester.job.duration").tag("status", "FAILED").timer().count())
+                .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("availableSlots 메서드")
+    class AvailableSlotsTest {
+
+        @Test
+        @DisplayName("작업자 수와 대기열 크기를 더한 뒤 받아들인 작업 수를 뺀다")
+        void countsWorkersAndQueueCapacity() throws Exception {
+            // given
+            launcher = newLauncher(1, 2);
+            blockJobs();
+
+            // when
+            launcher.run(1L, "run-1");
+            launcher.run(2L, "run-2");
+
+            // then
+            assertThat(launcher.availableSlots()).isEqualTo(1);
+        }
+    }
+
+    private PriorityJobLauncher newLauncher(int poolSize, int queueCapacity) {
+        return new PriorityJobLauncher(
+            jobLauncher, githubCollectionJob, new LauncherProperties(poolSize, queueCapacity), meterRegistry);
+    }
+
+    private void blockJobs() throws Exception {
+        when(jobLauncher.run(eq(githubCollectionJob), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            JobExecution execution = new JobExecution(1L);
+            execution.setStatus(BatchStatus.COMPLETED);
+            return execution;
+        });
+    }
+}
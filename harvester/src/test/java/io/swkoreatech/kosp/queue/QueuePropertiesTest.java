@@ -0,0 +1,46 @@
+package io.swkoreatech.kosp.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueueProperties 단위 테스트")
+class QueuePropertiesTest {
+
+    @Test
+    @DisplayName("값이 없으면 기본값을 사용한다")
+    void appliesDefaults() {
+        // when
+        QueueProperties properties = new QueueProperties(null, null, null, null, null, null, null);
+
+        // then
+        assertThat(properties.pollInterval()).isEqualTo(Duration.ofMillis(200));
+        assertThat(properties.leaseDuration()).isEqualTo(Duration.ofMinutes(2));
+        assertThat(properties.heartbeatInterval()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(properties.reclaimInterval()).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("임대 기간이 짧으면 기본 하트비트 주기를 임대 기간의 1/3로 줄인다")
+    void shortensDefaultHeartbeat_forShortLease() {
+        // when
+        QueueProperties properties = new QueueProperties(null, null, null, Duration.ofSeconds(30), null, null, null);
+
+        // then
+        assertThat(properties.heartbeatInterval()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("하트비트 주기가 임대 기간 이상이면 거부한다")
+    void rejectsHeartbeatNotBelowLease() {
+        // when & then
+        assertThatThrownBy(() -> new QueueProperties(
+            null, null, null, Duration.ofMinutes(1), Duration.ofMinutes(1), null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("heartbeat-interval");
+    }
+}
@@ -0,0 +1,197 @@
+package io.swkoreatech.kosp.queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.scheduling.config.IntervalTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import io.swkoreatech.kosp.common.queue.JobQueueEntry;
+import io.swkoreatech.kosp.common.queue.JobQueueService;
+import io.swkoreatech.kosp.common.queue.Priority;
+import io.swkoreatech.kosp.domain.user.model.User;
+import io.swkoreatech.kosp.domain.user.repository.UserRepository;
+import io.swkoreatech.kosp.launcher.PriorityJobLauncher;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisJobQueueListener 단위 테스트")
+class RedisJobQueueListenerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @Mock
+    private JobQueueService jobQueueService;
+
+    @Mock
+    private PriorityJobLauncher jobLauncher;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final LeaseOwner leaseOwner = new LeaseOwner();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(userRepository.findById(anyLong())).thenReturn(Optional.of(mock(User.class)));
+    }
+
+    @Nested
+    @DisplayName("poll 메서드")
+    class PollTest {
+
+        @Test
+        @DisplayName("비어 있는 슬롯 수만큼 한 번에 가져와 모두 실행한다")
+        void claimsBatchForFreeSlots() {
+            // given
+            RedisJobQueueListener listener = listener(Duration.ofHours(1));
+            AtomicInteger slots = new AtomicInteger(3);
+            when(jobLauncher.availableSlots()).thenAnswer(invocation -> slots.get());
+            when(jobLauncher.run(anyLong(), anyString())).thenAnswer(invocation -> slots.decrementAndGet() >= 0);
+            when(jobQueueService.claim(leaseOwner.id(), LEASE, 3)).thenReturn(List.of(
+                new JobQueueEntry(1L, "run1"),
+                new JobQueueEntry(2L, "run2"),
+                new JobQueueEntry(3L, "run3")
+            ));
+
+            // when
+            listener.poll();
+
+            // then
+            verify(jobQueueService, times(1)).claim(eq(leaseOwner.id()), eq(LEASE), anyInt());
+            verify(jobLauncher).run(1L, "run1");
+            verify(jobLauncher).run(2L, "run2");
+            verify(jobLauncher).run(3L, "run3");
+        }
+
+        @Test
+        @DisplayName("가져올 항목이 없으면 대기 시간이 지나기 전까지 다시 조회하지 않는다")
+        void backsOffWhileIdle() {
+            // given
+            RedisJobQueueListener listener = listener(Duration.ofHours(1));
+            when(jobLauncher.availableSlots()).thenReturn(2);
+            when(jobQueueService.claim(leaseOwner.id(), LEASE, 2)).thenReturn(List.of());
+
+            // when
+            listener.poll();
+            listener.poll();
+
+            // then
+            verify(jobQueueService, times(1)).claim(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("대기 후 항목을 가져오면 대기 시간을 초기화하고 바로 다시 조회한다")
+        void resetsBackoffAfterClaim() throws InterruptedException {
+            // given
+            RedisJobQueueListener listener = listener(Duration.ofMillis(20));
+            AtomicInteger slots = new AtomicInteger(2);
+            when(jobLauncher.availableSlots()).thenAnswer(invocation -> slots.get());
+            when(jobLauncher.run(anyLong(), anyString())).thenAnswer(invocation -> slots.decrementAndGet() >= 0);
+            when(jobQueueService.claim(eq(leaseOwner.id()), eq(LEASE), anyInt()))
+                .thenReturn(List.of(), List.of(new JobQueueEntry(1L, "run1")), List.of());
+            listener.poll();
+            Thread.sleep(100);
+
+            // when
+            listener.poll();
+            listener.poll();
+
+            // then
+            verify(jobLauncher).run(1L, "run1");
+            verify(jobQueueService, times(4)).claim(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("onApplicationEvent 메서드")
+    class ShutdownTest {
+
+        @Test
+        @DisplayName("종료 시 실행하지 못한 선반입 항목을 큐로 돌려주고 임대를 해제한다")
+        void returnsPrefetchedEntriesOnShutdown() {
+            // given
+            RedisJobQueueListener listener = listener(Duration.ofHours(1));
+            when(jobLauncher.availableSlots()).thenReturn(2);
+            when(jobLauncher.run(anyLong(), anyString())).thenReturn(false);
+            when(jobQueueService.claim(eq(leaseOwner.id()), eq(LEASE), anyInt()))
+                .thenReturn(List.of(new JobQueueEntry(1L, "run1"), new JobQueueEntry(2L, "run2")), List.of());
+            listener.poll();
+
+            // when
+            listener.onApplicationEvent(new ContextClosedEvent(mock(ApplicationContext.class)));
+
+            // then
+            verify(jobQueueService).enqueue(eq(1L), eq("run1"), any(), eq(Priority.HIGH));
+            verify(jobQueueService).enqueue(eq(2L), eq("run2"), any(), eq(Priority.HIGH));
+            verify(jobQueueService).release(leaseOwner.id(), 1L, "run1");
+            verify(jobQueueService).release(leaseOwner.id(), 2L, "run2");
+        }
+
+        @Test
+        @DisplayName("종료 후에는 큐를 조회하지 않는다")
+        void stopsPollingAfterShutdown() {
+            // given
+            RedisJobQueueListener listener = listener(Duration.ofHours(1));
+            listener.onApplicationEvent(new ContextClosedEvent(mock(ApplicationContext.class)));
+
+            // when
+            listener.poll();
+
+            // then
+            verify(jobQueueService, never()).claim(any(), any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("configureTasks 메서드")
+    class ConfigureTasksTest {
+
+        @Test
+        @DisplayName("설정된 주기로 조회, 하트비트, 회수 작업을 등록한다")
+        void schedulesTasksFromProperties() {
+            // given
+            QueueProperties properties = new QueueProperties(
+                Duration.ofMillis(300), null, 20, LEASE, Duration.ofSeconds(20), Duration.ofSeconds(45), null);
+            RedisJobQueueListener listener =
+                new RedisJobQueueListener(jobQueueService, jobLauncher, userRepository, properties, leaseOwner);
+            ScheduledTaskRegistrar registrar = new ScheduledTaskRegistrar();
+
+            // when
+            listener.configureTasks(registrar);
+
+            // then
+            assertThat(registrar.getFixedDelayTaskList())
+                .extracting(IntervalTask::getIntervalDuration)
+                .containsExactly(Duration.ofMillis(300), Duration.ofSeconds(20), Duration.ofSeconds(45));
+        }
+    }
+
+    private RedisJobQueueListener listener(Duration pollInterval) {
+        QueueProperties properties = new QueueProperties(pollInterval, pollInterval, 20, LEASE, null, null, null);
+        return new RedisJobQueueListener(jobQueueService, jobLauncher, userRepository, properties, leaseOwner);
+    }
+}